@@ -85,9 +85,9 @@ public class Embedder {
         processSystemProperties();
 
         StoryManager storyManager = storyManager();
-        for (String storyPath : storyPaths) {
-            Story story = storyManager.storyOfPath(storyPath);
-            embedderMonitor.mappingStory(storyPath, metaFilters());
+        BatchFailures failures = new BatchFailures(embedderControls.verboseFailures());
+        for (Story story : storyManager.storiesOfPaths(storyPaths, failures)) {
+            embedderMonitor.mappingStory(story.getPath(), metaFilters());
             storyMapper.map(story, new MetaFilter("", embedderMonitor));
             for (String filter : metaFilters) {
                 storyMapper.map(story, new MetaFilter(filter, embedderMonitor));
@@ -96,6 +96,8 @@ public class Embedder {
 
         generateMapsView(storyMapper.getStoryMaps());
 
+        handleFailures(failures);
+
     }
 
     private void generateMapsView(StoryMaps storyMaps) {
@@ -18,6 +18,8 @@ public class EmbedderControls {
     private String storyTimeouts = "300";
     private int threads = 1;
 	private boolean failOnStoryTimeout = false;
+    private boolean pipelineStories = false;
+    private int parsingThreads = 0;
 
     public EmbedderControls() {
     }
@@ -80,6 +82,23 @@ public class EmbedderControls {
        return threads;
     }
 
+    /**
+     * Returns the number of threads used to load and parse the stories, which
+     * defaults to the number of {@link #threads()} if not set.
+     */
+    public int parsingThreads() {
+        return parsingThreads > 0 ? parsingThreads : threads();
+    }
+
+    /**
+     * Returns whether each story is planned just before it is performed, and
+     * released once it is reported, rather than all the stories being planned
+     * before any is performed.
+     */
+    public boolean pipelineStories() {
+        return pipelineStories;
+    }
+
     public EmbedderControls doBatch(boolean batch) {
         this.batch = batch;
         return this;
@@ -145,6 +164,16 @@ public class EmbedderControls {
         this.threads = threads;
         return this;
     }
+
+    public EmbedderControls useParsingThreads(int parsingThreads) {
+        this.parsingThreads = parsingThreads;
+        return this;
+    }
+
+    public EmbedderControls doPipelineStories(boolean pipelineStories) {
+        this.pipelineStories = pipelineStories;
+        return this;
+    }
     
     @Override
     public String toString() {
@@ -1,10 +1,28 @@
 package org.jbehave.core.embedder;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -23,6 +41,7 @@ import org.jbehave.core.failures.RestartingScenarioFailure;
 import org.jbehave.core.failures.RestartingStoryFailure;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTable.RowIterator;
 import org.jbehave.core.model.GivenStories;
 import org.jbehave.core.model.GivenStory;
 import org.jbehave.core.model.Lifecycle;
@@ -32,9 +51,12 @@ import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.reporters.ConcurrentStoryReporter;
 import org.jbehave.core.reporters.DelegatingStoryReporter;
+import org.jbehave.core.reporters.NullStoryReporter;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.*;
 import org.jbehave.core.steps.context.StepsContext;
+import org.jbehave.core.steps.context.StepsContext.Snapshot;
+import org.jbehave.core.steps.MatchingStepCollector.MatchedSteps;
 import org.jbehave.core.steps.StepCollector.Stage;
 import org.jbehave.core.steps.StepCreator.ParametrisedStep;
 import org.jbehave.core.steps.StepCreator.PendingStep;
@@ -53,14 +75,22 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
  * {@link #perform(RunContext, Story)} methods are executed.</li>
  * </ol>
  * The tree is created per {@link RunContext} for the set of stories being run
- * but the individual stories can be performed concurrently.
+ * but the individual stories can be performed concurrently. The stories can
+ * also be added and removed one at a time via the
+ * {@link #addStory(RunContext, Story)} and {@link #removeStory(Story)} methods,
+ * so that each story is only held in the tree while it is being performed.
  */
 public class PerformableTree {
 
     private static final Map<String, String> NO_PARAMETERS = new HashMap<>();
+    private static final String PARALLEL_EXAMPLES = "parallelExamples";
+    private static final String PARALLEL_SCENARIOS = "parallelScenarios";
 
     private PerformableRoot root = new PerformableRoot();
 
+    private CandidateStepsRegistry candidateSteps;
+    private Configuration candidateStepsConfiguration;
+
     public PerformableRoot getRoot() {
         return root;
     }
@@ -68,11 +98,19 @@ public class PerformableTree {
     public void addStories(RunContext context, List<Story> stories) {
         root.addBeforeSteps(context.beforeOrAfterStoriesSteps(Stage.BEFORE));
         for (Story story : stories) {
-            root.add(performableStory(context, story, NO_PARAMETERS));
+            addStory(context, story);
         }
         root.addAfterSteps(context.beforeOrAfterStoriesSteps(Stage.AFTER));
     }
 
+    public void addStory(RunContext context, Story story) {
+        root.add(performableStory(context, story, NO_PARAMETERS));
+    }
+
+    public void removeStory(Story story) {
+        root.remove(story);
+    }
+
     private PerformableStory performableStory(RunContext context, Story story, Map<String, String> storyParameters) {
         PerformableStory performableStory = new PerformableStory(story, context.configuration().keywords(),
                 context.givenStory());
@@ -143,8 +181,10 @@ public class PerformableTree {
             Lifecycle lifecycle = story.getLifecycle();
 
             Meta storyAndScenarioMeta = scenario.getMeta().inheritFrom(storyMeta);
+            // steps are matched once, for the normal and any example scenario
+            MatchedScenarioSteps scenarioSteps = context.matchedScenarioSteps(scenario);
 			NormalPerformableScenario normalScenario = normalScenario(
-					context, lifecycle, scenario, storyAndScenarioMeta,
+					context, lifecycle, scenario, scenarioSteps, storyAndScenarioMeta,
 					storyParameters);
 
             // run before scenario steps, if allowed
@@ -155,21 +195,26 @@ public class PerformableTree {
             
 			if (isParameterisedByExamples(scenario)) {
                 ExamplesTable table = scenario.getExamplesTable();
-                for (Map<String, String> scenarioParameters : table.getRows()) {
-                    Meta exampleScenarioMeta = parameterMeta(context, scenarioParameters).inheritFrom(storyAndScenarioMeta);
-                    boolean exampleScenarioAllowed = context.filter().allow(exampleScenarioMeta);
-
-                    if (exampleScenarioAllowed) {
-                        ExamplePerformableScenario exampleScenario = exampleScenario(
-                                context, lifecycle, scenario, storyAndScenarioMeta,
-                                scenarioParameters);
-                        performableScenario.addExampleScenario(exampleScenario);
+                if (table.isStreamed()) {
+                    // the example scenarios are created from the rows as they are read, when performed
+                    performableScenario.useStreamedExampleScenarios(new StreamedExampleScenarios(context,
+                            lifecycle, scenario, scenarioSteps, storyAndScenarioMeta));
+                } else {
+                    for (Map<String, String> row : table.getRows()) {
+                        ExamplePerformableScenario exampleScenario = allowedExampleScenario(context, lifecycle,
+                                scenario, scenarioSteps, storyAndScenarioMeta, row);
+                        if (exampleScenario != null) {
+                            performableScenario.addExampleScenario(exampleScenario);
+                        }
                     }
                 }
             } else { // plain old scenario
 				performableScenario.useNormalScenario(normalScenario);
             }
 
+            performableScenario.useExamplesThreads(examplesThreads(context, storyAndScenarioMeta));
+            performableScenario.parallel(parallelScenarios(context, storyAndScenarioMeta));
+
             // after scenario steps, if allowed
             if (runBeforeAndAfterScenarioSteps) {
             	normalScenario.addAfterSteps(context.beforeOrAfterScenarioSteps(storyAndScenarioMeta, Stage.AFTER,
@@ -181,23 +226,36 @@ public class PerformableTree {
     }
 
 	private NormalPerformableScenario normalScenario(RunContext context,
-			Lifecycle lifecycle, Scenario scenario, Meta storyAndScenarioMeta,
+			Lifecycle lifecycle, Scenario scenario, MatchedScenarioSteps scenarioSteps, Meta storyAndScenarioMeta,
 			Map<String, String> storyParameters) {
 		NormalPerformableScenario normalScenario = new NormalPerformableScenario(scenario);
 		normalScenario.setStoryAndScenarioMeta(storyAndScenarioMeta);
 		addStepsWithLifecycle(normalScenario, context, lifecycle, storyParameters,
-				scenario, storyAndScenarioMeta);
+				scenario, scenarioSteps, storyAndScenarioMeta);
 		return normalScenario;
 	}
 
+    private ExamplePerformableScenario allowedExampleScenario(RunContext context, Lifecycle lifecycle,
+            Scenario scenario, MatchedScenarioSteps scenarioSteps, Meta storyAndScenarioMeta, Map<String, String> row) {
+        // the example scenario keeps its own parameters rather than a view of the table row
+        Map<String, String> scenarioParameters = new LinkedHashMap<>(row);
+        Meta exampleScenarioMeta = parameterMeta(context, scenarioParameters).inheritFrom(storyAndScenarioMeta);
+        if (!context.filter().allow(exampleScenarioMeta)) {
+            return null;
+        }
+        return exampleScenario(context, lifecycle, scenario, scenarioSteps, storyAndScenarioMeta,
+                scenarioParameters);
+    }
+
 	private ExamplePerformableScenario exampleScenario(RunContext context,
-			Lifecycle lifecycle, Scenario scenario, Meta storyAndScenarioMeta,
+			Lifecycle lifecycle, Scenario scenario, MatchedScenarioSteps scenarioSteps, Meta storyAndScenarioMeta,
 			Map<String, String> parameters) {
 	    ExamplePerformableScenario exampleScenario = new ExamplePerformableScenario(scenario, parameters);
 	    exampleScenario.setStoryAndScenarioMeta(storyAndScenarioMeta);
         exampleScenario.addBeforeSteps(context.beforeOrAfterScenarioSteps(storyAndScenarioMeta, Stage.BEFORE,
                 ScenarioType.EXAMPLE));
-        addStepsWithLifecycle(exampleScenario, context, lifecycle, parameters, scenario, storyAndScenarioMeta);
+        addStepsWithLifecycle(exampleScenario, context, lifecycle, parameters, scenario, scenarioSteps,
+                storyAndScenarioMeta);
         exampleScenario.addAfterSteps(context.beforeOrAfterScenarioSteps(storyAndScenarioMeta, Stage.AFTER,
                 ScenarioType.EXAMPLE));
         return exampleScenario;
@@ -214,14 +272,15 @@ public class PerformableTree {
 	}
 
 	private void addStepsWithLifecycle(AbstractPerformableScenario performableScenario, RunContext context,
-			Lifecycle lifecycle, Map<String, String> parameters, Scenario scenario, Meta storyAndScenarioMeta) {
+			Lifecycle lifecycle, Map<String, String> parameters, Scenario scenario, MatchedScenarioSteps scenarioSteps,
+			Meta storyAndScenarioMeta) {
 		performableScenario.addBeforeSteps(context.beforeOrAfterScenarioSteps(storyAndScenarioMeta, Stage.BEFORE,
                 ScenarioType.ANY));
 		performableScenario.addBeforeSteps(context.lifecycleSteps(lifecycle, storyAndScenarioMeta, Stage.BEFORE));
 		addMetaParameters(parameters, storyAndScenarioMeta);
 		performableScenario.addGivenStories(performableGivenStories(context, scenario.getGivenStories(),
 		        parameters));
-		performableScenario.addSteps(context.scenarioSteps(scenario, parameters));
+		performableScenario.addSteps(scenarioSteps.performableSteps(parameters));
 		performableScenario.addAfterSteps(context.lifecycleSteps(lifecycle, storyAndScenarioMeta, Stage.AFTER));
 		performableScenario.addAfterSteps(context.beforeOrAfterScenarioSteps(storyAndScenarioMeta, Stage.AFTER,
                 ScenarioType.ANY));
@@ -311,6 +370,108 @@ public class PerformableTree {
         return context.failureOccurred();
     }
 
+    /**
+     * The example scenarios of a streamed examples table, created from each
+     * allowed row as the rows are read, so that only the example scenario
+     * being performed is held in memory. Its iterators are {@link Closeable},
+     * releasing the resource of the table if the examples are not all
+     * performed.
+     */
+    private class StreamedExampleScenarios implements Iterable<ExamplePerformableScenario> {
+
+        private final RunContext context;
+        private final Lifecycle lifecycle;
+        private final Scenario scenario;
+        private final MatchedScenarioSteps scenarioSteps;
+        private final Meta storyAndScenarioMeta;
+
+        private StreamedExampleScenarios(RunContext context, Lifecycle lifecycle, Scenario scenario,
+                MatchedScenarioSteps scenarioSteps, Meta storyAndScenarioMeta) {
+            this.context = context;
+            this.lifecycle = lifecycle;
+            this.scenario = scenario;
+            this.scenarioSteps = scenarioSteps;
+            this.storyAndScenarioMeta = storyAndScenarioMeta;
+        }
+
+        public Iterator<ExamplePerformableScenario> iterator() {
+            return new ExampleScenarioIterator(scenario.getExamplesTable().rowIterator());
+        }
+
+        private class ExampleScenarioIterator implements Iterator<ExamplePerformableScenario>, Closeable {
+
+            private final RowIterator rows;
+            private ExamplePerformableScenario next;
+
+            private ExampleScenarioIterator(RowIterator rows) {
+                this.rows = rows;
+                try {
+                    this.next = nextAllowed();
+                } catch (RuntimeException e) {
+                    rows.close();
+                    throw e;
+                }
+            }
+
+            private ExamplePerformableScenario nextAllowed() {
+                while (rows.hasNext()) {
+                    ExamplePerformableScenario exampleScenario = allowedExampleScenario(context, lifecycle,
+                            scenario, scenarioSteps, storyAndScenarioMeta, rows.next());
+                    if (exampleScenario != null) {
+                        return exampleScenario;
+                    }
+                }
+                return null;
+            }
+
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            public ExamplePerformableScenario next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                ExamplePerformableScenario exampleScenario = next;
+                next = nextAllowed();
+                return exampleScenario;
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            public void close() {
+                rows.close();
+            }
+
+        }
+
+    }
+
+    private int examplesThreads(RunContext context, Meta storyAndScenarioMeta) {
+        StoryControls storyControls = context.configuration().storyControls();
+        boolean parallelExamples = storyControls.parallelExamples();
+        int threads = storyControls.examplesThreads();
+        if (storyAndScenarioMeta.hasProperty(PARALLEL_EXAMPLES)) {
+            String value = storyAndScenarioMeta.getProperty(PARALLEL_EXAMPLES).trim();
+            parallelExamples = !Boolean.FALSE.toString().equalsIgnoreCase(value);
+            if (StringUtils.isNumeric(value) && !value.isEmpty()) {
+                threads = Integer.parseInt(value);
+            }
+        }
+        return parallelExamples ? threads : 1;
+    }
+
+    private boolean parallelScenarios(RunContext context, Meta storyAndScenarioMeta) {
+        boolean parallelScenarios = context.configuration().storyControls().parallelScenarios();
+        if (storyAndScenarioMeta.hasProperty(PARALLEL_SCENARIOS)) {
+            String value = storyAndScenarioMeta.getProperty(PARALLEL_SCENARIOS).trim();
+            parallelScenarios = !Boolean.FALSE.toString().equalsIgnoreCase(value);
+        }
+        return parallelScenarios;
+    }
+
     private boolean isParameterisedByExamples(Scenario scenario) {
         return scenario.getExamplesTable().getHeaders().size() > 0 && !scenario.getGivenStories().requireParameters();
     }
@@ -461,31 +622,55 @@ public class PerformableTree {
     }
 
     /**
-     * The context for running a story.
+     * The context for running a story. The context of a run holds the parts
+     * shared by all its stories, while each story performed by the run, e.g. by
+     * a different thread, is performed in its own {@link #storyContext()},
+     * holding the path, state, reporter and failures of the story.
      */
     public static class RunContext {
         private final Configuration configuration;
-        private final InjectableStepsFactory stepsFactory;
-        private final List<CandidateSteps> candidateSteps;
+        private final CandidateStepsRegistry candidateSteps;
 		private final EmbedderMonitor embedderMonitor;
         private final MetaFilter filter;
-        private final BatchFailures failures;
 		private final StepsContext stepsContext;
-        private Map<Story, StoryDuration> cancelledStories = new HashMap<>();
-        private Map<String, List<PendingStep>> pendingStories = new HashMap<>();
-        private final ThreadLocal<StoryReporter> reporter = new ThreadLocal<>();
+        private final ConcurrentMap<Story, StoryDuration> cancelledStories;
+        private final ConcurrentMap<String, List<PendingStep>> pendingStories;
+        private final ConcurrentMap<String, Throwable> failures;
+        private final AtomicBoolean cancelled;
+        private final ConcurrentMap<Integer, ExecutorService> examplesExecutors;
+        private ExecutorService executor;
+        private StoryReporter reporter;
         private String path;
         private boolean givenStory;
         private State state;
 
         public RunContext(Configuration configuration, InjectableStepsFactory stepsFactory, EmbedderMonitor embedderMonitor,
                 MetaFilter filter, BatchFailures failures) {
+            this(configuration, new CandidateStepsRegistry(stepsFactory), embedderMonitor, filter, failures);
+        }
+
+        public RunContext(Configuration configuration, CandidateStepsRegistry candidateSteps,
+                EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures) {
+            this(configuration, candidateSteps, embedderMonitor, filter,
+                    new ConcurrentHashMap<Story, StoryDuration>(), new ConcurrentHashMap<String, List<PendingStep>>(),
+                    new ConcurrentHashMap<String, Throwable>(failures), new AtomicBoolean(),
+                    new ConcurrentHashMap<Integer, ExecutorService>());
+        }
+
+        private RunContext(Configuration configuration, CandidateStepsRegistry candidateSteps,
+                EmbedderMonitor embedderMonitor, MetaFilter filter,
+                ConcurrentMap<Story, StoryDuration> cancelledStories,
+                ConcurrentMap<String, List<PendingStep>> pendingStories, ConcurrentMap<String, Throwable> failures,
+                AtomicBoolean cancelled, ConcurrentMap<Integer, ExecutorService> examplesExecutors) {
             this.configuration = configuration;
-            this.stepsFactory = stepsFactory;
 			this.embedderMonitor = embedderMonitor;
-            this.candidateSteps = stepsFactory.createCandidateSteps();
+            this.candidateSteps = candidateSteps;
             this.filter = filter;
+            this.cancelledStories = cancelledStories;
+            this.pendingStories = pendingStories;
             this.failures = failures;
+            this.cancelled = cancelled;
+            this.examplesExecutors = examplesExecutors;
             this.stepsContext = configuration.stepsContext();
             resetState();
         }
@@ -518,14 +703,12 @@ public class PerformableTree {
 
 		public void currentPath(String path) {
             this.path = path;
-            this.reporter.set(configuration.storyReporter(path));
+            this.reporter = configuration.storyReporter(path);
         }
 
         public void interruptIfCancelled() throws InterruptedException {
-            for (Story story : cancelledStories.keySet()) {
-                if (path.equals(story.getPath())) {
-                    throw new InterruptedException(path);
-                }
+            if (cancelled.get()) {
+                throw new InterruptedException(path);
             }
         }
 
@@ -585,17 +768,144 @@ public class PerformableTree {
             return new PerformableSteps(steps, monitor.matched());
         }
 
+        public MatchedScenarioSteps matchedScenarioSteps(Scenario scenario) {
+            StepCollector stepCollector = configuration.stepCollector();
+            if (!(stepCollector instanceof MatchingStepCollector)) {
+                // steps are collected again for each set of parameters
+                return new MatchedScenarioSteps(this, scenario);
+            }
+            MatchingStepMonitor monitor = new MatchingStepMonitor(configuration.stepMonitor());
+            MatchedSteps matchedSteps = ((MatchingStepCollector) stepCollector).matchScenarioSteps(candidateSteps,
+                    scenario, monitor);
+            return new MatchedScenarioSteps(matchedSteps, monitor.matched());
+        }
+
+        /**
+         * Creates the context of a story performed by the run of this context,
+         * sharing the cancelled and pending stories of the run, and its
+         * executors, but with its own path, state, reporter, failures and
+         * cancellation. The failures of the story are added to the run with
+         * {@link #addFailures(RunContext)} once the story is performed.
+         * 
+         * @return The RunContext of the story
+         */
+        public RunContext storyContext() {
+            RunContext story = new RunContext(configuration, candidateSteps, embedderMonitor, filter,
+                    cancelledStories, pendingStories, new ConcurrentHashMap<String, Throwable>(), new AtomicBoolean(),
+                    examplesExecutors);
+            story.executor = executor;
+            return story;
+        }
+
+        /**
+         * Creates the context of a given story, sharing the failures and the
+         * cancellation of this context, so that the given story is interrupted
+         * along with the story it is given to
+         * 
+         * @param givenStory the GivenStory
+         * @return The RunContext of the given story
+         */
         public RunContext childContextFor(GivenStory givenStory) {
-            RunContext child = new RunContext(configuration, stepsFactory, embedderMonitor, filter, failures);
+            RunContext child = new RunContext(configuration, candidateSteps, embedderMonitor, filter,
+                    new ConcurrentHashMap<Story, StoryDuration>(), new ConcurrentHashMap<String, List<PendingStep>>(),
+                    failures, cancelled, examplesExecutors);
             child.path = configuration.pathCalculator().calculate(path, givenStory.getPath());
             child.givenStory = true;
             return child;
         }
 
+        /**
+         * Creates the context of a scenario or an example performed
+         * concurrently with the others of its story or scenario, sharing the
+         * story and the cancellation of this context but with its own state
+         * and reporter
+         * 
+         * @param state the State the scenario or example starts with
+         * @return The concurrent RunContext
+         */
+        public RunContext concurrentContext(State state) {
+            RunContext concurrent = new RunContext(configuration, candidateSteps, embedderMonitor, filter,
+                    cancelledStories, pendingStories, failures, cancelled, examplesExecutors);
+            concurrent.path = path;
+            concurrent.givenStory = givenStory;
+            concurrent.state = state;
+            return concurrent;
+        }
+
+        /**
+         * Uses an executor to perform the scenarios of the stories concurrently,
+         * if they are marked as such
+         * 
+         * @param executor the ExecutorService, usually the one performing the
+         *            stories
+         */
+        public void useExecutor(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        public ExecutorService executor() {
+            return executor;
+        }
+
+        /**
+         * Returns the executor performing the examples of scenarios with the
+         * given number of threads, created once for the whole run and shared
+         * by all its stories
+         * 
+         * @param threads the number of threads
+         * @return The ExecutorService of the examples
+         */
+        public ExecutorService examplesExecutor(int threads) {
+            ExecutorService examplesExecutor = examplesExecutors.get(threads);
+            if (examplesExecutor == null) {
+                ExecutorService created = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "jbehave-examples-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+                examplesExecutor = examplesExecutors.putIfAbsent(threads, created);
+                if (examplesExecutor == null) {
+                    examplesExecutor = created;
+                } else {
+                    created.shutdown();
+                }
+            }
+            return examplesExecutor;
+        }
+
+        /**
+         * Shuts down the executors of the examples, once the run is done
+         */
+        public void shutdownExamplesExecutors() {
+            for (Iterator<ExecutorService> executors = examplesExecutors.values().iterator(); executors.hasNext();) {
+                executors.next().shutdownNow();
+                executors.remove();
+            }
+        }
+
         public void cancelStory(Story story, StoryDuration storyDuration) {
             cancelledStories.put(story, storyDuration);
         }
 
+        /**
+         * Cancels the story performed in this context, and in the concurrent
+         * contexts created from it, so that its following steps are not
+         * performed. The cancellation is checked in constant time before each
+         * step, while the threads performing the story are to be interrupted
+         * by the caller if blocked.
+         */
+        public void cancel() {
+            cancelled.set(true);
+        }
+
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
         public boolean isCancelled(Story story) {
             return cancelledStories.containsKey(story);
         }
@@ -625,7 +935,7 @@ public class PerformableTree {
         }
 
         public StoryReporter reporter() {
-            return reporter.get();
+            return reporter;
         }
 
         public boolean failed(State state) {
@@ -652,6 +962,10 @@ public class PerformableTree {
             }
         }
 
+        public void addFailures(RunContext storyContext) {
+            failures.putAll(storyContext.failures);
+        }
+
         public void pendingSteps(List<PendingStep> pendingSteps) {
             if (!pendingSteps.isEmpty()) {
                 pendingStories.put(path, pendingSteps);
@@ -685,13 +999,19 @@ public class PerformableTree {
         }
 
         public BatchFailures getFailures() {
-            return failures;
+            BatchFailures batchFailures = new BatchFailures();
+            batchFailures.putAll(failures);
+            return batchFailures;
         }
         
         public EmbedderMonitor embedderMonitor(){
         	return embedderMonitor;
         }
 
+        public CandidateStepsRegistry candidateSteps() {
+            return candidateSteps;
+        }
+
     }
 
     public static class FailureContext {
@@ -725,15 +1045,19 @@ public class PerformableTree {
             this.beforeSteps = beforeSteps;
         }
 
-        public void add(PerformableStory performableStory) {
+        public synchronized void add(PerformableStory performableStory) {
             stories.put(performableStory.getStory().getPath(), performableStory);
         }
 
+        public synchronized void remove(Story story) {
+            stories.remove(story.getPath());
+        }
+
         public void addAfterSteps(PerformableSteps afterSteps) {
             this.afterSteps = afterSteps;
         }
 
-        public PerformableStory get(Story story) {
+        public synchronized PerformableStory get(Story story) {
             PerformableStory performableStory = stories.get(story.getPath());
             if (performableStory != null) {
                 return performableStory;
@@ -741,7 +1065,7 @@ public class PerformableTree {
             throw new RuntimeException("No performable story for path " + story.getPath());
         }
 
-        public List<PerformableStory> getStories() {
+        public synchronized List<PerformableStory> getStories() {
             return new ArrayList<>(stories.values());
         }
 
@@ -864,9 +1188,38 @@ public class PerformableTree {
             }
         }
 
+        /**
+         * Performs the scenarios in order, submitting consecutive scenarios
+         * marked as parallel to the executor of the context, if any, each with
+         * its own context and reporter starting from the state of the story.
+         * The submitted scenarios are completed in order, their reported events
+         * being then delivered to the reporter of the story, before any
+         * following scenario which is not parallel is performed.
+         */
         private void performScenarios(RunContext context) throws InterruptedException {
-            for (PerformableScenario scenario : scenarios) {
-                scenario.perform(context);
+            ExecutorService executor = context.executor();
+            Deque<PerformableRun> runs = new ArrayDeque<>();
+            try {
+                for (PerformableScenario scenario : scenarios) {
+                    if (executor != null && scenario.isParallel()) {
+                        PerformableRun run = new PerformableRun(scenario, context, context.state(),
+                                context.stepsContext().snapshot());
+                        run.submitTo(executor);
+                        runs.add(run);
+                    } else {
+                        while (!runs.isEmpty()) {
+                            runs.poll().complete(context, null);
+                        }
+                        scenario.perform(context);
+                    }
+                }
+                while (!runs.isEmpty()) {
+                    runs.poll().complete(context, null);
+                }
+            } finally {
+                for (PerformableRun run : runs) {
+                    run.cancel();
+                }
             }
         }
 
@@ -886,6 +1239,10 @@ public class PerformableTree {
         private Timing timing = new Timing();
 		private NormalPerformableScenario normalScenario;
         private List<ExamplePerformableScenario> exampleScenarios;
+        private transient Iterable<ExamplePerformableScenario> streamedExampleScenarios;
+        private transient FailureContext streamedFailures;
+        private transient int examplesThreads = 1;
+        private transient boolean parallel;
 
         public PerformableScenario(Scenario scenario, String storyPath) {
             this.scenario = scenario;
@@ -903,6 +1260,27 @@ public class PerformableTree {
             exampleScenarios.add(exampleScenario);
         }
 
+        /**
+         * Uses example scenarios created as they are iterated, each being
+         * discarded once performed, keeping only its failures
+         * 
+         * @param exampleScenarios the Iterable of the example scenarios
+         */
+        public void useStreamedExampleScenarios(Iterable<ExamplePerformableScenario> exampleScenarios) {
+            this.streamedExampleScenarios = exampleScenarios;
+            this.streamedFailures = new FailureContext();
+        }
+
+        /**
+         * Uses a number of threads to perform the example scenarios
+         * concurrently, if greater than one
+         * 
+         * @param examplesThreads the number of threads
+         */
+        public void useExamplesThreads(int examplesThreads) {
+            this.examplesThreads = examplesThreads;
+        }
+
         public void allowed(boolean allowed) {
             this.allowed = allowed;
         }
@@ -911,6 +1289,20 @@ public class PerformableTree {
             return allowed;
         }
 
+        /**
+         * Marks the scenario as independent of the other scenarios of its
+         * story, so that it can be performed concurrently with them
+         * 
+         * @param parallel the boolean flag
+         */
+        public void parallel(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public boolean isParallel() {
+            return parallel;
+        }
+
         public Status getStatus() { return status; }
 
         public Timing getTiming() { return timing; }
@@ -938,7 +1330,7 @@ public class PerformableTree {
         }
 
         public boolean hasExamples() {
-            return exampleScenarios != null && exampleScenarios.size() > 0;
+            return (exampleScenarios != null && exampleScenarios.size() > 0) || streamedExampleScenarios != null;
         }
 
         public void perform(RunContext context) throws InterruptedException {
@@ -956,8 +1348,11 @@ public class PerformableTree {
                 if ( hasExamples() ) {
                     context.reporter().beforeExamples(scenario.getSteps(),
                             scenario.getExamplesTable());
-                    for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
-                        exampleScenario.perform(context);
+                    if (streamedExampleScenarios != null) {
+                        streamedFailures = new FailureContext();
+                        performExamples(context, streamedExampleScenarios, streamedFailures);
+                    } else {
+                        performExamples(context, exampleScenarios, null);
                     }
                     context.reporter().afterExamples();
                 } else {
@@ -971,9 +1366,80 @@ public class PerformableTree {
             }
         }
 
+        private void performExamples(RunContext context, Iterable<ExamplePerformableScenario> exampleScenarios,
+                FailureContext failures) throws InterruptedException {
+            if (examplesThreads > 1) {
+                performExamplesConcurrently(context, exampleScenarios, failures);
+                return;
+            }
+            Iterator<ExamplePerformableScenario> iterator = exampleScenarios.iterator();
+            try {
+                while (iterator.hasNext()) {
+                    ExamplePerformableScenario exampleScenario = iterator.next();
+                    exampleScenario.perform(context);
+                    if (failures != null) {
+                        exampleScenario.reportFailures(failures);
+                    }
+                }
+            } finally {
+                close(iterator);
+            }
+        }
+
+        private void close(Iterator<ExamplePerformableScenario> iterator) {
+            if (iterator instanceof Closeable) {
+                try {
+                    ((Closeable) iterator).close();
+                } catch (IOException e) {
+                    // ignore failure to close
+                }
+            }
+        }
+
+        /**
+         * Performs the example scenarios in the pool of threads of the run,
+         * each example with its own context and reporter. The examples are
+         * completed in order, their reported events being then delivered to
+         * the reporter of the scenario. At most two examples per thread are
+         * performed or waiting to be performed at any time, so that streamed
+         * examples are not all held at once.
+         */
+        private void performExamplesConcurrently(RunContext context,
+                Iterable<ExamplePerformableScenario> exampleScenarios, FailureContext failures)
+                throws InterruptedException {
+            ExecutorService executor = context.examplesExecutor(examplesThreads);
+            State state = context.state();
+            Snapshot objects = context.stepsContext().snapshot();
+            Deque<PerformableRun> runs = new ArrayDeque<>();
+            Iterator<ExamplePerformableScenario> iterator = exampleScenarios.iterator();
+            try {
+                while (iterator.hasNext()) {
+                    ExamplePerformableScenario exampleScenario = iterator.next();
+                    if (runs.size() == 2 * examplesThreads) {
+                        runs.poll().complete(context, failures);
+                    }
+                    PerformableRun run = new PerformableRun(exampleScenario, context, state, objects);
+                    run.submitTo(executor);
+                    runs.add(run);
+                }
+                while (!runs.isEmpty()) {
+                    runs.poll().complete(context, failures);
+                }
+            } finally {
+                close(iterator);
+                for (PerformableRun run : runs) {
+                    run.cancel();
+                }
+            }
+        }
+
         @Override
         public void reportFailures(FailureContext context) {
-            if ( hasExamples() ){
+            if (streamedExampleScenarios != null) {
+                for (Throwable failure : streamedFailures.getFailures()) {
+                    context.addFailure(failure);
+                }
+            } else if ( hasExamples() ){
                 for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
                     exampleScenario.reportFailures(context);
                 }
@@ -984,6 +1450,82 @@ public class PerformableTree {
 
     }
 
+    /**
+     * Performs a scenario or an example scenario in its own context, recording
+     * the reported events until the run is completed. The run is performed in
+     * the thread of an executor, or else in the thread completing it if not
+     * yet started, so that completing runs never waits on an executor whose
+     * threads are all busy.
+     */
+    private static class PerformableRun implements Callable<Void> {
+
+        private final Performable performable;
+        private final RunContext context;
+        private final ConcurrentStoryReporter reporter;
+        private final Snapshot objects;
+        private final FutureTask<Void> task = new FutureTask<>(this);
+
+        private PerformableRun(Performable performable, RunContext parentContext, State state, Snapshot objects) {
+            this.performable = performable;
+            this.context = parentContext.concurrentContext(state);
+            this.reporter = new ConcurrentStoryReporter(new NullStoryReporter(), parentContext.reporter(), true);
+            this.context.reporter = reporter;
+            this.objects = objects;
+        }
+
+        public Void call() throws Exception {
+            StepsContext stepsContext = context.stepsContext();
+            Snapshot current = stepsContext.snapshot();
+            stepsContext.restore(objects);
+            try {
+                performable.perform(context);
+            } finally {
+                stepsContext.restore(current);
+            }
+            return null;
+        }
+
+        private void submitTo(Executor executor) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // the run is performed when completed
+            }
+        }
+
+        private void complete(RunContext parentContext, FailureContext failures) throws InterruptedException {
+            task.run();
+            Throwable failure = null;
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                failure = e.getCause();
+            }
+            reporter.invokeDelayed();
+            if (!parentContext.failureOccurred()) {
+                // the first failure is kept, as if the runs were performed in order
+                parentContext.stateIs(context.state());
+            }
+            if (failures != null) {
+                performable.reportFailures(failures);
+            }
+            if (failure instanceof InterruptedException) {
+                throw (InterruptedException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new UUIDExceptionWrapper(failure);
+            }
+        }
+
+        private void cancel() {
+            task.cancel(true);
+        }
+
+    }
+
     public static abstract class AbstractPerformableScenario implements Performable {
 
         protected final Map<String, String> parameters;
@@ -1113,6 +1655,45 @@ public class PerformableTree {
 
     }
 
+    /**
+     * The steps of a scenario matched once, from which the
+     * {@link PerformableSteps} are created for the parameters of the normal
+     * scenario and of each example scenario. If the {@link StepCollector} is
+     * not a {@link MatchingStepCollector}, the steps are instead collected for
+     * each set of parameters.
+     */
+    public static class MatchedScenarioSteps {
+
+        private final MatchedSteps matchedSteps;
+        private final List<StepMatch> matches;
+        private final RunContext context;
+        private final Scenario scenario;
+
+        public MatchedScenarioSteps(MatchedSteps matchedSteps, List<StepMatch> matches) {
+            this(matchedSteps, matches, null, null);
+        }
+
+        public MatchedScenarioSteps(RunContext context, Scenario scenario) {
+            this(null, null, context, scenario);
+        }
+
+        private MatchedScenarioSteps(MatchedSteps matchedSteps, List<StepMatch> matches, RunContext context,
+                Scenario scenario) {
+            this.matchedSteps = matchedSteps;
+            this.matches = matches;
+            this.context = context;
+            this.scenario = scenario;
+        }
+
+        public PerformableSteps performableSteps(Map<String, String> parameters) {
+            if (matchedSteps == null) {
+                return context.scenarioSteps(scenario, parameters);
+            }
+            return new PerformableSteps(matchedSteps.createSteps(parameters), new ArrayList<>(matches));
+        }
+
+    }
+
     public static class PerformableSteps implements Performable {
 
         private transient final List<Step> steps;
@@ -1222,7 +1803,28 @@ public class PerformableTree {
 
     public RunContext newRunContext(Configuration configuration, InjectableStepsFactory stepsFactory,
             EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures) {
-        return new RunContext(configuration, stepsFactory, embedderMonitor, filter, failures);
+        return new RunContext(configuration, candidateSteps(configuration, stepsFactory), embedderMonitor, filter,
+                failures);
+    }
+
+    /**
+     * Returns the registry of candidate steps for the given configuration and
+     * steps factory, which is created once and reused across runs until either
+     * the configuration or the steps factory instance changes. Changes made in
+     * place to the same configuration instance are not detected.
+     * 
+     * @param configuration the {@link Configuration} of the run
+     * @param stepsFactory the {@link InjectableStepsFactory}
+     * @return The {@link CandidateStepsRegistry}
+     */
+    public synchronized CandidateStepsRegistry candidateSteps(Configuration configuration,
+            InjectableStepsFactory stepsFactory) {
+        if (candidateSteps == null || candidateStepsConfiguration != configuration
+                || !candidateSteps.createdBy(stepsFactory)) {
+            candidateSteps = new CandidateStepsRegistry(stepsFactory);
+            candidateStepsConfiguration = configuration;
+        }
+        return candidateSteps;
     }
 
 }
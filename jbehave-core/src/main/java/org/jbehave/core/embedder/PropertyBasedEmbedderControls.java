@@ -17,6 +17,8 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public static final String STORY_TIMEOUT_IN_SECS_BY_PATH = "STORY_TIMEOUT_IN_SECS_BY_PATH";
     public static final String FAIL_ON_STORY_TIMEOUT = "FAIL_ON_STORY_TIMEOUT";
     public static final String THREADS = "THREADS";
+    public static final String PARSING_THREADS = "PARSING_THREADS";
+    public static final String PIPELINE_STORIES = "PIPELINE_STORIES";
 
     @Override
     public boolean batch() {
@@ -77,6 +79,16 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public int threads() {
         return propertyAs(THREADS, Integer.class, super.threads()); 
     }
+
+    @Override
+    public int parsingThreads() {
+        return propertyAs(PARSING_THREADS, Integer.class, super.parsingThreads());
+    }
+
+    @Override
+    public boolean pipelineStories() {
+        return propertyAs(PIPELINE_STORIES, Boolean.class, super.pipelineStories());
+    }
    
     @SuppressWarnings("unchecked")
     private <T> T propertyAs(String name, Class<T> type, T defaultValue) {
@@ -114,6 +126,8 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
         .append("storyTimeoutInSecs", storyTimeoutInSecs())
         .append("storyTimeoutInSecsByPath", storyTimeoutInSecsByPath())
         .append("threads", threads())
+        .append("parsingThreads", parsingThreads())
+        .append("pipelineStories", pipelineStories())
         .toString();        
     }
 
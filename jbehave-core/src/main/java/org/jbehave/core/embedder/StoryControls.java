@@ -15,6 +15,9 @@ public class StoryControls {
     private boolean skipBeforeAndAfterScenarioStepsIfGivenStory = false;
 	private boolean ignoreMetaFiltersIfGivenStory = false;
 	private boolean metaByRow = false;
+    private boolean parallelExamples = false;
+    private int examplesThreads = Runtime.getRuntime().availableProcessors();
+    private boolean parallelScenarios = false;
     private String storyMetaPrefix = "";
     private String scenarioMetaPrefix = "";
 
@@ -49,6 +52,18 @@ public class StoryControls {
         return metaByRow;
     }
 
+    public boolean parallelExamples() {
+        return parallelExamples;
+    }
+
+    public int examplesThreads() {
+        return examplesThreads;
+    }
+
+    public boolean parallelScenarios() {
+        return parallelScenarios;
+    }
+
     public String storyMetaPrefix() {
         return storyMetaPrefix;
     }
@@ -93,6 +108,52 @@ public class StoryControls {
 	    return this;
 	}
 
+    /**
+     * Performs the examples of the scenarios concurrently, each example in its
+     * own thread. Examples can also be performed concurrently, or not, for a
+     * given story or scenario via the "parallelExamples" meta property, e.g.
+     * <code>@parallelExamples</code>, <code>@parallelExamples 8</code> (using 8
+     * threads) or <code>@parallelExamples false</code>. The examples must then
+     * be independent of each other, as they do not share their state.
+     * 
+     * @param parallelExamples the boolean flag
+     * @return The StoryControls
+     */
+    public StoryControls doParallelExamples(boolean parallelExamples) {
+        this.parallelExamples = parallelExamples;
+        return this;
+    }
+
+    /**
+     * Uses a number of threads to perform the examples of a scenario
+     * concurrently, defaulting to the number of available processors
+     * 
+     * @param examplesThreads the number of threads
+     * @return The StoryControls
+     */
+    public StoryControls useExamplesThreads(int examplesThreads) {
+        this.examplesThreads = examplesThreads;
+        return this;
+    }
+
+    /**
+     * Performs the scenarios of the stories concurrently, in the threads
+     * performing the stories. Scenarios can also be performed concurrently, or
+     * not, for a given story or scenario via the "parallelScenarios" meta
+     * property, e.g. <code>@parallelScenarios</code> or
+     * <code>@parallelScenarios false</code>. Consecutive concurrent scenarios
+     * must then be independent of each other, as they do not share their
+     * state, while a scenario which is not concurrent is performed once the
+     * scenarios preceding it are completed.
+     * 
+     * @param parallelScenarios the boolean flag
+     * @return The StoryControls
+     */
+    public StoryControls doParallelScenarios(boolean parallelScenarios) {
+        this.parallelScenarios = parallelScenarios;
+        return this;
+    }
+
     public StoryControls useStoryMetaPrefix(String storyMetaPrefix){
         this.storyMetaPrefix = storyMetaPrefix;
         return this;        
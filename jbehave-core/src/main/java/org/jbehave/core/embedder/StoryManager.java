@@ -4,16 +4,27 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.embedder.PerformableTree.PerformableRoot;
@@ -22,6 +33,7 @@ import org.jbehave.core.embedder.StoryTimeouts.TimeoutParser;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.jbehave.core.steps.StepCollector.Stage;
 
@@ -29,6 +41,19 @@ import org.jbehave.core.steps.StepCollector.Stage;
  * Manages the execution and outcomes of running stories. While each story is
  * run by the {@link PerformableTree}, the manager is responsible for the concurrent
  * submission and monitoring of their execution via the {@link ExecutorService}.
+ * The manager is notified as each story completes, while the story timeouts are
+ * enforced by a {@link ScheduledExecutorService}, which cancels the story once
+ * it has run over its timeout and is shut down once all stories are done.
+ * <p>
+ * The stories are loaded and parsed concurrently by as many threads as the
+ * {@link EmbedderControls#parsingThreads()}. If the
+ * {@link EmbedderControls#pipelineStories()} are enabled, each story is then
+ * filtered, planned and performed as its own unit of work, so that the
+ * stories start running before all are planned. The planned story is
+ * released from the {@link PerformableTree} once it has been performed and
+ * reported, unless the tree is needed for the cross reference or the surefire
+ * report.
+ * </p>
  */
 public class StoryManager {
 
@@ -40,8 +65,10 @@ public class StoryManager {
 	private final PerformableTree performableTree;
 	private final Map<String, RunningStory> runningStories = new HashMap<>();
 	private final Map<MetaFilter, List<Story>> excludedStories = new HashMap<>();
+	private final BlockingQueue<Future<ThrowableStory>> completedStories = new LinkedBlockingQueue<>();
 	private RunContext context;
 	private StoryTimeouts timeouts;
+	private ScheduledExecutorService timeoutScheduler;
 	
 	public StoryManager(Configuration configuration,
 			InjectableStepsFactory stepsFactory,
@@ -83,28 +110,107 @@ public class StoryManager {
 
 	public void runStoriesAsPaths(List<String> storyPaths, MetaFilter filter,
 			BatchFailures failures) {
-		runStories(storiesOf(storyPaths), filter, failures);
+		// the stories may fail to parse as they are run, so the stories which
+		// fail to parse are added once the stories are run
+		BatchFailures parsingFailures = new BatchFailures();
+		if (embedderControls.pipelineStories()) {
+			runStories(parsedStories(storyPaths, parsingFailures), filter, failures);
+		} else {
+			runStories(storiesOfPaths(storyPaths, parsingFailures), filter, failures);
+		}
+		failures.putAll(parsingFailures);
 	}
 
-	private List<Story> storiesOf(List<String> storyPaths) {
+	/**
+	 * Loads and parses the stories of the given paths, concurrently if more
+	 * than one of the {@link EmbedderControls#parsingThreads()} is used. The
+	 * stories are returned in the order of the paths, while the stories which
+	 * fail to load or parse are reported as failed and added to the failures.
+	 * 
+	 * @param storyPaths the story paths
+	 * @param failures the failures
+	 * @return The list of parsed stories
+	 */
+	public List<Story> storiesOfPaths(List<String> storyPaths, BatchFailures failures) {
 		List<Story> stories = new ArrayList<>();
-		for (String storyPath : storyPaths) {
-			stories.add(storyOfPath(storyPath));
+		for (Story story : parsedStories(storyPaths, failures)) {
+			if (story != null) {
+				stories.add(story);
+			}
 		}
 		return stories;
 	}
+
+	private List<Story> parsedStories(final List<String> storyPaths, final BatchFailures failures) {
+		final List<FutureTask<Story>> parsing = new ArrayList<>();
+		for (final String storyPath : storyPaths) {
+			parsing.add(new FutureTask<>(new Callable<Story>() {
+				public Story call() throws Exception {
+					return storyOfPath(storyPath);
+				}
+			}));
+		}
+		int threads = Math.min(embedderControls.parsingThreads(), storyPaths.size());
+		if (threads > 1) {
+			ExecutorService parsingService = Executors.newFixedThreadPool(threads);
+			for (FutureTask<Story> task : parsing) {
+				parsingService.execute(task);
+			}
+			// the threads terminate once all stories are parsed
+			parsingService.shutdown();
+		}
+		// any story not yet parsed is parsed by the thread which iterates over
+		// the stories, or null if it fails
+		return new AbstractList<Story>() {
+			public Story get(int index) {
+				return parsedStory(storyPaths.get(index), parsing.get(index), failures);
+			}
+
+			public int size() {
+				return parsing.size();
+			}
+		};
+	}
+
+	private Story parsedStory(String storyPath, FutureTask<Story> task, BatchFailures failures) {
+		task.run();
+		Throwable failure;
+		try {
+			return task.get();
+		} catch (ExecutionException e) {
+			failure = e.getCause();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure = e;
+		}
+		embedderMonitor.storyFailed(storyPath, failure);
+		failures.put(storyPath, failure);
+		return null;
+	}
 	
 	public void runStories(List<Story> stories, MetaFilter filter,
 			BatchFailures failures) {
 		// create new run context
 		context = performableTree.newRunContext(configuration, stepsFactory,
 				embedderMonitor, filter, failures);
+		// scenarios marked as parallel are performed by the executor of the stories
+		context.useExecutor(executorService);
 
-		// add stories
-		performableTree.addStories(context, stories);
+		// add stories, or only the before and after stories steps if each
+		// story is added as it is run
+		if (embedderControls.pipelineStories()) {
+			performableTree.addStories(context, Collections.<Story>emptyList());
+		} else {
+			performableTree.addStories(context, stories);
+		}
 
 		// perform stories
-		performStories(context, performableTree, stories);
+		try {
+			performStories(context, performableTree, stories);
+		} finally {
+			// the threads performing examples are shared by all the stories of the run
+			context.shutdownExamplesExecutors();
+		}
 
 		// collect failures
 		failures.putAll(context.getFailures());
@@ -133,7 +239,9 @@ public class StoryManager {
 	public Map<String, RunningStory> runningStories(RunContext context,
 			List<Story> stories) {
 		for (Story story : stories) {
-			filterRunning(context, story);
+			if (story != null) {
+				filterRunning(context, story);
+			}
 		}
 		return runningStories;
 	}
@@ -144,9 +252,17 @@ public class StoryManager {
 			runningStories.put(story.getPath(), runningStory(story));
 		} else {
 			notAllowedBy(context.getFilter()).add(story);
+			if (embedderControls.pipelineStories() && retainPerformableStories()) {
+				performableTree.addStory(context, story);
+			}
 		}
 	}
 
+	private boolean retainPerformableStories() {
+		StoryReporterBuilder builder = configuration.storyReporterBuilder();
+		return builder.hasCrossReference() || builder.hasSurefireReporter();
+	}
+
 	public List<Story> notAllowedBy(MetaFilter filter) {
 		List<Story> stories = excludedStories.get(filter);
 		if (stories == null) {
@@ -157,6 +273,10 @@ public class StoryManager {
 	}
 
 	public RunningStory runningStory(Story story) {
+		if (embedderControls.pipelineStories()) {
+			return submit(new EnqueuedStory(performableTree, context, embedderControls, embedderMonitor, story,
+					timeouts, false, retainPerformableStories()));
+		}
 		return submit(new EnqueuedStory(performableTree, context,
 				embedderControls, embedderMonitor, story, timeouts));
 	}
@@ -165,54 +285,75 @@ public class StoryManager {
         if ( runningStories.values().isEmpty() ) {
         	return;
         }
-        boolean allDone = false;
-        boolean started = false;
-        while (!allDone || !started) {
-            allDone = true;
+        try {
+            // stories already done are handled straight away, the others as
+            // they complete
+            completedStories.clear();
+            Map<Future<ThrowableStory>, RunningStory> notDone = new HashMap<>();
             for (RunningStory runningStory : runningStories.values()) {
-                if ( runningStory.isStarted() ){
-                	started = true;
-                    Story story = runningStory.getStory();
-					Future<ThrowableStory> future = runningStory.getFuture();
-					if (!future.isDone()) {
-						allDone = false;
-						StoryDuration duration = runningStory.getDuration();
-						runningStory.updateDuration();
-						if (duration.timedOut()) {
-							embedderMonitor.storyTimeout(story, duration);
-							context.cancelStory(story, duration);
-							future.cancel(true);
-							if (embedderControls.failOnStoryTimeout()) {
-								throw new StoryExecutionFailed(story.getPath(),
-										new StoryTimedOut(duration));
-							}
-							continue;
-						}
-					} else {
-						try {
-							ThrowableStory throwableStory = future.get();
-							Throwable throwable = throwableStory.getThrowable();
-							if (throwable != null) {
-								context.addFailure(story.getPath(), throwable);
-								if (!embedderControls.ignoreFailureInStories()) {
-									continue;
-								}
-							}
-						} catch (Throwable e) {
-							context.addFailure(story.getPath(), e);
-							if (!embedderControls.ignoreFailureInStories()) {
-								continue;
-							}
-						}
-					}
+                if (runningStory.isDone()) {
+                    storyDone(runningStory);
                 } else {
-                	started = false;
-                	allDone = false;
+                    notDone.put(runningStory.getFuture(), runningStory);
                 }
             }
-            tickTock();
+            while (!notDone.isEmpty()) {
+                try {
+                    RunningStory runningStory = notDone.remove(completedStories.take());
+                    if (runningStory != null) {
+                        storyDone(runningStory);
+                    }
+                } catch (InterruptedException e) {
+                    // stop waiting and cancel the stories not done, which are
+                    // then collected as failed
+                    Thread.currentThread().interrupt();
+                    cancel(notDone.values());
+                    break;
+                }
+            }
+            // failures are collected once all stories are done, along with the
+            // failures added by the context of each story once performed
+            for (RunningStory runningStory : runningStories.values()) {
+                if (runningStory.isDone()) {
+                    addFailure(context, runningStory);
+                }
+            }
+            writeStoryDurations(runningStories.values());
+        } finally {
+            // no story is left to time out
+            shutdownTimeoutScheduler();
         }
-        writeStoryDurations(runningStories.values());
+	}
+
+	private void cancel(Collection<RunningStory> runningStories) {
+		for (RunningStory runningStory : runningStories) {
+			// the story stops before its next step, or once interrupted if blocked
+			runningStory.enqueuedStory.storyContext.cancel();
+			runningStory.getFuture().cancel(true);
+		}
+	}
+
+	private void storyDone(RunningStory runningStory) {
+		if (runningStory.isStarted()) {
+			runningStory.getDuration().update();
+		}
+		if (runningStory.isTimedOut() && embedderControls.failOnStoryTimeout()) {
+			Story story = runningStory.getStory();
+			throw new StoryExecutionFailed(story.getPath(), new StoryTimedOut(runningStory.getDuration()));
+		}
+	}
+
+	private void addFailure(RunContext context, RunningStory runningStory) {
+		Story story = runningStory.getStory();
+		try {
+			ThrowableStory throwableStory = runningStory.getFuture().get();
+			Throwable throwable = throwableStory.getThrowable();
+			if (throwable != null) {
+				context.addFailure(story.getPath(), throwable);
+			}
+		} catch (Throwable e) {
+			context.addFailure(story.getPath(), e);
+		}
 	}
 
 	protected void writeStoryDurations(Collection<RunningStory> runningStories) {
@@ -252,36 +393,142 @@ public class StoryManager {
 		}
 	}
 
-	private void tickTock() {
-		try {
-			Thread.sleep(100);
-		} catch (InterruptedException e) {
+	private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
+		// the timeout is looked up before the story is run, so that the run
+		// fails straight away if the timeout is not valid
+		enqueuedStory.getTimeoutInSecs();
+		RunningStoryTask task = new RunningStoryTask(enqueuedStory, context);
+		executorService.execute(task);
+		return task.runningStory;
+	}
+
+	private synchronized ScheduledExecutorService timeoutScheduler() {
+		if (timeoutScheduler == null) {
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "jbehave-story-timeouts");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			scheduler.setRemoveOnCancelPolicy(true);
+			timeoutScheduler = scheduler;
 		}
+		return timeoutScheduler;
 	}
 
-	private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
-		return new RunningStory(enqueuedStory, executorService.submit(enqueuedStory));
+	private synchronized void shutdownTimeoutScheduler() {
+		if (timeoutScheduler != null) {
+			timeoutScheduler.shutdownNow();
+			timeoutScheduler = null;
+		}
+	}
+
+	/**
+	 * Task running an {@link EnqueuedStory}, which schedules the story timeout
+	 * when the story starts and notifies the manager when the story completes,
+	 * whether done, failed or cancelled.
+	 */
+	private class RunningStoryTask extends FutureTask<ThrowableStory> {
+
+		private final RunningStory runningStory;
+		private final RunContext context;
+
+		private RunningStoryTask(EnqueuedStory enqueuedStory, RunContext context) {
+			super(enqueuedStory);
+			this.runningStory = new RunningStory(enqueuedStory, this);
+			this.context = context;
+		}
+
+		@Override
+		public void run() {
+			ScheduledFuture<?> timeout = scheduleTimeout();
+			try {
+				super.run();
+			} finally {
+				if (timeout != null) {
+					timeout.cancel(false);
+				}
+				if (isCancelled()) {
+					// clear the cancellation interrupt, as the executor may be
+					// running the story in the caller's thread
+					Thread.interrupted();
+				}
+			}
+		}
+
+		private ScheduledFuture<?> scheduleTimeout() {
+			long timeoutInSecs = runningStory.enqueuedStory.getTimeoutInSecs();
+			if (timeoutInSecs == 0 || isDone()) {
+				return null;
+			}
+			// a story is timed out once its duration in whole seconds exceeds
+			// the timeout (see StoryDuration)
+			return timeoutScheduler().schedule(new Runnable() {
+				public void run() {
+					timedOut();
+				}
+			}, TimeUnit.SECONDS.toMillis(timeoutInSecs + 1), TimeUnit.MILLISECONDS);
+		}
+
+		private void timedOut() {
+			if (isDone()) {
+				return;
+			}
+			Story story = runningStory.getStory();
+			StoryDuration duration = runningStory.timedOut();
+			embedderMonitor.storyTimeout(story, duration);
+			context.cancelStory(story, duration);
+			// the story stops before its next step, or once interrupted if blocked
+			runningStory.enqueuedStory.storyContext.cancel();
+			cancel(true);
+		}
+
+		@Override
+		protected void done() {
+			completedStories.add(this);
+		}
+
 	}
 
 	static class EnqueuedStory implements Callable<ThrowableStory> {
 
 		private final PerformableTree performableTree;
 		private final RunContext context;
+		private final RunContext storyContext;
 		private final EmbedderControls embedderControls;
 		private final EmbedderMonitor embedderMonitor;
 		private final Story story;
 		private final StoryTimeouts timeouts;
-		private long startedAtMillis;
+		private volatile long startedAtMillis;
+		private final boolean planned;
+		private final boolean retained;
+		private volatile Long timeoutInSecs;
 
 		public EnqueuedStory(PerformableTree performableTree,
 				RunContext context, EmbedderControls embedderControls,
 				EmbedderMonitor embedderMonitor, Story story, StoryTimeouts timeouts) {
+			this(performableTree, context, embedderControls, embedderMonitor, story, timeouts, true, true);
+		}
+
+		/**
+		 * @param planned whether the story has already been added to the tree
+		 * @param retained whether the story is kept in the tree once performed
+		 */
+		public EnqueuedStory(PerformableTree performableTree, RunContext context,
+				EmbedderControls embedderControls, EmbedderMonitor embedderMonitor, Story story,
+				StoryTimeouts timeouts, boolean planned, boolean retained) {
 			this.performableTree = performableTree;
 			this.context = context;
+			// the story is performed in its own context, not shared with the
+			// stories performed concurrently
+			this.storyContext = context.storyContext();
 			this.embedderControls = embedderControls;
 			this.embedderMonitor = embedderMonitor;
 			this.story = story;
 			this.timeouts = timeouts;
+			this.planned = planned;
+			this.retained = retained;
 		}
 
 		public ThrowableStory call() throws Exception {
@@ -289,7 +536,7 @@ public class StoryManager {
 			String storyPath = story.getPath();
 			try {
 				embedderMonitor.runningStory(storyPath);
-				performableTree.perform(context, story);
+				perform();
 			} catch (Throwable e) {
 				if (embedderControls.ignoreFailureInStories()) {
 					embedderMonitor.storyFailed(storyPath, e);
@@ -301,6 +548,20 @@ public class StoryManager {
 			return new ThrowableStory(story, null);
 		}
 
+		private void perform() {
+			if (!planned) {
+				performableTree.addStory(storyContext, story);
+			}
+			try {
+				performableTree.perform(storyContext, story);
+			} finally {
+				context.addFailures(storyContext);
+				if (!retained) {
+					performableTree.removeStory(story);
+				}
+			}
+		}
+
 		public Story getStory() {
 			return story;
 		}
@@ -310,7 +571,11 @@ public class StoryManager {
 		}
 
 		public long getTimeoutInSecs() {
-			return timeouts.getTimeoutInSecs(story);
+			// looked up once, as the timeouts notify the monitor of the lookup
+			if (timeoutInSecs == null) {
+				timeoutInSecs = timeouts.getTimeoutInSecs(story);
+			}
+			return timeoutInSecs;
 		}
 
 	}
@@ -356,6 +621,7 @@ public class StoryManager {
 		private EnqueuedStory enqueuedStory;
 		private Future<ThrowableStory> future;
 		private StoryDuration duration;
+		private volatile boolean timedOut;
 
 		public RunningStory(EnqueuedStory enqueuedStory,
 				Future<ThrowableStory> future) {
@@ -371,24 +637,33 @@ public class StoryManager {
 			return enqueuedStory.getStory();
 		}
 
-		public long getDurationInMillis() {
+		public synchronized long getDurationInMillis() {
 			if ( duration == null ){
 				return 0;
 			}
 			return duration.getDurationInSecs() * 1000;
 		}
 
-		public StoryDuration getDuration() {
+		public synchronized StoryDuration getDuration() {
 			if (duration == null) {
 				duration = new StoryDuration(enqueuedStory.getStartedAtMillis(), enqueuedStory.getTimeoutInSecs());
 			}
 			return duration;
 		}
 
-		public void updateDuration() {
+		public synchronized void updateDuration() {
 			duration.update();
 		}
 
+		synchronized StoryDuration timedOut() {
+			timedOut = true;
+			return getDuration().update();
+		}
+
+		public boolean isTimedOut() {
+			return timedOut;
+		}
+
 		public boolean isDone() {
 			return future.isDone();
 		}
@@ -16,6 +16,7 @@ import org.jbehave.core.failures.RestartingScenarioFailure;
 import org.jbehave.core.failures.RestartingStoryFailure;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTable.RowIterator;
 import org.jbehave.core.model.GivenStories;
 import org.jbehave.core.model.GivenStory;
 import org.jbehave.core.model.Lifecycle;
@@ -455,18 +456,24 @@ public class StoryRunner {
         ExamplesTable table = scenario.getExamplesTable();
         reporter.get().beforeExamples(scenario.getSteps(), table);
     	Keywords keywords = context.configuration().keywords();
-        for (Map<String, String> scenarioParameters : table.getRows()) {
-			Meta parameterMeta = parameterMeta(keywords, scenarioParameters);
-			if ( !parameterMeta.isEmpty() && !context.filter.allow(parameterMeta) ){
-				continue;
-			}
-            reporter.get().example(scenarioParameters);
-            if (context.configuration().storyControls().resetStateBeforeScenario()) {
-                context.resetState();
+        RowIterator rows = table.rowIterator();
+        try {
+            while (rows.hasNext()) {
+                Map<String, String> scenarioParameters = rows.next();
+                Meta parameterMeta = parameterMeta(keywords, scenarioParameters);
+                if ( !parameterMeta.isEmpty() && !context.filter.allow(parameterMeta) ){
+                    continue;
+                }
+                reporter.get().example(scenarioParameters);
+                if (context.configuration().storyControls().resetStateBeforeScenario()) {
+                    context.resetState();
+                }
+                runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.BEFORE, ScenarioType.EXAMPLE);
+                runStepsWithLifecycle(context, lifecycle, scenarioParameters, scenario, storyAndScenarioMeta);
+                runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.AFTER, ScenarioType.EXAMPLE);
             }
-            runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.BEFORE, ScenarioType.EXAMPLE);
-            runStepsWithLifecycle(context, lifecycle, scenarioParameters, scenario, storyAndScenarioMeta);
-            runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.AFTER, ScenarioType.EXAMPLE);
+        } finally {
+            rows.close();
         }
         reporter.get().afterExamples();
     }
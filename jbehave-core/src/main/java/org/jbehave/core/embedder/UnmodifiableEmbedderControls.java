@@ -71,6 +71,16 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         return delegate.threads();
     }
 
+    @Override
+    public int parsingThreads() {
+        return delegate.parsingThreads();
+    }
+
+    @Override
+    public boolean pipelineStories() {
+        return delegate.pipelineStories();
+    }
+
     @Override
     public EmbedderControls doBatch(boolean batch) {
         throw notAllowed();
@@ -121,6 +131,16 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         throw notAllowed();
     }
 
+    @Override
+    public EmbedderControls useParsingThreads(int parsingThreads) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doPipelineStories(boolean pipelineStories) {
+        throw notAllowed();
+    }
+
     private RuntimeException notAllowed() {
         return new ModificationNotAllowed();
     }
@@ -2,6 +2,8 @@ package org.jbehave.core.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -11,7 +13,7 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 /**
  * Loads story resources from classpath
  */
-public class LoadFromClasspath implements StoryLoader {
+public class LoadFromClasspath implements StoryLoader, ReaderResourceLoader {
 
     private final Charset charset;
 
@@ -70,6 +72,10 @@ public class LoadFromClasspath implements StoryLoader {
         }
     }
 
+    public Reader loadResourceAsReader(String resourcePath) {
+        return new InputStreamReader(resourceAsStream(resourcePath), charset);
+    }
+
     public String loadStoryAsText(String storyPath) {
         return loadResourceAsText(storyPath);
     }
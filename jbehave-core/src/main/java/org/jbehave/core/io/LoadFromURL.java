@@ -2,12 +2,15 @@ package org.jbehave.core.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Loads story resources from URL
  */
-public class LoadFromURL implements ResourceLoader, StoryLoader {
+public class LoadFromURL implements ResourceLoader, StoryLoader, ReaderResourceLoader {
 
     public String loadResourceAsText(String resourcePath) {
         try {
@@ -17,6 +20,14 @@ public class LoadFromURL implements ResourceLoader, StoryLoader {
         }
     }
 
+    public Reader loadResourceAsReader(String resourcePath) {
+        try {
+            return new InputStreamReader(resourceAsStream(resourcePath), StandardCharsets.UTF_8);
+        } catch (Exception cause) {
+            throw new InvalidStoryResource(resourcePath, cause);
+        }
+    }
+
     public String loadStoryAsText(String storyPath) {
         return loadResourceAsText(storyPath);
     }
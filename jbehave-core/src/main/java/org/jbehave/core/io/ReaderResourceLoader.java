@@ -0,0 +1,20 @@
+package org.jbehave.core.io;
+
+import java.io.Reader;
+
+/**
+ * Loads resources as a {@link Reader}, allowing resources too large to be
+ * held as text to be read as they are consumed.
+ */
+public interface ReaderResourceLoader extends ResourceLoader {
+
+    /**
+     * Opens a reader of the resource, which the caller is responsible for
+     * closing
+     * 
+     * @param resourcePath the resource path
+     * @return The Reader of the resource
+     */
+    Reader loadResourceAsReader(String resourcePath);
+
+}
@@ -0,0 +1,396 @@
+package org.jbehave.core.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Holds the values of the rows of an {@link ExamplesTable} by column, each
+ * column keeping the values of all the rows in an array. The rows are provided
+ * as views of the columns, rather than as copies, and values put in a row view
+ * are written through to the columns. Values put for a name which is not a
+ * column are kept for that row only. A column removed from a row view is
+ * removed from that row only, until a value is put for it again.
+ */
+class ColumnarTable {
+
+    private static final String EMPTY_VALUE = "";
+    // marks a column removed from a row, compared by identity
+    private static final String REMOVED_VALUE = new String("");
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Map<String, String[]> columns;
+    private final Map<Integer, Map<String, String>> rowOnlyValues;
+    private int capacity;
+    private int rowCount;
+
+    ColumnarTable() {
+        this.columns = new LinkedHashMap<>();
+        this.rowOnlyValues = new HashMap<>();
+        this.capacity = INITIAL_CAPACITY;
+    }
+
+    ColumnarTable(ColumnarTable other) {
+        this.columns = new LinkedHashMap<>();
+        for (Entry<String, String[]> column : other.columns.entrySet()) {
+            this.columns.put(column.getKey(), column.getValue().clone());
+        }
+        this.rowOnlyValues = new HashMap<>();
+        for (Entry<Integer, Map<String, String>> values : other.rowOnlyValues.entrySet()) {
+            this.rowOnlyValues.put(values.getKey(), new LinkedHashMap<>(values.getValue()));
+        }
+        this.capacity = other.capacity;
+        this.rowCount = other.rowCount;
+    }
+
+    void clear() {
+        columns.clear();
+        rowOnlyValues.clear();
+        capacity = INITIAL_CAPACITY;
+        rowCount = 0;
+    }
+
+    /**
+     * Replaces the rows by the rows of another table, which may have been
+     * built from views of the rows being replaced
+     */
+    void replaceWith(ColumnarTable other) {
+        columns.clear();
+        columns.putAll(other.columns);
+        rowOnlyValues.clear();
+        rowOnlyValues.putAll(other.rowOnlyValues);
+        capacity = other.capacity;
+        rowCount = other.rowCount;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    int columnCount() {
+        return columns.size();
+    }
+
+    void addColumns(Collection<String> headers) {
+        for (String header : headers) {
+            if (!columns.containsKey(header)) {
+                columns.put(header, new String[capacity]);
+            }
+        }
+    }
+
+    /**
+     * Adds a row of values by position, ignoring the values beyond the
+     * headers. Values equal to a value already held in the distinct values
+     * are replaced by it, so that they are stored only once.
+     */
+    void addRow(List<String> headers, List<String> values, Map<String, String> distinctValues) {
+        int row = newRow();
+        int size = Math.min(headers.size(), values.size());
+        for (int column = 0; column < size; column++) {
+            columns.get(headers.get(column))[row] = distinct(values.get(column), distinctValues);
+        }
+    }
+
+    void addRow(Map<String, String> values) {
+        int row = newRow();
+        for (Entry<String, String> value : values.entrySet()) {
+            put(row, value.getKey(), value.getValue());
+        }
+    }
+
+    private String distinct(String value, Map<String, String> distinctValues) {
+        String distinct = distinctValues.get(value);
+        if (distinct == null) {
+            distinctValues.put(value, value);
+            return value;
+        }
+        return distinct;
+    }
+
+    private int newRow() {
+        if (rowCount == capacity) {
+            resize(capacity + (capacity >> 1) + 1);
+        }
+        return rowCount++;
+    }
+
+    /**
+     * Shrinks the columns to the number of rows, once all rows are added
+     */
+    void trimToSize() {
+        if (capacity > rowCount) {
+            resize(rowCount);
+        }
+    }
+
+    private void resize(int newCapacity) {
+        for (Entry<String, String[]> column : columns.entrySet()) {
+            column.setValue(Arrays.copyOf(column.getValue(), newCapacity));
+        }
+        capacity = newCapacity;
+    }
+
+    Map<String, String> row(int row) {
+        return new RowView(row);
+    }
+
+    private String get(int row, Object name) {
+        String[] column = columns.get(name);
+        if (column != null) {
+            return valueOf(column[row]);
+        }
+        Map<String, String> values = rowOnlyValues.get(row);
+        return values != null ? values.get(name) : null;
+    }
+
+    private String valueOf(String value) {
+        if (value == REMOVED_VALUE) {
+            return null;
+        }
+        return value != null ? value : EMPTY_VALUE;
+    }
+
+    private boolean isRemoved(int row, String name) {
+        return columns.get(name)[row] == REMOVED_VALUE;
+    }
+
+    private boolean contains(int row, Object name) {
+        String[] column = columns.get(name);
+        if (column != null) {
+            return column[row] != REMOVED_VALUE;
+        }
+        Map<String, String> values = rowOnlyValues.get(row);
+        return values != null && values.containsKey(name);
+    }
+
+    private String put(int row, String name, String value) {
+        String[] column = columns.get(name);
+        if (column != null) {
+            String previous = column[row];
+            column[row] = value;
+            return valueOf(previous);
+        }
+        Map<String, String> values = rowOnlyValues.get(row);
+        if (values == null) {
+            values = new LinkedHashMap<>();
+            rowOnlyValues.put(row, values);
+        }
+        return values.put(name, value);
+    }
+
+    private String remove(int row, Object name) {
+        String[] column = columns.get(name);
+        if (column != null) {
+            String previous = column[row];
+            column[row] = REMOVED_VALUE;
+            return valueOf(previous);
+        }
+        Map<String, String> values = rowOnlyValues.get(row);
+        return values != null ? values.remove(name) : null;
+    }
+
+    private int size(int row) {
+        int size = 0;
+        for (String[] column : columns.values()) {
+            if (column[row] != REMOVED_VALUE) {
+                size++;
+            }
+        }
+        Map<String, String> values = rowOnlyValues.get(row);
+        return size + (values != null ? values.size() : 0);
+    }
+
+    /**
+     * Serialises the rows as a list of maps, as they are read
+     */
+    private Object writeReplace() {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            rows.add(new LinkedHashMap<>(row(row)));
+        }
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                sb.append(", ");
+            }
+            sb.append(row(row));
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * A row of the table, reading and writing the values of the columns
+     */
+    private class RowView extends AbstractMap<String, String> {
+
+        private final int row;
+
+        private RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String get(Object name) {
+            return ColumnarTable.this.get(row, name);
+        }
+
+        @Override
+        public boolean containsKey(Object name) {
+            return contains(row, name);
+        }
+
+        @Override
+        public String put(String name, String value) {
+            return ColumnarTable.this.put(row, name, value);
+        }
+
+        @Override
+        public String remove(Object name) {
+            return ColumnarTable.this.remove(row, name);
+        }
+
+        @Override
+        public int size() {
+            return ColumnarTable.this.size(row);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new RowIterator(row);
+                }
+
+                @Override
+                public int size() {
+                    return ColumnarTable.this.size(row);
+                }
+
+            };
+        }
+
+    }
+
+    private class RowIterator implements Iterator<Entry<String, String>> {
+
+        private final int row;
+        private final Iterator<String> columnNames;
+        private final Iterator<Entry<String, String>> rowOnlyEntries;
+        private String nextColumn;
+        private String lastColumn;
+        private boolean lastRowOnly;
+
+        private RowIterator(int row) {
+            this.row = row;
+            this.columnNames = columns.keySet().iterator();
+            Map<String, String> values = rowOnlyValues.get(row);
+            this.rowOnlyEntries = values != null ? values.entrySet().iterator() : null;
+            this.nextColumn = nextColumn();
+        }
+
+        private String nextColumn() {
+            while (columnNames.hasNext()) {
+                String name = columnNames.next();
+                if (!isRemoved(row, name)) {
+                    return name;
+                }
+            }
+            return null;
+        }
+
+        public boolean hasNext() {
+            return nextColumn != null || (rowOnlyEntries != null && rowOnlyEntries.hasNext());
+        }
+
+        public Entry<String, String> next() {
+            if (nextColumn != null) {
+                lastColumn = nextColumn;
+                lastRowOnly = false;
+                nextColumn = nextColumn();
+                return new ColumnEntry(row, lastColumn);
+            }
+            if (rowOnlyEntries != null) {
+                Entry<String, String> entry = rowOnlyEntries.next();
+                lastColumn = null;
+                lastRowOnly = true;
+                return entry;
+            }
+            throw new NoSuchElementException();
+        }
+
+        public void remove() {
+            if (lastRowOnly) {
+                rowOnlyEntries.remove();
+                lastRowOnly = false;
+            } else if (lastColumn != null) {
+                ColumnarTable.this.remove(row, lastColumn);
+                lastColumn = null;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+    }
+
+    private class ColumnEntry implements Entry<String, String> {
+
+        private final int row;
+        private final String name;
+
+        private ColumnEntry(int row, String name) {
+            this.row = row;
+            this.name = name;
+        }
+
+        public String getKey() {
+            return name;
+        }
+
+        public String getValue() {
+            return get(row, name);
+        }
+
+        public String setValue(String value) {
+            return put(row, name, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> that = (Entry<?, ?>) o;
+            return name.equals(that.getKey()) && getValue().equals(that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + getValue();
+        }
+
+    }
+
+}
@@ -1,26 +1,29 @@
 package org.jbehave.core.model;
 
+import java.io.Closeable;
 import java.io.PrintStream;
-import java.lang.reflect.Field;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.jbehave.core.annotations.Parameter;
 import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.model.RowMappers.RowMapper;
 import org.jbehave.core.model.TableTransformers.TableTransformer;
 import org.jbehave.core.steps.ChainedRow;
 import org.jbehave.core.steps.ConvertedParameters;
+import org.jbehave.core.steps.DelimitedNamesTemplate;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters;
 import org.jbehave.core.steps.Parameters;
@@ -169,11 +172,15 @@ public class ExamplesTable {
     private final TableTransformers tableTransformers;
     private final Row defaults;
     private final List<String> headers = new ArrayList<>();
-    private final List<Map<String, String>> data = new ArrayList<>();
+    private final ColumnarTable data;
+    private final transient boolean hasDefaults;
     private ExamplesTableProperties properties;
     private String propertiesAsString = "";
     private Map<String, String> namedParameters = new HashMap<>();
     private ParameterControls parameterControls;
+    private transient RowMappers rowMappers;
+    // the templates of the cells containing delimited names, by cell text
+    private final transient ConcurrentMap<String, DelimitedNamesTemplate> cellTemplates = new ConcurrentHashMap<>();
 
     public ExamplesTable(String tableAsString) {
         this(tableAsString, HEADER_SEPARATOR, VALUE_SEPARATOR,
@@ -196,23 +203,65 @@ public class ExamplesTable {
         this.parameterControls = parameterControls;
         this.tableTransformers = tableTransformers;
         this.defaults = new ConvertedParameters(EMPTY_MAP, parameterConverters);
+        this.hasDefaults = false;
+        this.data = new ColumnarTable();
         parse(headerSeparator, valueSeparator, ignorableSeparator);
     }
 
+    /**
+     * Creates a table without rows, whose properties and headers are provided
+     * by the subclass, e.g. when the rows are not held by the table
+     */
+    ExamplesTable(ParameterConverters parameterConverters, ParameterControls parameterControls,
+            TableTransformers tableTransformers) {
+        this.tableAsString = EMPTY_VALUE;
+        this.parameterConverters = parameterConverters;
+        this.parameterControls = parameterControls;
+        this.tableTransformers = tableTransformers;
+        this.defaults = new ConvertedParameters(EMPTY_MAP, parameterConverters);
+        this.hasDefaults = false;
+        this.data = new ColumnarTable();
+    }
+
     private void parse(String headerSeparator, String valueSeparator, String ignorableSeparator) {
         String tableWithoutProperties = stripProperties(tableAsString.trim());
         properties = new ExamplesTableProperties(propertiesAsString, headerSeparator, valueSeparator, ignorableSeparator);
         parseTable(tableWithoutProperties);
     }
 
-    private ExamplesTable(ExamplesTable other, Row defaults) {
-        this.data.addAll(other.data);
+    ExamplesTable(ExamplesTable other, Row defaults) {
+        this.data = new ColumnarTable(other.data);
         this.tableAsString = other.tableAsString;
         this.parameterConverters = other.parameterConverters;
+        this.parameterControls = other.parameterControls;
         this.tableTransformers = other.tableTransformers;
+        this.namedParameters = other.namedParameters;
         this.headers.addAll(other.headers);
         this.properties = other.properties;
+        this.rowMappers = other.rowMappers;
         this.defaults = defaults;
+        this.hasDefaults = !defaults.values().isEmpty();
+    }
+
+    void useProperties(String propertiesAsString, ExamplesTableProperties properties) {
+        this.propertiesAsString = propertiesAsString;
+        this.properties = properties;
+    }
+
+    /**
+     * Uses the row mappers shared by the tables, e.g. of a factory, rather
+     * than the mappers of each invocation of {@link #getRowsAs(Class, Map)}
+     */
+    void useRowMappers(RowMappers rowMappers) {
+        this.rowMappers = rowMappers;
+    }
+
+    private RowMappers rowMappers() {
+        return rowMappers != null ? rowMappers : new RowMappers();
+    }
+
+    ExamplesTableProperties properties() {
+        return properties;
     }
 
     private String stripProperties(String tableAsString) {
@@ -234,8 +283,10 @@ public class ExamplesTable {
         parseByRows(headers, data, tableAsString);
     }
 
-    private void parseByRows(List<String> headers, List<Map<String, String>> data, String tableAsString) {
+    private void parseByRows(List<String> headers, ColumnarTable data, String tableAsString) {
         String[] rows = tableAsString.split(ROW_SEPARATOR_PATTERN);
+        // values repeated across rows are stored once
+        Map<String, String> distinctValues = new HashMap<>();
         for (int row = 0; row < rows.length; row++) {
             String rowAsString = rows[row];
             if (rowAsString.startsWith(properties.getIgnorableSeparator()) || rowAsString.length() == 0) {
@@ -243,21 +294,21 @@ public class ExamplesTable {
                 continue;
             } else if (headers.isEmpty()) {
                 headers.addAll(TableUtils.parseRow(rowAsString, true, properties));
+                data.addColumns(headers);
             } else {
                 List<String> columns = TableUtils.parseRow(rowAsString, false, properties);
-                Map<String, String> map = new LinkedHashMap<>();
-                for (int column = 0; column < columns.size(); column++) {
-                    if (column < headers.size()) {
-                        map.put(headers.get(column), columns.get(column));
-                    }
-                }
-                data.add(map);
+                data.addRow(headers, columns, distinctValues);
             }
         }
+        data.trimToSize();
     }
 
     public ExamplesTable withDefaults(Parameters defaults) {
-        return new ExamplesTable(this, new ChainedRow(defaults, this.defaults));
+        return withDefaults(new ChainedRow(defaults, this.defaults));
+    }
+
+    ExamplesTable withDefaults(Row defaults) {
+        return new ExamplesTable(this, defaults);
     }
 
     public ExamplesTable withNamedParameters(Map<String, String> namedParameters) {
@@ -266,20 +317,28 @@ public class ExamplesTable {
     }
 
     public ExamplesTable withRowValues(int row, Map<String, String> values) {
-        getRow(row).putAll(values);
+        Map<String, String> rowValues = getRow(row);
         for (String header : values.keySet()) {
             if (!headers.contains(header)) {
                 headers.add(header);
             }
         }
+        data.addColumns(headers);
+        rowValues.putAll(values);
         return this;
     }
 
     public ExamplesTable withRows(List<Map<String, String>> values) {
-        this.data.clear();
-        this.data.addAll(values);
+        List<String> firstRowHeaders = new ArrayList<>(values.get(0).keySet());
+        // the values may be views of the current rows
+        ColumnarTable rows = new ColumnarTable();
+        rows.addColumns(firstRowHeaders);
+        for (Map<String, String> rowValues : values) {
+            rows.addRow(rowValues);
+        }
+        this.data.replaceWith(rows);
         this.headers.clear();
-        this.headers.addAll(values.get(0).keySet());
+        this.headers.addAll(firstRowHeaders);
         return this;
     }
 
@@ -292,18 +351,14 @@ public class ExamplesTable {
     }
 
     public Map<String, String> getRow(int row) {
-        if (row > data.size() - 1) {
+        if (row < 0 || row > data.rowCount() - 1) {
             throw new RowNotFound(row);
         }
-        Map<String, String> values = data.get(row);
-        if (headers.size() != values.keySet().size()) {
-            for (String header : headers) {
-                if (!values.containsKey(header)) {
-                    values.put(header, EMPTY_VALUE);
-                }
-            }
+        if (headers.size() != data.columnCount()) {
+            // headers may have been added to the list since the table was parsed
+            data.addColumns(headers);
         }
-        return values;
+        return data.row(row);
     }
 
     public Parameters getRowAsParameters(int row) {
@@ -311,25 +366,44 @@ public class ExamplesTable {
     }
 
     public Parameters getRowAsParameters(int row, boolean replaceNamedParameters) {
-        Map<String, String> rowValues = getRow(row);
+        return rowAsParameters(getRow(row), replaceNamedParameters);
+    }
+
+    private Parameters rowAsParameters(Map<String, String> rowValues, boolean replaceNamedParameters) {
         return createParameters(replaceNamedParameters ? replaceNamedParameters(rowValues) : rowValues);
     }
 
     private Map<String, String> replaceNamedParameters(Map<String, String> row) {
         Map<String, String> replaced = new LinkedHashMap<>();
+        if (namedParameters.isEmpty()) {
+            replaced.putAll(row);
+            return replaced;
+        }
+        StringBuilder buffer = new StringBuilder();
         for (Entry<String, String> rowEntry : row.entrySet()) {
             String replacedValue = rowEntry.getValue();
-            for (Entry<String, String> namedParameter : namedParameters.entrySet()) {
-                replacedValue = parameterControls.replaceAllDelimitedNames(replacedValue, namedParameter.getKey(),
-                        namedParameter.getValue());
+            if (replacedValue != null && replacedValue.contains(parameterControls.nameDelimiterLeft())) {
+                replacedValue = cellTemplate(replacedValue).replace(namedParameters, "", "", buffer);
             }
             replaced.put(rowEntry.getKey(), replacedValue);
         }
         return replaced;
     }
 
+    private DelimitedNamesTemplate cellTemplate(String cell) {
+        DelimitedNamesTemplate template = cellTemplates.get(cell);
+        if (template == null) {
+            template = parameterControls.delimitedNamesTemplate(cell);
+            DelimitedNamesTemplate existing = cellTemplates.putIfAbsent(cell, template);
+            if (existing != null) {
+                template = existing;
+            }
+        }
+        return template;
+    }
+
     public int getRowCount() {
-        return data.size();
+        return data.rowCount();
     }
 
     public boolean metaByRow(){
@@ -344,6 +418,28 @@ public class ExamplesTable {
         return rows;
     }
 
+    /**
+     * Returns whether the rows are read from their source as they are
+     * iterated, rather than held by the table
+     * 
+     * @return A boolean, <code>true</code> if the rows are streamed
+     */
+    public boolean isStreamed() {
+        return false;
+    }
+
+    /**
+     * Iterates over the rows, without requiring all of them to be held at once
+     * if the table is {@link #isStreamed() streamed}. The iterator must be
+     * closed if the iteration is stopped before the last row, so that the
+     * resource of a streamed table is released.
+     * 
+     * @return The RowIterator of the rows
+     */
+    public RowIterator rowIterator() {
+        return new RowsIterator(getRows().iterator());
+    }
+
     public List<Parameters> getRowsAsParameters() {
         return getRowsAsParameters(false);
     }
@@ -351,8 +447,13 @@ public class ExamplesTable {
     public List<Parameters> getRowsAsParameters(boolean replaceNamedParameters) {
         List<Parameters> rows = new ArrayList<>();
 
-        for (int row = 0; row < getRowCount(); row++) {
-            rows.add(getRowAsParameters(row, replaceNamedParameters));
+        RowIterator iterator = rowIterator();
+        try {
+            while (iterator.hasNext()) {
+                rows.add(rowAsParameters(iterator.next(), replaceNamedParameters));
+            }
+        } finally {
+            iterator.close();
         }
 
         return rows;
@@ -363,53 +464,25 @@ public class ExamplesTable {
     }
 
     public <T> List<T> getRowsAs(Class<T> type, Map<String, String> fieldNameMapping) {
+        RowMapper<T> mapper = rowMappers().mapperFor(type, fieldNameMapping);
         List<T> rows = new ArrayList<>();
 
-        for (Parameters parameters : getRowsAsParameters()) {
-            rows.add(mapToType(parameters, type, fieldNameMapping));
-        }
-
-        return rows;
-    }
-
-    private <T> T mapToType(Parameters parameters, Class<T> type, Map<String, String> fieldNameMapping) {
+        RowIterator iterator = rowIterator();
         try {
-            T instance = type.newInstance();
-            Map<String, String> values = parameters.values();
-            for (String name : values.keySet()) {
-                Field field = findField(type, name, fieldNameMapping);
-                Type fieldType = field.getGenericType();
-                Object value = parameters.valueAs(name, fieldType);
-                field.setAccessible(true);
-                field.set(instance, value);
+            while (iterator.hasNext()) {
+                rows.add(mapper.map(createParameters(iterator.next())));
             }
-            return instance;
-        } catch (Exception e) {
-            throw new ParametersNotMappableToType(parameters, type, e);
+        } finally {
+            iterator.close();
         }
-    }
 
-    private <T> Field findField(Class<T> type, String name, Map<String, String> fieldNameMapping)
-            throws NoSuchFieldException {
-        // Get field name from mapping, if specified
-        String fieldName = fieldNameMapping.get(name);
-        if (fieldName == null) {
-            fieldName = name;
-        }
-        // First look for fields annotated by @Parameter specifying the name
-        for (Field field : type.getDeclaredFields()) {
-            if (field.isAnnotationPresent(Parameter.class)) {
-                Parameter parameter = field.getAnnotation(Parameter.class);
-                if (fieldName.equals(parameter.name())) {
-                    return field;
-                }
-            }
-        }
-        // Default to field matching given name
-        return type.getDeclaredField(fieldName);
+        return rows;
     }
 
     private Parameters createParameters(Map<String, String> values) {
+        if (!hasDefaults) {
+            return new ConvertedParameters(values, parameterConverters);
+        }
         return new ConvertedParameters(new ChainedRow(new ConvertedParameters(values, parameterConverters), defaults),
                 parameterConverters);
     }
@@ -423,7 +496,7 @@ public class ExamplesTable {
     }
 
     public String asString() {
-        if (data.isEmpty()) {
+        if (getRowCount() == 0) {
             return EMPTY_VALUE;
         }
         return format();
@@ -442,11 +515,17 @@ public class ExamplesTable {
             sb.append(getHeaderSeparator()).append(header);
         }
         sb.append(getHeaderSeparator()).append(properties.getRowSeparator());
-        for (Map<String, String> row : getRows()) {
-            for (String header : headers) {
-                sb.append(getValueSeparator()).append(row.get(header));
+        RowIterator rows = rowIterator();
+        try {
+            while (rows.hasNext()) {
+                Map<String, String> row = rows.next();
+                for (String header : headers) {
+                    sb.append(getValueSeparator()).append(row.get(header));
+                }
+                sb.append(getValueSeparator()).append(properties.getRowSeparator());
             }
-            sb.append(getValueSeparator()).append(properties.getRowSeparator());
+        } finally {
+            rows.close();
         }
         return sb.toString();
     }
@@ -456,6 +535,46 @@ public class ExamplesTable {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
     }
 
+    /**
+     * Iterates over the rows of a table, holding the resource of a streamed
+     * table open until the last row is read or the iterator is closed
+     */
+    public interface RowIterator extends Iterator<Map<String, String>>, Closeable {
+
+        /**
+         * Releases the resource the rows are read from, if any
+         */
+        @Override
+        void close();
+
+    }
+
+    private static class RowsIterator implements RowIterator {
+
+        private final Iterator<Map<String, String>> rows;
+
+        private RowsIterator(Iterator<Map<String, String>> rows) {
+            this.rows = rows;
+        }
+
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        public Map<String, String> next() {
+            return rows.next();
+        }
+
+        public void remove() {
+            rows.remove();
+        }
+
+        public void close() {
+            // nothing to release
+        }
+
+    }
+
     @SuppressWarnings("serial")
     public static class RowNotFound extends RuntimeException {
         public RowNotFound(int row) {
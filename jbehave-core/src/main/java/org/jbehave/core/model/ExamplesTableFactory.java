@@ -3,6 +3,7 @@ package org.jbehave.core.model;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.io.ReaderResourceLoader;
 import org.jbehave.core.io.ResourceLoader;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters;
@@ -27,6 +28,13 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * configured in the
  * {@link Configuration#useParameterConverters(ParameterConverters)}.
  * </p>
+ * <p>
+ * Tables loaded from resources can be streamed, via
+ * {@link #useStreamedResources(boolean)}, if the {@link ResourceLoader} is a
+ * {@link ReaderResourceLoader}: the rows of the {@link StreamedExamplesTable}
+ * are then read from the resource as they are iterated, rather than loaded
+ * into memory when the table is created.
+ * </p>
  */
 public class ExamplesTableFactory {
 
@@ -35,6 +43,8 @@ public class ExamplesTableFactory {
     private final ParameterConverters parameterConverters;
     private final ParameterControls parameterControls;
     private final TableTransformers tableTransformers;
+    private final RowMappers rowMappers = new RowMappers();
+    private boolean streamedResources = false;
 
     public ExamplesTableFactory(ResourceLoader resourceLoader, TableTransformers tableTransformers) {
         this(new LocalizedKeywords(), resourceLoader, tableTransformers);
@@ -73,11 +83,25 @@ public class ExamplesTableFactory {
         if (isBlank(input) || isTable(input)) {
             tableAsString = input;
         } else {
+            if (streamedResources && resourceLoader instanceof ReaderResourceLoader) {
+                StreamedExamplesTable table = new StreamedExamplesTable(input,
+                        (ReaderResourceLoader) resourceLoader, keywords.examplesTableHeaderSeparator(),
+                        keywords.examplesTableValueSeparator(), keywords.examplesTableIgnorableSeparator(),
+                        parameterConverters, parameterControls, tableTransformers);
+                if (table.properties().getTransformer() == null) {
+                    table.useRowMappers(rowMappers);
+                    return table;
+                }
+                // tables to transform are loaded as text
+            }
             tableAsString = resourceLoader.loadResourceAsText(input);
         }
-        return new ExamplesTable(tableAsString, keywords.examplesTableHeaderSeparator(),
+        ExamplesTable table = new ExamplesTable(tableAsString, keywords.examplesTableHeaderSeparator(),
                 keywords.examplesTableValueSeparator(), keywords.examplesTableIgnorableSeparator(),
                 parameterConverters, parameterControls, tableTransformers);
+        // the tables of the factory share the mappers of their rows to types
+        table.useRowMappers(rowMappers);
+        return table;
     }
 
     protected boolean isTable(String input) {
@@ -85,6 +109,14 @@ public class ExamplesTableFactory {
                 || ExamplesTable.INLINED_PROPERTIES_PATTERN.matcher(input).matches();
     }
 
+    public void useStreamedResources(boolean streamedResources) {
+        this.streamedResources = streamedResources;
+    }
+
+    public boolean streamedResources() {
+        return streamedResources;
+    }
+
     public void useKeywords(Keywords keywords){
         this.keywords = keywords;
     }
@@ -3,6 +3,7 @@ package org.jbehave.core.model;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,7 +46,7 @@ public class GivenStories {
         }
         Map<String, String> parameters = null;
         if ( examplesRow > -1 && examplesTable != null && examplesRow < examplesTable.getRowCount() ){
-             parameters = examplesTable.getRow(examplesRow);
+             parameters = new LinkedHashMap<>(examplesTable.getRow(examplesRow));
         }
         if ( parameters == null ){
             return new HashMap<>();
@@ -0,0 +1,201 @@
+package org.jbehave.core.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jbehave.core.annotations.Parameter;
+import org.jbehave.core.model.ExamplesTable.ParametersNotMappableToType;
+import org.jbehave.core.steps.Parameters;
+
+/**
+ * Caches the {@link RowMapper}s which map the rows of an {@link ExamplesTable}
+ * to instances of a type, by type and field name mapping, so that the
+ * constructor and the fields of the type are looked up once rather than for
+ * each row mapped.
+ */
+class RowMappers {
+
+    private final ConcurrentMap<Key, RowMapper<?>> mappers = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> RowMapper<T> mapperFor(Class<T> type, Map<String, String> fieldNameMapping) {
+        Key key = new Key(type, fieldNameMapping);
+        RowMapper<?> mapper = mappers.get(key);
+        if (mapper == null) {
+            mapper = new RowMapper<>(type, key.fieldNameMapping);
+            RowMapper<?> existing = mappers.putIfAbsent(key, mapper);
+            if (existing != null) {
+                mapper = existing;
+            }
+        }
+        return (RowMapper<T>) mapper;
+    }
+
+    /**
+     * Maps rows to new instances of a type, setting the field of each row
+     * value converted to the type of the field. The fields are found by name
+     * when first mapped, either by the name of their {@link Parameter}
+     * annotation or by their own name.
+     */
+    static class RowMapper<T> {
+
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class,
+                Object.class);
+
+        private final Class<T> type;
+        private final Map<String, String> fieldNameMapping;
+        private final MethodHandle constructor;
+        private final ConcurrentMap<String, FieldSetter> setters = new ConcurrentHashMap<>();
+
+        private RowMapper(Class<T> type, Map<String, String> fieldNameMapping) {
+            this.type = type;
+            this.fieldNameMapping = fieldNameMapping;
+            this.constructor = constructorOf(type);
+        }
+
+        private static MethodHandle constructorOf(Class<?> type) {
+            try {
+                return MethodHandles.lookup().unreflectConstructor(type.getDeclaredConstructor())
+                        .asType(MethodType.methodType(Object.class));
+            } catch (Exception e) {
+                // instances are created by the type, failing as it would
+                return null;
+            }
+        }
+
+        T map(Parameters parameters) {
+            try {
+                T instance = newInstance();
+                for (String name : parameters.values().keySet()) {
+                    FieldSetter setter = setterFor(name);
+                    setter.set(instance, parameters.valueAs(name, setter.fieldType));
+                }
+                return instance;
+            } catch (Throwable e) {
+                throw new ParametersNotMappableToType(parameters, type, asException(e));
+            }
+        }
+
+        private T newInstance() throws Throwable {
+            if (constructor != null) {
+                return type.cast((Object) constructor.invokeExact());
+            }
+            return type.newInstance();
+        }
+
+        private FieldSetter setterFor(String name) throws NoSuchFieldException {
+            FieldSetter setter = setters.get(name);
+            if (setter == null) {
+                setter = new FieldSetter(findField(name));
+                setters.putIfAbsent(name, setter);
+            }
+            return setter;
+        }
+
+        private Field findField(String name) throws NoSuchFieldException {
+            // Get field name from mapping, if specified
+            String fieldName = fieldNameMapping.get(name);
+            if (fieldName == null) {
+                fieldName = name;
+            }
+            // First look for fields annotated by @Parameter specifying the name
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Parameter.class)) {
+                    Parameter parameter = field.getAnnotation(Parameter.class);
+                    if (fieldName.equals(parameter.name())) {
+                        return field;
+                    }
+                }
+            }
+            // Default to field matching given name
+            return type.getDeclaredField(fieldName);
+        }
+
+        private static Exception asException(Throwable e) {
+            if (e instanceof Exception) {
+                return (Exception) e;
+            }
+            return new RuntimeException(e);
+        }
+
+        /**
+         * Sets the value of a field, via a method handle if the field allows
+         * it or else via reflection
+         */
+        private static class FieldSetter {
+
+            private final Field field;
+            private final Type fieldType;
+            private final MethodHandle setter;
+
+            private FieldSetter(Field field) {
+                this.field = field;
+                this.fieldType = field.getGenericType();
+                field.setAccessible(true);
+                this.setter = setterOf(field);
+            }
+
+            private static MethodHandle setterOf(Field field) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    return null;
+                }
+                try {
+                    return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+                } catch (IllegalAccessException e) {
+                    return null;
+                }
+            }
+
+            private void set(Object instance, Object value) throws Throwable {
+                if (setter != null) {
+                    try {
+                        setter.invokeExact(instance, value);
+                        return;
+                    } catch (ClassCastException e) {
+                        // values requiring a widening conversion are set by reflection
+                    } catch (NullPointerException e) {
+                        // null values of primitive fields are rejected by reflection
+                    }
+                }
+                field.set(instance, value);
+            }
+
+        }
+
+    }
+
+    private static class Key {
+
+        private final Class<?> type;
+        private final Map<String, String> fieldNameMapping;
+
+        private Key(Class<?> type, Map<String, String> fieldNameMapping) {
+            this.type = type;
+            this.fieldNameMapping = new HashMap<>(fieldNameMapping);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return type.equals(that.type) && fieldNameMapping.equals(that.fieldNameMapping);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + fieldNameMapping.hashCode();
+        }
+
+    }
+
+}
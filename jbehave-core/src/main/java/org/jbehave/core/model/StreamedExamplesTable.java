@@ -0,0 +1,380 @@
+package org.jbehave.core.model;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jbehave.core.io.InvalidStoryResource;
+import org.jbehave.core.io.ReaderResourceLoader;
+import org.jbehave.core.steps.ParameterControls;
+import org.jbehave.core.steps.ParameterConverters;
+import org.jbehave.core.steps.Row;
+
+/**
+ * <p>
+ * An {@link ExamplesTable} whose rows are not held in memory but read from the
+ * resource, via the {@link ReaderResourceLoader}, each time they are iterated.
+ * Only the properties and the headers are read when the table is created, so
+ * that tables too large to be held in memory can be iterated one row at a
+ * time via {@link #rowIterator()}. Methods returning all the rows, such as
+ * {@link #getRows()}, read them all into memory, as do the reporters which
+ * hold the whole story, e.g. the {@link org.jbehave.core.reporters.TemplateableOutput}s.
+ * </p>
+ * <p>
+ * The format of the resource is determined by its extension:
+ * <ul>
+ * <li>".csv": comma-separated values, with values optionally enclosed by
+ * double quotes, as described by RFC 4180</li>
+ * <li>".tsv": tab-separated values</li>
+ * <li>any other extension: the separators of the {@link ExamplesTable}</li>
+ * </ul>
+ * In all formats, empty lines are ignored and the first line may specify the
+ * inlined properties, e.g. <code>{metaByRow=true}</code>. The "transformer"
+ * property is not supported, as it requires the table as text.
+ * </p>
+ * <p>
+ * The rows cannot be modified, and {@link #withRowValues(int, Map)} and
+ * {@link #withRows(List)} throw an {@link UnsupportedOperationException}.
+ * </p>
+ */
+public class StreamedExamplesTable extends ExamplesTable {
+
+    private static final String NONE = "";
+
+    private enum Format {
+        SEPARATED, CSV, TSV
+    }
+
+    private final String resourcePath;
+    private final transient ReaderResourceLoader resourceLoader;
+    private final Format format;
+    private int rowCount = -1;
+
+    public StreamedExamplesTable(String resourcePath, ReaderResourceLoader resourceLoader, String headerSeparator,
+            String valueSeparator, String ignorableSeparator, ParameterConverters parameterConverters,
+            ParameterControls parameterControls, TableTransformers tableTransformers) {
+        super(parameterConverters, parameterControls, tableTransformers);
+        this.resourcePath = resourcePath;
+        this.resourceLoader = resourceLoader;
+        this.format = formatOf(resourcePath);
+        Records records = new Records();
+        try {
+            String propertiesAsString = records.readProperties();
+            useProperties(propertiesAsString, new ExamplesTableProperties(propertiesAsString, headerSeparator,
+                    valueSeparator, ignorableSeparator));
+            List<String> headers = records.next(true);
+            if (headers != null) {
+                getHeaders().addAll(headers);
+            }
+        } finally {
+            records.close();
+        }
+    }
+
+    private StreamedExamplesTable(StreamedExamplesTable other, Row defaults) {
+        super(other, defaults);
+        this.resourcePath = other.resourcePath;
+        this.resourceLoader = other.resourceLoader;
+        this.format = other.format;
+        this.rowCount = other.rowCount;
+    }
+
+    private static Format formatOf(String resourcePath) {
+        String path = resourcePath.toLowerCase(Locale.ENGLISH);
+        if (path.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (path.endsWith(".tsv")) {
+            return Format.TSV;
+        }
+        return Format.SEPARATED;
+    }
+
+    public String getResourcePath() {
+        return resourcePath;
+    }
+
+    @Override
+    ExamplesTable withDefaults(Row defaults) {
+        return new StreamedExamplesTable(this, defaults);
+    }
+
+    @Override
+    public ExamplesTable withRowValues(int row, Map<String, String> values) {
+        throw new UnsupportedOperationException("Rows of streamed table " + resourcePath + " cannot be modified");
+    }
+
+    @Override
+    public ExamplesTable withRows(List<Map<String, String>> values) {
+        throw new UnsupportedOperationException("Rows of streamed table " + resourcePath + " cannot be modified");
+    }
+
+    @Override
+    public boolean isStreamed() {
+        return true;
+    }
+
+    @Override
+    public RowIterator rowIterator() {
+        return new ReaderRowIterator();
+    }
+
+    /**
+     * Reads the resource up to the given row each time it is invoked, i.e.
+     * costs a scan of the resource: use {@link #rowIterator()} rather than
+     * getting each row by its position.
+     */
+    @Override
+    public Map<String, String> getRow(int row) {
+        if (row >= 0) {
+            RowIterator rows = rowIterator();
+            try {
+                for (int index = 0; rows.hasNext(); index++) {
+                    Map<String, String> values = rows.next();
+                    if (index == row) {
+                        return values;
+                    }
+                }
+            } finally {
+                rows.close();
+            }
+        }
+        throw new RowNotFound(row);
+    }
+
+    /**
+     * Counts the rows with a full scan of the resource when first invoked, the
+     * count being cached for the following invocations, including by the
+     * tables with defaults created from this table after the first invocation.
+     */
+    @Override
+    public int getRowCount() {
+        if (rowCount == -1) {
+            int count = 0;
+            Records records = new Records();
+            try {
+                records.readProperties();
+                if (records.next(true) != null) {
+                    while (records.next(false) != null) {
+                        count++;
+                    }
+                }
+            } finally {
+                records.close();
+            }
+            rowCount = count;
+        }
+        return rowCount;
+    }
+
+    @Override
+    public List<Map<String, String>> getRows() {
+        List<Map<String, String>> rows = new ArrayList<>();
+        RowIterator iterator = rowIterator();
+        try {
+            while (iterator.hasNext()) {
+                rows.add(iterator.next());
+            }
+        } finally {
+            iterator.close();
+        }
+        return rows;
+    }
+
+    /**
+     * Iterates over the rows, reading them from a reader of the resource
+     * opened when the iterator is created and closed once the last row is
+     * read, or when the iterator is closed.
+     */
+    private class ReaderRowIterator implements RowIterator {
+
+        private final Records records = new Records();
+        private final List<String> headers = getHeaders();
+        private Map<String, String> next;
+
+        private ReaderRowIterator() {
+            try {
+                records.readProperties();
+                if (records.next(true) != null) {
+                    next = readRow();
+                }
+            } finally {
+                if (next == null) {
+                    close();
+                }
+            }
+        }
+
+        private Map<String, String> readRow() {
+            List<String> values = records.next(false);
+            if (values == null) {
+                close();
+                return null;
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int column = 0; column < headers.size(); column++) {
+                row.put(headers.get(column), column < values.size() ? values.get(column) : NONE);
+            }
+            return row;
+        }
+
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        public Map<String, String> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map<String, String> row = next;
+            next = readRow();
+            return row;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void close() {
+            records.close();
+        }
+
+    }
+
+    /**
+     * Reads the records of the resource, each record being the list of values
+     * of the headers or of a row
+     */
+    private class Records implements Closeable {
+
+        private final BufferedReader reader;
+        private String pushedBack;
+
+        private Records() {
+            this.reader = new BufferedReader(resourceLoader.loadResourceAsReader(resourcePath));
+        }
+
+        /**
+         * Reads the inlined properties, if the first line specifies them
+         *
+         * @return The properties as String, or an empty String if none
+         */
+        String readProperties() {
+            String line = nextLine();
+            if (line != null) {
+                Matcher matcher = INLINED_PROPERTIES_PATTERN.matcher(line.trim());
+                if (matcher.matches()) {
+                    String remaining = matcher.group(2);
+                    pushedBack = remaining.isEmpty() ? null : remaining;
+                    return matcher.group(1);
+                }
+                pushedBack = line;
+            }
+            return NONE;
+        }
+
+        List<String> next(boolean header) {
+            String line;
+            while ((line = nextLine()) != null) {
+                if (StringUtils.isBlank(line)) {
+                    continue;
+                }
+                switch (format) {
+                case CSV:
+                    return csvValues(line);
+                case TSV:
+                    return values(line.split("\t", -1));
+                default:
+                    if (line.startsWith(properties().getIgnorableSeparator())) {
+                        continue;
+                    }
+                    return TableUtils.parseRow(line, header, properties());
+                }
+            }
+            return null;
+        }
+
+        private List<String> csvValues(String line) {
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            int index = 0;
+            while (true) {
+                if (index == line.length()) {
+                    String nextLine = quoted ? nextLine() : null;
+                    if (nextLine == null) {
+                        break;
+                    }
+                    // a quoted value may span several lines
+                    value.append('\n');
+                    line = nextLine;
+                    index = 0;
+                    continue;
+                }
+                char c = line.charAt(index++);
+                if (quoted) {
+                    if (c != '"') {
+                        value.append(c);
+                    } else if (index < line.length() && line.charAt(index) == '"') {
+                        value.append(c);
+                        index++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value(value.toString()));
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            values.add(value(value.toString()));
+            return values;
+        }
+
+        private List<String> values(String[] values) {
+            List<String> list = new ArrayList<>(values.length);
+            for (String value : values) {
+                list.add(value(value));
+            }
+            return list;
+        }
+
+        private String value(String value) {
+            return properties().isTrim() ? value.trim() : value;
+        }
+
+        private String nextLine() {
+            if (pushedBack != null) {
+                String line = pushedBack;
+                pushedBack = null;
+                return line;
+            }
+            try {
+                return reader.readLine();
+            } catch (IOException e) {
+                throw new InvalidStoryResource(resourcePath, e);
+            }
+        }
+
+        public void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // ignore failure to close
+            }
+        }
+
+    }
+
+}
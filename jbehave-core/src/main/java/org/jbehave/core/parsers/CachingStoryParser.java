@@ -0,0 +1,127 @@
+package org.jbehave.core.parsers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jbehave.core.model.Story;
+
+/**
+ * <p>
+ * StoryParser decorator which caches the stories parsed by the delegate,
+ * keyed by the story path and a hash of the story text, so that a story
+ * referenced many times, e.g. as a given story of many scenarios, is parsed
+ * only once and parsed again only if its text changes. The stories parsed
+ * without a path are not cached.
+ * </p>
+ * <p>
+ * The cache holds at most a given number of stories, evicting the least
+ * recently used, and can be shared by concurrent threads, e.g.:
+ *
+ * <pre>
+ * configuration.useStoryParser(new CachingStoryParser(new RegexStoryParser(configuration)));
+ * </pre>
+ * </p>
+ * <p>
+ * Each lookup returns a copy of the cached story, so that its name, e.g. as
+ * resolved by {@link org.jbehave.core.model.StoryLanes}, is not shared between
+ * runs. The parts of the story, i.e. its scenarios, examples tables, given
+ * stories and lifecycle, are not copied and are shared by all the copies: they
+ * must not be modified once parsed, e.g. using
+ * {@link org.jbehave.core.model.ExamplesTable#withRowValues(int, Map)} or
+ * {@link org.jbehave.core.model.ExamplesTable#withRows(java.util.List)}.
+ * </p>
+ */
+public class CachingStoryParser implements StoryParser {
+
+    public static final int DEFAULT_MAX_STORIES = 1000;
+
+    private final StoryParser delegate;
+    private final Map<String, CachedStory> cache;
+
+    public CachingStoryParser(StoryParser delegate) {
+        this(delegate, DEFAULT_MAX_STORIES);
+    }
+
+    public CachingStoryParser(StoryParser delegate, final int maxStories) {
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<String, CachedStory>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStory> eldest) {
+                return size() > maxStories;
+            }
+        };
+    }
+
+    public Story parseStory(String storyAsText) {
+        return delegate.parseStory(storyAsText);
+    }
+
+    public Story parseStory(String storyAsText, String storyPath) {
+        if (storyPath == null) {
+            return delegate.parseStory(storyAsText, storyPath);
+        }
+        String hash = hashOf(storyAsText);
+        CachedStory cached;
+        synchronized (cache) {
+            cached = cache.get(storyPath);
+        }
+        if (cached != null && cached.hash.equals(hash)) {
+            return copyOf(cached.story);
+        }
+        // parsed outside the lock, so that different stories are parsed
+        // concurrently
+        Story story = delegate.parseStory(storyAsText, storyPath);
+        synchronized (cache) {
+            cache.put(storyPath, new CachedStory(hash, story));
+        }
+        return copyOf(story);
+    }
+
+    private Story copyOf(Story story) {
+        Story copy = story.cloneWithScenarios(new ArrayList<>(story.getScenarios()));
+        copy.namedAs(story.getName());
+        return copy;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private String hashOf(String storyAsText) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(storyAsText.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hash = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedStory {
+
+        private final String hash;
+        private final Story story;
+
+        private CachedStory(String hash, Story story) {
+            this.hash = hash;
+            this.story = story;
+        }
+
+    }
+
+}
@@ -0,0 +1,640 @@
+package org.jbehave.core.parsers;
+
+import static org.apache.commons.lang3.StringUtils.removeStart;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.io.InvalidStoryResource;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Lifecycle.Steps;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+
+/**
+ * <p>
+ * Story parser which reads the story line by line, without regex patterns,
+ * following the grammar (see <code>grammar.ebnf</code>). The story is read
+ * from a {@link Reader} and split into the text preceding the first scenario
+ * and the text of each scenario in a single pass, each scenario being parsed
+ * as soon as its text is read. The elements of the story and the scenarios are
+ * then found by scanning their text for the keywords.
+ * </p>
+ * <p>
+ * The examples table of a scenario is kept as text and only parsed when first
+ * accessed, unless required by the parametrised given stories of the scenario,
+ * so that the stories with large examples tables are parsed quickly.
+ * </p>
+ * <p>
+ * The parser produces the same stories as the {@link RegexStoryParser},
+ * including when the scenario keyword is found within a line, in which case
+ * the scenario starts at the keyword, and when the narrative is found after
+ * the first scenario keyword.
+ * </p>
+ */
+public class LineStoryParser implements StoryParser {
+
+    private static final String NONE = "";
+    private static final char NL = '\n';
+    private final Keywords keywords;
+    private final ExamplesTableFactory tableFactory;
+    private final String[] startingWordsOnNewLine;
+
+    public LineStoryParser() {
+        this(new LocalizedKeywords());
+    }
+
+    public LineStoryParser(Keywords keywords) {
+        this(keywords, new ExamplesTableFactory(keywords, RegexStoryParser.DEFAULT_RESOURCE_LOADER,
+                RegexStoryParser.DEFAULT_TABLE_TRANSFORMERS));
+    }
+
+    public LineStoryParser(ExamplesTableFactory tableFactory) {
+        this(tableFactory.keywords(), tableFactory);
+    }
+
+    public LineStoryParser(Keywords keywords, ExamplesTableFactory tableFactory) {
+        this.keywords = keywords;
+        this.tableFactory = tableFactory;
+        // must ensure that both are using same keywords
+        this.tableFactory.useKeywords(keywords);
+        this.startingWordsOnNewLine = onNewLine(keywords.startingWords());
+    }
+
+    public LineStoryParser(Configuration configuration) {
+        this.keywords = configuration.keywords();
+        this.tableFactory = new ExamplesTableFactory(configuration);
+        this.startingWordsOnNewLine = onNewLine(keywords.startingWords());
+    }
+
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    public Story parseStory(String storyAsText, String storyPath) {
+        return parseStory(new StringReader(storyAsText), storyPath);
+    }
+
+    /**
+     * Parses story from the reader of its textual representation and
+     * (optional) story path
+     *
+     * @param reader the Reader of the textual representation
+     * @param storyPath the story path, may be <code>null</code>
+     * @return The Story
+     */
+    public Story parseStory(Reader reader, String storyPath) {
+        try {
+            Story story = readStory(new LineReader(reader), storyPath);
+            if (storyPath != null) {
+                story.namedAs(new File(storyPath).getName());
+            }
+            return story;
+        } catch (IOException e) {
+            throw new InvalidStoryResource(storyPath, e);
+        }
+    }
+
+    private Story readStory(LineReader reader, String storyPath) throws IOException {
+        String scenarioKeyword = keywords.scenario();
+        String narrativeKeyword = keywords.narrative();
+        StringBuilder beforeScenario = new StringBuilder();
+        StringBuilder scenario = null;
+        List<Scenario> scenarios = new ArrayList<>();
+        // as found by the regex parser, the last section of the story holding
+        // a narrative ended by another element
+        String narrativeElements = null;
+        boolean firstLine = true;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            StringBuilder current = scenario != null ? scenario : beforeScenario;
+            if (!firstLine) {
+                current.append(NL);
+            }
+            firstLine = false;
+            // as when split by the regex parser, each occurrence of the
+            // keyword starts a scenario, wherever it is found in the line
+            int from = 0;
+            int keywordStart;
+            while ((keywordStart = line.indexOf(scenarioKeyword, from)) >= 0) {
+                // the text preceding the keyword ends the current section
+                current.append(line, from, keywordStart);
+                if (current.indexOf(narrativeKeyword) >= 0) {
+                    narrativeElements = current + scenarioKeyword;
+                }
+                if (scenario != null) {
+                    addScenario(scenarios, scenario.toString());
+                }
+                scenario = new StringBuilder();
+                current = scenario;
+                from = keywordStart + scenarioKeyword.length();
+            }
+            current.append(line, from, line.length());
+        }
+        String storyElements;
+        String givenStoriesAndLifecycle;
+        if (scenario != null) {
+            String lastScenario = scenario.toString();
+            addScenario(scenarios, lastScenario);
+            if (hasNarrative(lastScenario)) {
+                narrativeElements = lastScenario;
+            }
+            storyElements = beforeScenario + scenarioKeyword;
+            givenStoriesAndLifecycle = beforeScenario.toString();
+        } else {
+            // the story without scenario keyword is a scenario
+            addScenario(scenarios, beforeScenario.toString());
+            storyElements = beforeScenario.toString();
+            narrativeElements = storyElements;
+            givenStoriesAndLifecycle = NONE;
+        }
+        Description description = parseDescription(storyElements);
+        Meta meta = parseStoryMeta(beforeScenario.toString());
+        Narrative narrative = narrativeElements != null ? parseNarrative(narrativeElements) : Narrative.EMPTY;
+        GivenStories givenStories = parseGivenStories(givenStoriesAndLifecycle);
+        Lifecycle lifecycle = parseLifecycle(givenStoriesAndLifecycle);
+        return new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+    }
+
+    private void addScenario(List<Scenario> scenarios, String scenarioAsText) {
+        if (scenarioAsText.trim().length() > 0) {
+            scenarios.add(parseScenario(keywords.scenario() + NL + scenarioAsText));
+        }
+    }
+
+    private Description parseDescription(String storyElements) {
+        int end = indexOfAny(storyElements, 0, keywords.meta(), keywords.narrative(), keywords.lifecycle(),
+                keywords.scenario());
+        if (end < 0) {
+            return Description.EMPTY;
+        }
+        return new Description(storyElements.substring(0, end).trim());
+    }
+
+    private Meta parseStoryMeta(String beforeScenario) {
+        int start = beforeScenario.lastIndexOf(keywords.meta());
+        if (start < 0) {
+            return Meta.EMPTY;
+        }
+        start += keywords.meta().length();
+        int end = indexOfAny(beforeScenario, start, keywords.narrative(), keywords.lifecycle(),
+                keywords.givenStories());
+        String meta = beforeScenario.substring(start, end >= 0 ? end : beforeScenario.length());
+        return Meta.createMeta(meta.trim(), keywords);
+    }
+
+    private boolean hasNarrative(String text) {
+        int start = text.indexOf(keywords.narrative());
+        return start >= 0 && indexOfAny(text, start + keywords.narrative().length(), keywords.givenStories(),
+                keywords.lifecycle(), keywords.scenario()) >= 0;
+    }
+
+    private Narrative parseNarrative(String storyElements) {
+        String narrativeKeyword = keywords.narrative();
+        // the last narrative keyword which is followed by an element ending it
+        int start = storyElements.lastIndexOf(narrativeKeyword);
+        while (start >= 0) {
+            int end = indexOfAny(storyElements, start + narrativeKeyword.length(), keywords.givenStories(),
+                    keywords.lifecycle(), keywords.scenario());
+            if (end >= 0) {
+                return createNarrative(storyElements.substring(start + narrativeKeyword.length(), end).trim());
+            }
+            start = start > 0 ? storyElements.lastIndexOf(narrativeKeyword, start - 1) : -1;
+        }
+        return Narrative.EMPTY;
+    }
+
+    private Narrative createNarrative(String narrative) {
+        String[] elements = narrativeElements(narrative, keywords.inOrderTo(), keywords.asA(), keywords.iWantTo());
+        if (elements != null) {
+            return new Narrative(elements[0], elements[1], elements[2]);
+        }
+        elements = narrativeElements(narrative, keywords.asA(), keywords.iWantTo(), keywords.soThat());
+        if (elements != null) {
+            return new Narrative("", elements[0], elements[1], elements[2]);
+        }
+        return Narrative.EMPTY;
+    }
+
+    private String[] narrativeElements(String narrative, String first, String second, String third) {
+        // each element extends to the last occurrence of the following one
+        int thirdStart = narrative.lastIndexOf(third);
+        int secondStart = thirdStart >= 0 ? lastIndexOf(narrative, second, thirdStart - second.length()) : -1;
+        int firstStart = secondStart >= 0 ? lastIndexOf(narrative, first, secondStart - first.length()) : -1;
+        if (firstStart < 0) {
+            return null;
+        }
+        return new String[] { narrative.substring(firstStart + first.length(), secondStart).trim(),
+                narrative.substring(secondStart + second.length(), thirdStart).trim(),
+                narrative.substring(thirdStart + third.length()).trim() };
+    }
+
+    private GivenStories parseGivenStories(String beforeScenario) {
+        int start = beforeScenario.lastIndexOf(keywords.givenStories());
+        if (start < 0) {
+            return new GivenStories(NONE);
+        }
+        start += keywords.givenStories().length();
+        int end = indexOfAny(beforeScenario, start, keywords.lifecycle(), keywords.scenario());
+        String givenStories = beforeScenario.substring(start, end >= 0 ? end : beforeScenario.length());
+        return new GivenStories(givenStories.trim());
+    }
+
+    private Lifecycle parseLifecycle(String beforeScenario) {
+        int start = beforeScenario.lastIndexOf(keywords.lifecycle());
+        String lifecycle = start >= 0 ? beforeScenario.substring(start + keywords.lifecycle().length()).trim()
+                : NONE;
+        String beforeKeyword = keywords.before();
+        String afterKeyword = keywords.after();
+        int after = lifecycle.lastIndexOf(afterKeyword);
+        int before = after >= 0 ? lastIndexOf(lifecycle, beforeKeyword, after - beforeKeyword.length()) : -1;
+        if (before >= 0) {
+            List<Steps> beforeSteps = parseBeforeLifecycle(lifecycle.substring(before + beforeKeyword.length(),
+                    after).trim());
+            List<Steps> afterSteps = parseAfterLifecycle(lifecycle.substring(after + afterKeyword.length()).trim());
+            return new Lifecycle(beforeSteps, afterSteps);
+        }
+        before = lifecycle.lastIndexOf(beforeKeyword);
+        if (before >= 0) {
+            List<Steps> beforeSteps = parseBeforeLifecycle(lifecycle.substring(before + beforeKeyword.length())
+                    .trim());
+            return new Lifecycle(beforeSteps, Arrays.<Steps>asList());
+        }
+        if (after >= 0) {
+            List<Steps> afterSteps = parseAfterLifecycle(lifecycle.substring(after + afterKeyword.length()).trim());
+            return new Lifecycle(Arrays.<Steps>asList(), afterSteps);
+        }
+        return Lifecycle.EMPTY;
+    }
+
+    private List<Steps> parseBeforeLifecycle(String lifecycleAsText) {
+        List<Steps> list = new ArrayList<>();
+        for (String byScope : split(lifecycleAsText, keywords.scope())) {
+            byScope = byScope.trim();
+            if (byScope.isEmpty()) continue;
+            Scope scope = parseScope(findScope(byScope));
+            list.add(new Steps(scope, findSteps(startingWithNL(byScope))));
+        }
+        return list;
+    }
+
+    private List<Steps> parseAfterLifecycle(String lifecycleAsText) {
+        List<Steps> list = new ArrayList<>();
+        for (String byScope : split(lifecycleAsText, keywords.scope())) {
+            byScope = byScope.trim();
+            if (byScope.isEmpty()) continue;
+            Scope scope = parseScope(findScope(byScope));
+            for (String byOutcome : split(byScope, keywords.outcome())) {
+                byOutcome = byOutcome.trim();
+                if (byOutcome.isEmpty()) continue;
+                String outcomeAsText = findOutcome(byOutcome);
+                String filtersAsText = findFilters(removeStart(byOutcome, outcomeAsText));
+                List<String> steps = findSteps(startingWithNL(removeStart(byOutcome, filtersAsText)));
+                list.add(new Steps(scope, parseOutcome(outcomeAsText), parseFilters(filtersAsText), steps));
+            }
+        }
+        return list;
+    }
+
+    private String findScope(String byScope) {
+        // the scope extends to the first outcome, meta filter or step
+        int end = min(indexOfAny(byScope, 0, keywords.outcome(), keywords.metaFilter()),
+                indexOfAny(byScope, 0, startingWordsOnNewLine));
+        return end >= 0 ? byScope.substring(0, end).trim() : NONE;
+    }
+
+    private Scope parseScope(String scopeAsText) {
+        if (scopeAsText.equals(keywords.scopeScenario())) {
+            return Scope.SCENARIO;
+        } else if (scopeAsText.equals(keywords.scopeStory())) {
+            return Scope.STORY;
+        }
+        return Scope.SCENARIO;
+    }
+
+    private String findOutcome(String byOutcome) {
+        for (String outcome : new String[] { keywords.outcomeAny(), keywords.outcomeSuccess(),
+                keywords.outcomeFailure() }) {
+            if (byOutcome.startsWith(outcome) && isFollowedByFiltersOrSteps(byOutcome, outcome.length())) {
+                return outcome;
+            }
+        }
+        return keywords.outcomeAny();
+    }
+
+    private boolean isFollowedByFiltersOrSteps(String text, int from) {
+        for (int i = from; i <= text.length(); i++) {
+            if (text.startsWith(keywords.metaFilter(), i) || startsWithAny(text, i, startingWordsOnNewLine)) {
+                return true;
+            }
+            if (i == text.length() || !isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private Outcome parseOutcome(String outcomeAsText) {
+        if (outcomeAsText.equals(keywords.outcomeSuccess())) {
+            return Outcome.SUCCESS;
+        } else if (outcomeAsText.equals(keywords.outcomeFailure())) {
+            return Outcome.FAILURE;
+        }
+        return Outcome.ANY;
+    }
+
+    private String findFilters(String byFilters) {
+        String text = byFilters.trim();
+        if (!text.startsWith(keywords.metaFilter())) {
+            return NONE;
+        }
+        // the filters are made of words and extend to the last step they
+        // precede
+        int start = keywords.metaFilter().length();
+        int end = start;
+        while (end < text.length() && isFilterCharacter(text.charAt(end))) {
+            end++;
+        }
+        for (int i = end; i >= start; i--) {
+            if (startsWithAny(text, i, startingWordsOnNewLine)) {
+                return text.substring(0, i).trim();
+            }
+        }
+        return NONE;
+    }
+
+    private String parseFilters(String filtersAsText) {
+        return removeStart(filtersAsText, keywords.metaFilter()).trim();
+    }
+
+    private Scenario parseScenario(String scenarioAsText) {
+        String title = findScenarioTitle(scenarioAsText);
+        String scenarioWithoutKeyword = removeStart(scenarioAsText, keywords.scenario()).trim();
+        String scenarioWithoutTitle = startingWithNL(removeStart(scenarioWithoutKeyword, title));
+        Meta meta = findScenarioMeta(scenarioWithoutTitle);
+        String tableInput = findExamplesTable(scenarioWithoutTitle);
+        GivenStories givenStories = findScenarioGivenStories(scenarioWithoutTitle);
+        List<String> steps = findSteps(scenarioWithoutTitle);
+        if (givenStories.requireParameters()) {
+            ExamplesTable examplesTable = tableFactory.createExamplesTable(tableInput);
+            givenStories.useExamplesTable(examplesTable);
+            return new Scenario(title, meta, givenStories, examplesTable, steps);
+        }
+        return new UnparsedExamplesScenario(title, meta, givenStories, steps, tableFactory, tableInput);
+    }
+
+    private String findScenarioTitle(String scenarioAsText) {
+        int start = keywords.scenario().length();
+        int end = min(scenarioAsText.indexOf(keywords.meta(), start),
+                indexOfAny(scenarioAsText, start, startingWordsOnNewLine));
+        return end >= 0 ? scenarioAsText.substring(start, end).trim() : NONE;
+    }
+
+    private Meta findScenarioMeta(String scenarioAsText) {
+        String metaKeyword = keywords.meta();
+        // the last meta keyword which is followed by given stories or steps
+        int start = scenarioAsText.lastIndexOf(metaKeyword);
+        while (start >= 0) {
+            int from = start + metaKeyword.length();
+            int end = min(scenarioAsText.indexOf(keywords.givenStories(), from),
+                    indexOfAny(scenarioAsText, from, startingWordsOnNewLine));
+            if (end >= 0) {
+                return Meta.createMeta(scenarioAsText.substring(from, end).trim(), keywords);
+            }
+            start = start > 0 ? scenarioAsText.lastIndexOf(metaKeyword, start - 1) : -1;
+        }
+        return Meta.EMPTY;
+    }
+
+    private String findExamplesTable(String scenarioAsText) {
+        String examplesKeyword = NL + keywords.examplesTable();
+        int start = scenarioAsText.indexOf(examplesKeyword);
+        return start >= 0 ? scenarioAsText.substring(start + examplesKeyword.length()).trim() : NONE;
+    }
+
+    private GivenStories findScenarioGivenStories(String scenarioAsText) {
+        String givenStoriesKeyword = NL + keywords.givenStories();
+        int start = scenarioAsText.indexOf(givenStoriesKeyword);
+        String givenStories = NONE;
+        if (start >= 0) {
+            start += givenStoriesKeyword.length();
+            int end = indexOfAny(scenarioAsText, start, startingWordsOnNewLine);
+            if (end >= 0) {
+                givenStories = scenarioAsText.substring(start, end).trim();
+            }
+        }
+        return new GivenStories(givenStories);
+    }
+
+    private List<String> findSteps(String stepsAsText) {
+        List<String> steps = new ArrayList<>();
+        int start = stepStart(stepsAsText, 0);
+        while (start >= 0) {
+            // the step extends to the next step, examples table or end of
+            // text, without the whitespace preceding them
+            int contentStart = start + stepWordLength(stepsAsText, start) + 1;
+            int end = contentStart;
+            while (end < stepsAsText.length() && !isStepEnd(stepsAsText, end)) {
+                end++;
+            }
+            int stepEnd = end;
+            while (stepEnd > contentStart && isWhitespace(stepsAsText.charAt(stepEnd - 1))) {
+                stepEnd--;
+            }
+            steps.add(stepsAsText.substring(start + 1, stepEnd));
+            start = stepStart(stepsAsText, end);
+        }
+        return steps;
+    }
+
+    private int stepStart(String text, int from) {
+        int start = text.indexOf(NL, from);
+        while (start >= 0) {
+            if (stepWordLength(text, start) >= 0) {
+                return start;
+            }
+            start = text.indexOf(NL, start + 1);
+        }
+        return -1;
+    }
+
+    private int stepWordLength(String text, int newLine) {
+        // a starting word on a new line followed by a whitespace
+        for (String startingWord : startingWordsOnNewLine) {
+            int end = newLine + startingWord.length();
+            if (text.startsWith(startingWord, newLine) && end < text.length() && isWhitespace(text.charAt(end))) {
+                return startingWord.length();
+            }
+        }
+        return -1;
+    }
+
+    private boolean isStepEnd(String text, int index) {
+        return text.charAt(index) == NL
+                && (stepWordLength(text, index) >= 0 || text.startsWith(keywords.examplesTable(), index + 1));
+    }
+
+    private String startingWithNL(String text) {
+        if (!text.startsWith("\n")) { // always ensure starts with newline
+            return "\n" + text;
+        }
+        return text;
+    }
+
+    private static String[] onNewLine(String[] words) {
+        String[] onNewLine = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            onNewLine[i] = NL + words[i];
+        }
+        return onNewLine;
+    }
+
+    private static List<String> split(String text, String separator) {
+        List<String> split = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = text.indexOf(separator, start)) >= 0) {
+            split.add(text.substring(start, end));
+            start = end + separator.length();
+        }
+        split.add(text.substring(start));
+        return split;
+    }
+
+    private static int indexOfAny(String text, int from, String... words) {
+        int index = -1;
+        for (String word : words) {
+            index = min(index, text.indexOf(word, from));
+        }
+        return index;
+    }
+
+    private static boolean startsWithAny(String text, int from, String[] words) {
+        for (String word : words) {
+            if (text.startsWith(word, from)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int lastIndexOf(String text, String word, int from) {
+        return from >= 0 ? text.lastIndexOf(word, from) : -1;
+    }
+
+    private static int min(int index, int other) {
+        if (index < 0) {
+            return other;
+        }
+        return other < 0 ? index : Math.min(index, other);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isFilterCharacter(char c) {
+        return Character.isLetterOrDigit(c) && c < 128 || c == '_' || c == '+' || c == '-' || isWhitespace(c);
+    }
+
+    /**
+     * Reads the lines separated by '\n', keeping any other line terminator, so
+     * that the text of the story can be rebuilt as read. A text of n lines
+     * separators is read as n + 1 lines.
+     */
+    private static class LineReader {
+
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+        private boolean ended;
+
+        private LineReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        private String readLine() throws IOException {
+            if (ended) {
+                return null;
+            }
+            StringBuilder line = new StringBuilder();
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer);
+                    position = 0;
+                    if (limit < 0) {
+                        ended = true;
+                        return line.toString();
+                    }
+                }
+                int start = position;
+                while (position < limit && buffer[position] != NL) {
+                    position++;
+                }
+                line.append(buffer, start, position - start);
+                if (position < limit) {
+                    position++;
+                    return line.toString();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Scenario whose examples table is parsed from its text when first
+     * accessed.
+     */
+    private static class UnparsedExamplesScenario extends Scenario {
+
+        private final ExamplesTableFactory tableFactory;
+        private final String tableInput;
+        private volatile ExamplesTable examplesTable;
+
+        private UnparsedExamplesScenario(String title, Meta meta, GivenStories givenStories, List<String> steps,
+                ExamplesTableFactory tableFactory, String tableInput) {
+            super(title, meta, givenStories, null, steps);
+            this.tableFactory = tableFactory;
+            this.tableInput = tableInput;
+        }
+
+        @Override
+        public boolean hasExamplesTable() {
+            return true;
+        }
+
+        @Override
+        public ExamplesTable getExamplesTable() {
+            ExamplesTable examplesTable = this.examplesTable;
+            if (examplesTable == null) {
+                synchronized (this) {
+                    examplesTable = this.examplesTable;
+                    if (examplesTable == null) {
+                        examplesTable = tableFactory.createExamplesTable(tableInput);
+                        this.examplesTable = examplesTable;
+                    }
+                }
+            }
+            return examplesTable;
+        }
+
+    }
+
+}
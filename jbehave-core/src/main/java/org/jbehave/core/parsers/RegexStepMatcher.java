@@ -6,12 +6,20 @@ import java.util.regex.Pattern;
 import org.jbehave.core.model.StepPattern;
 import org.jbehave.core.steps.StepType;
 
-public class RegexStepMatcher implements StepMatcher {
+/**
+ * Regex-based {@link StepMatcher}. The methods returning a
+ * {@link StepPatternMatch} do not share any mutable state, so that the matcher
+ * can be used concurrently by the threads running the stories. The last match
+ * of {@link #matches(String)} or {@link #find(String)} is kept for the
+ * deprecated {@link #parameter(int)}, which is not thread-safe.
+ */
+public class RegexStepMatcher implements StepPatternMatcher {
 
     private final Pattern regexPattern;
 	private final String[] parameterNames;
     private final StepPattern stepPattern;
-    private Matcher matcher;
+    // the last match of the deprecated path only, not thread-safe
+    private StepPatternMatch lastMatch;
 
 	public RegexStepMatcher(StepType stepType, String annotatedPattern, Pattern regexPattern, String[] parameterNames) {
         this.regexPattern = regexPattern;
@@ -20,21 +28,44 @@ public class RegexStepMatcher implements StepMatcher {
     }
 	
 	public boolean matches(String stepWithoutStartingWord){
-		matcher(stepWithoutStartingWord);
-		return matcher.matches();
+		StepPatternMatch match = match(stepWithoutStartingWord);
+		lastMatch = match;
+		return match.matched();
 	}
 
 	public boolean find(String stepWithoutStartingWord){
-		matcher(stepWithoutStartingWord);
-		return matcher.find();
+		StepPatternMatch match = findMatch(stepWithoutStartingWord);
+		lastMatch = match;
+		return match.matched();
 	}
 	
 	public String parameter(int matchedPosition) {
-		return matcher.group(matchedPosition);
+		StepPatternMatch match = lastMatch;
+		if (match == null) {
+			throw new IllegalStateException("No match found");
+		}
+		return match.parameter(matchedPosition);
 	}
 
-	private void matcher(String patternToMatch){
-		matcher = regexPattern.matcher(patternToMatch);
+	public StepPatternMatch match(String stepWithoutStartingWord) {
+		Matcher matcher = regexPattern.matcher(stepWithoutStartingWord);
+		return stepMatch(stepWithoutStartingWord, matcher, matcher.matches());
+	}
+
+	public StepPatternMatch findMatch(String stepWithoutStartingWord) {
+		Matcher matcher = regexPattern.matcher(stepWithoutStartingWord);
+		return stepMatch(stepWithoutStartingWord, matcher, matcher.find());
+	}
+
+	private StepPatternMatch stepMatch(String stepWithoutStartingWord, Matcher matcher, boolean matched) {
+		if (!matched) {
+			return StepPatternMatch.noMatch(stepWithoutStartingWord, parameterNames);
+		}
+		String[] parameters = new String[matcher.groupCount()];
+		for (int i = 0; i < parameters.length; i++) {
+			parameters[i] = matcher.group(i + 1);
+		}
+		return new StepPatternMatch(stepWithoutStartingWord, parameterNames, parameters);
 	}
 
 	public String[] parameterNames(){
@@ -44,4 +75,8 @@ public class RegexStepMatcher implements StepMatcher {
     public StepPattern pattern() {
         return stepPattern;
     }
+
+    public Pattern regexPattern() {
+        return regexPattern;
+    }
 }
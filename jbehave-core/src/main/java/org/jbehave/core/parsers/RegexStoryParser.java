@@ -9,6 +9,8 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,16 +35,31 @@ import org.jbehave.core.model.Story;
 import org.jbehave.core.model.TableTransformers;
 
 /**
+ * <p>
  * Pattern-based story parser, which uses the keywords provided to parse the
- * textual story into a {@link Story}.
+ * textual story into a {@link Story}. The patterns are compiled once for each
+ * {@link Keywords} instance and shared by all parsers using it.
+ * </p>
+ * <p>
+ * The parser can also tokenize the story in a single pass (see
+ * {@link #doSinglePass(boolean)}). The story is then split into the text
+ * preceding the first scenario and the text of each scenario by a single
+ * scan, and the story elements (description, meta, narrative, given stories
+ * and lifecycle) are only looked for in the text preceding the first scenario,
+ * as specified by the grammar, rather than by patterns matched against the
+ * whole story text.
+ * </p>
  */
 public class RegexStoryParser implements StoryParser {
 
     private static final String NONE = "";
     public static final ResourceLoader DEFAULT_RESOURCE_LOADER = new LoadFromClasspath();
     public static final TableTransformers DEFAULT_TABLE_TRANSFORMERS = new TableTransformers();
+    private static final Map<Keywords, Patterns> PATTERNS = new WeakHashMap<>();
     private final Keywords keywords;
     private final ExamplesTableFactory tableFactory;
+    private volatile Patterns patterns;
+    private boolean singlePass;
 
     public RegexStoryParser() {
         this(new LocalizedKeywords());
@@ -76,34 +93,79 @@ public class RegexStoryParser implements StoryParser {
         this.tableFactory = new ExamplesTableFactory(configuration);
     }
     
+    /**
+     * Sets whether the story is tokenized in a single pass
+     * 
+     * @param singlePass the boolean flag
+     * @return This parser
+     */
+    public RegexStoryParser doSinglePass(boolean singlePass) {
+        this.singlePass = singlePass;
+        return this;
+    }
+
     public Story parseStory(String storyAsText) {
         return parseStory(storyAsText, null);
     }
 
     public Story parseStory(String storyAsText, String storyPath) {
-        Description description = parseDescriptionFrom(storyAsText);
-        Meta meta = parseStoryMetaFrom(storyAsText);
-        Narrative narrative = parseNarrativeFrom(storyAsText);
-        GivenStories givenStories = parseGivenStories(storyAsText);
-        Lifecycle lifecycle = parseLifecycle(storyAsText);
-        List<Scenario> scenarios = parseScenariosFrom(storyAsText);
-        Story story = new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+        Story story;
+        if (singlePass) {
+            story = parseTokenizedStory(storyAsText, storyPath);
+        } else {
+            Description description = parseDescriptionFrom(storyAsText);
+            Meta meta = parseStoryMetaFrom(preScenarioText(storyAsText));
+            Narrative narrative = parseNarrativeFrom(storyAsText);
+            String beforeScenario = beforeScenarioText(storyAsText);
+            GivenStories givenStories = parseGivenStories(beforeScenario);
+            Lifecycle lifecycle = parseLifecycle(beforeScenario);
+            List<Scenario> scenarios = parseScenarios(splitScenarios(storyAsText));
+            story = new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+        }
         if (storyPath != null) {
             story.namedAs(new File(storyPath).getName());
         }
         return story;
     }
 
+    private Story parseTokenizedStory(String storyAsText, String storyPath) {
+        String scenarioKeyword = keywords.scenario();
+        List<String> scenariosAsText = new ArrayList<>();
+        int start = storyAsText.indexOf(scenarioKeyword);
+        boolean hasScenarioKeyword = start >= 0;
+        String beforeScenario = hasScenarioKeyword ? storyAsText.substring(0, start) : storyAsText;
+        if (!hasScenarioKeyword) {
+            // as when split, the story without scenario keyword is a scenario
+            addScenario(scenariosAsText, storyAsText);
+        }
+        while (start >= 0) {
+            int from = start + scenarioKeyword.length();
+            int end = storyAsText.indexOf(scenarioKeyword, from);
+            addScenario(scenariosAsText, end >= 0 ? storyAsText.substring(from, end) : storyAsText.substring(from));
+            start = end;
+        }
+        // the story elements end at the first scenario, if any
+        String storyElements = hasScenarioKeyword ? beforeScenario + scenarioKeyword : storyAsText;
+        Description description = parseDescriptionFrom(storyElements);
+        Meta meta = parseStoryMetaFrom(beforeScenario);
+        Narrative narrative = parseNarrativeFrom(storyElements);
+        String givenStoriesAndLifecycle = hasScenarioKeyword ? beforeScenario : NONE;
+        GivenStories givenStories = parseGivenStories(givenStoriesAndLifecycle);
+        Lifecycle lifecycle = parseLifecycle(givenStoriesAndLifecycle);
+        List<Scenario> scenarios = parseScenarios(scenariosAsText);
+        return new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+    }
+
     private Description parseDescriptionFrom(String storyAsText) {
-        Matcher findingDescription = findingDescription().matcher(storyAsText);
+        Matcher findingDescription = patterns().findingDescription.matcher(storyAsText);
         if (findingDescription.matches()) {
             return new Description(findingDescription.group(1).trim());
         }
         return Description.EMPTY;
     }
 
-    private Meta parseStoryMetaFrom(String storyAsText) {
-        Matcher findingMeta = findingStoryMeta().matcher(preScenarioText(storyAsText));
+    private Meta parseStoryMetaFrom(String preScenarioText) {
+        Matcher findingMeta = patterns().findingStoryMeta.matcher(preScenarioText);
         if (findingMeta.matches()) {
             String meta = findingMeta.group(1).trim();
             return Meta.createMeta(meta, keywords);
@@ -112,12 +174,12 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private String preScenarioText(String storyAsText) {
-        String[] split = storyAsText.split(keywords.scenario());
+        String[] split = patterns().splittingScenarios.split(storyAsText);
         return split.length > 0 ? split[0] : storyAsText;
     }
 
     private Narrative parseNarrativeFrom(String storyAsText) {
-        Matcher findingNarrative = findingNarrative().matcher(storyAsText);
+        Matcher findingNarrative = patterns().findingNarrative.matcher(storyAsText);
         if (findingNarrative.matches()) {
             String narrative = findingNarrative.group(1).trim();
             return createNarrative(narrative);
@@ -126,14 +188,14 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private Narrative createNarrative(String narrative) {
-        Matcher findingElements = findingNarrativeElements().matcher(narrative);
+        Matcher findingElements = patterns().findingNarrativeElements.matcher(narrative);
         if (findingElements.matches()) {
             String inOrderTo = findingElements.group(1).trim();
             String asA = findingElements.group(2).trim();
             String iWantTo = findingElements.group(3).trim();
             return new Narrative(inOrderTo, asA, iWantTo);
         }
-        Matcher findingAlternativeElements = findingAlternativeNarrativeElements().matcher(narrative);
+        Matcher findingAlternativeElements = patterns().findingAlternativeNarrativeElements.matcher(narrative);
         if (findingAlternativeElements.matches()) {            
             String asA = findingAlternativeElements.group(1).trim();
             String iWantTo = findingAlternativeElements.group(2).trim();
@@ -143,29 +205,27 @@ public class RegexStoryParser implements StoryParser {
         return Narrative.EMPTY;
     }
     
-    private GivenStories parseGivenStories(String storyAsText) {
+    private String beforeScenarioText(String storyAsText) {
         String scenarioKeyword = keywords.scenario();
         // use text before scenario keyword, if found
         String beforeScenario = "";
         if (StringUtils.contains(storyAsText, scenarioKeyword)) {
             beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
         }
-        Matcher findingGivenStories = findingStoryGivenStories().matcher(beforeScenario);
+        return beforeScenario;
+    }
+
+    private GivenStories parseGivenStories(String beforeScenario) {
+        Matcher findingGivenStories = patterns().findingStoryGivenStories.matcher(beforeScenario);
         String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
         return new GivenStories(givenStories);
     }
 
-    private Lifecycle parseLifecycle(String storyAsText) {
-        String scenarioKeyword = keywords.scenario();
-        // use text before scenario keyword, if found
-        String beforeScenario = "";
-        if (StringUtils.contains(storyAsText, scenarioKeyword)) {
-            beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
-        }
-        Matcher findingLifecycle = findingLifecycle().matcher(beforeScenario);
+    private Lifecycle parseLifecycle(String beforeScenario) {
+        Matcher findingLifecycle = patterns().findingLifecycle.matcher(beforeScenario);
         String lifecycle = findingLifecycle.find() ? findingLifecycle.group(1).trim() : NONE;
 
-        Matcher findingBeforeAndAfter = compile(".*" + keywords.before() + "(.*)\\s*" + keywords.after() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingBeforeAndAfter = patterns().findingBeforeAndAfter.matcher(lifecycle);
         if ( findingBeforeAndAfter.matches() ){
             String beforeLifecycle = findingBeforeAndAfter.group(1).trim();
             List<Steps> beforeSteps = parseBeforeLifecycle(beforeLifecycle);
@@ -173,13 +233,13 @@ public class RegexStoryParser implements StoryParser {
             List<Steps> afterSteps = parseAfterLifecycle(afterLifecycle);
             return new Lifecycle(beforeSteps, afterSteps);
         }
-        Matcher findingBefore = compile(".*" + keywords.before() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingBefore = patterns().findingBefore.matcher(lifecycle);
         if ( findingBefore.matches() ){
             String beforeLifecycle = findingBefore.group(1).trim();
             List<Steps>  beforeSteps = parseBeforeLifecycle(beforeLifecycle);
             return new Lifecycle(beforeSteps, Arrays.<Steps>asList());
         }
-        Matcher findingAfter = compile(".*" + keywords.after() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingAfter = patterns().findingAfter.matcher(lifecycle);
         if ( findingAfter.matches() ){
             List<Steps> beforeSteps = asList();
             String afterLifecycle = findingAfter.group(1).trim();
@@ -189,17 +249,9 @@ public class RegexStoryParser implements StoryParser {
         return Lifecycle.EMPTY;
     }
 
-    private Pattern findingBeforeAndAfterSteps() {
-        String initialStartingWords = concatenateWithOr("\\n", "", keywords.before(), keywords.after());
-        String followingStartingWords = concatenateWithOr("\\n", "\\s", keywords.startingWords());
-        return compile(
-                "((" + initialStartingWords + ")\\s(.)*?)\\s*(\\Z|" + followingStartingWords + "|\\n"
-                        + keywords.examplesTable() + ")", DOTALL);
-    }
-
     private List<Steps> parseBeforeLifecycle(String lifecycleAsText) {
         List<Steps> list = new ArrayList<>();
-        for (String byScope : lifecycleAsText.split(keywords.scope()) ){
+        for (String byScope : patterns().splittingScopes.split(lifecycleAsText) ){
             byScope = byScope.trim();
             if ( byScope.isEmpty() ) continue;
             Scope scope = parseScope(findScope(keywords.scope()+byScope));
@@ -211,11 +263,11 @@ public class RegexStoryParser implements StoryParser {
 
     private List<Steps> parseAfterLifecycle(String lifecycleAsText) {
         List<Steps> list = new ArrayList<>();
-        for (String byScope : lifecycleAsText.split(keywords.scope()) ) {
+        for (String byScope : patterns().splittingScopes.split(lifecycleAsText) ) {
             byScope = byScope.trim();
             if ( byScope.isEmpty() ) continue;
             Scope scope = parseScope(findScope(keywords.scope()+byScope));
-            for (String byOutcome : byScope.split(keywords.outcome())) {
+            for (String byOutcome : patterns().splittingOutcomes.split(byScope)) {
                 byOutcome = byOutcome.trim();
                 if (byOutcome.isEmpty()) continue;
                 String outcomeAsText = findOutcome(byOutcome);
@@ -228,7 +280,7 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private String findScope(String lifecycleAsText) {
-        Matcher findingScope = findingLifecycleScope().matcher(lifecycleAsText.trim());
+        Matcher findingScope = patterns().findingLifecycleScope.matcher(lifecycleAsText.trim());
         if ( findingScope.matches() ){
             return findingScope.group(1).trim();
         }
@@ -245,7 +297,7 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private String findOutcome(String stepsByOutcome) {
-        Matcher findingOutcome = findingLifecycleOutcome().matcher(stepsByOutcome);
+        Matcher findingOutcome = patterns().findingLifecycleOutcome.matcher(stepsByOutcome);
         if ( findingOutcome.matches() ){
             return findingOutcome.group(1).trim();
         }
@@ -262,7 +314,7 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private String findFilters(String stepsByFilters) {
-        Matcher findingFilters = findingLifecycleFilters().matcher(stepsByFilters.trim());
+        Matcher findingFilters = patterns().findingLifecycleFilters.matcher(stepsByFilters.trim());
         if ( findingFilters.matches() ){
             return findingFilters.group(1).trim();
         }
@@ -273,9 +325,9 @@ public class RegexStoryParser implements StoryParser {
         return removeStart(filtersAsText, keywords.metaFilter()).trim();
     }
 
-    private List<Scenario> parseScenariosFrom(String storyAsText) {
+    private List<Scenario> parseScenarios(List<String> scenariosAsText) {
         List<Scenario> parsed = new ArrayList<>();
-        for (String scenarioAsText : splitScenarios(storyAsText)) {
+        for (String scenarioAsText : scenariosAsText) {
             parsed.add(parseScenario(scenarioAsText));
         }
         return parsed;
@@ -290,15 +342,19 @@ public class RegexStoryParser implements StoryParser {
             storyAsText = StringUtils.substringAfter(storyAsText, scenarioKeyword);
         }
 
-        for (String scenarioAsText : storyAsText.split(scenarioKeyword)) {
-            if (scenarioAsText.trim().length() > 0) {
-                scenarios.add(scenarioKeyword + "\n" + scenarioAsText);
-            }
+        for (String scenarioAsText : patterns().splittingScenarios.split(storyAsText)) {
+            addScenario(scenarios, scenarioAsText);
         }
         
         return scenarios;
     }
 
+    private void addScenario(List<String> scenarios, String scenarioAsText) {
+        if (scenarioAsText.trim().length() > 0) {
+            scenarios.add(keywords.scenario() + "\n" + scenarioAsText);
+        }
+    }
+
     private Scenario parseScenario(String scenarioAsText) {
         String title = findScenarioTitle(scenarioAsText);
         String scenarioWithoutKeyword = removeStart(scenarioAsText, keywords.scenario()).trim();
@@ -322,12 +378,12 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private String findScenarioTitle(String scenarioAsText) {
-        Matcher findingTitle = findingScenarioTitle().matcher(scenarioAsText);
+        Matcher findingTitle = patterns().findingScenarioTitle.matcher(scenarioAsText);
         return findingTitle.find() ? findingTitle.group(1).trim() : NONE;
     }
 
     private Meta findScenarioMeta(String scenarioAsText) {
-        Matcher findingMeta = findingScenarioMeta().matcher(scenarioAsText);
+        Matcher findingMeta = patterns().findingScenarioMeta.matcher(scenarioAsText);
         if (findingMeta.matches()) {
             String meta = findingMeta.group(1).trim();
             return Meta.createMeta(meta, keywords);
@@ -336,19 +392,19 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private ExamplesTable findExamplesTable(String scenarioAsText) {
-        Matcher findingTable = findingExamplesTable().matcher(scenarioAsText);
+        Matcher findingTable = patterns().findingExamplesTable.matcher(scenarioAsText);
         String tableInput = findingTable.find() ? findingTable.group(1).trim() : NONE;
         return tableFactory.createExamplesTable(tableInput);
     }
 
     private GivenStories findScenarioGivenStories(String scenarioAsText) {
-        Matcher findingGivenStories = findingScenarioGivenStories().matcher(scenarioAsText);
+        Matcher findingGivenStories = patterns().findingScenarioGivenStories.matcher(scenarioAsText);
         String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
         return new GivenStories(givenStories);
     }
 
     private List<String> findSteps(String stepsAsText) {
-        Matcher matcher = findingSteps().matcher(stepsAsText);
+        Matcher matcher = patterns().findingSteps.matcher(stepsAsText);
         List<String> steps = new ArrayList<>();
         int startAt = 0;
         while (matcher.find(startAt)) {
@@ -358,99 +414,119 @@ public class RegexStoryParser implements StoryParser {
         return steps;
     }
 
-    // Regex Patterns
-
-    private Pattern findingDescription() {
-        String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords.meta(), keywords.narrative(), keywords.lifecycle(), keywords.scenario());
-        return compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
-    }
-
-    private Pattern findingStoryMeta() {
-        String narrativeOrLifecycleOrGivenStories = concatenateWithOr(keywords.narrative(), keywords.lifecycle(), keywords.givenStories());
-        return compile(".*" + keywords.meta() + "(.*?)\\s*(\\Z|" + narrativeOrLifecycleOrGivenStories + ").*", DOTALL);
-    }
-
-    private Pattern findingNarrative() {
-        String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords.givenStories(), keywords.lifecycle(), keywords.scenario());
-        return compile(".*" + keywords.narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario + ").*", DOTALL);
-    }
-
-    private Pattern findingNarrativeElements() {
-        return compile(".*" + keywords.inOrderTo() + "(.*)\\s*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo()
-                + "(.*)", DOTALL);
-    }
-
-    private Pattern findingAlternativeNarrativeElements() {
-        return compile(".*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo() + "(.*)\\s*" + keywords.soThat()
-                + "(.*)", DOTALL);
-    }
-    
-    private Pattern findingStoryGivenStories() {
-        String lifecycleOrScenario = concatenateWithOr(keywords.lifecycle(), keywords.scenario());
-        return compile(".*" + keywords.givenStories() + "(.*?)\\s*(\\Z|" + lifecycleOrScenario + ").*", DOTALL);
-    }
-    
-    private Pattern findingLifecycle() {
-        return compile(".*" + keywords.lifecycle() + "\\s*(.*)", DOTALL);
-    }
-
-    private Pattern findingLifecycleScope() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        return compile(keywords.scope() + "((.)*?)\\s*(" + keywords.outcome() + "|" + keywords.metaFilter() + "|" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingLifecycleOutcome() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        String outcomes = concatenateWithOr(keywords.outcomeAny(), keywords.outcomeSuccess(), keywords.outcomeFailure());
-        return compile("\\s*("+ outcomes +")\\s*(" + keywords.metaFilter() + "|" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingLifecycleFilters() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        String filters = concatenateWithOr(keywords.metaFilter());
-        return compile("\\s*("+ filters +"[\\w\\+\\-\\_\\s]*)(" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingScenarioTitle() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        return compile(keywords.scenario() + "((.)*?)\\s*(" + keywords.meta() + "|" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingScenarioMeta() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        return compile(".*" + keywords.meta() + "(.*?)\\s*(" + keywords.givenStories() + "|" + startingWords + ").*",
-                DOTALL);
-    }
-
-    private Pattern findingScenarioGivenStories() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        return compile("\\n" + keywords.givenStories() + "((.|\\n)*?)\\s*(" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingSteps() {
-        String initialStartingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        String followingStartingWords = concatenateWithOr("\\n", "\\s", keywords.startingWords());
-        return compile(
-                "((" + initialStartingWords + ")\\s(.)*?)\\s*(\\Z|" + followingStartingWords + "|\\n"
-                        + keywords.examplesTable() + ")", DOTALL);
-    }
-
-    private Pattern findingExamplesTable() {
-        return compile("\\n" + keywords.examplesTable() + "\\s*(.*)", DOTALL);
-    }
+    private Patterns patterns() {
+        Patterns patterns = this.patterns;
+        if (patterns == null) {
+            synchronized (PATTERNS) {
+                patterns = PATTERNS.get(keywords);
+                if (patterns == null) {
+                    patterns = new Patterns(keywords);
+                    PATTERNS.put(keywords, patterns);
+                }
+            }
+            this.patterns = patterns;
+        }
+        return patterns;
+    }
+
+    /**
+     * The regex patterns, compiled once for the keywords.
+     */
+    private static class Patterns {
+
+        private final Pattern findingDescription;
+        private final Pattern findingStoryMeta;
+        private final Pattern findingNarrative;
+        private final Pattern findingNarrativeElements;
+        private final Pattern findingAlternativeNarrativeElements;
+        private final Pattern findingStoryGivenStories;
+        private final Pattern findingLifecycle;
+        private final Pattern findingBeforeAndAfter;
+        private final Pattern findingBefore;
+        private final Pattern findingAfter;
+        private final Pattern findingLifecycleScope;
+        private final Pattern findingLifecycleOutcome;
+        private final Pattern findingLifecycleFilters;
+        private final Pattern findingScenarioTitle;
+        private final Pattern findingScenarioMeta;
+        private final Pattern findingScenarioGivenStories;
+        private final Pattern findingSteps;
+        private final Pattern findingExamplesTable;
+        private final Pattern splittingScenarios;
+        private final Pattern splittingScopes;
+        private final Pattern splittingOutcomes;
+
+        private Patterns(Keywords keywords) {
+            String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
+            String followingStartingWords = concatenateWithOr("\\n", "\\s", keywords.startingWords());
+
+            String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords.meta(), keywords.narrative(),
+                    keywords.lifecycle(), keywords.scenario());
+            findingDescription = compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
+
+            String narrativeOrLifecycleOrGivenStories = concatenateWithOr(keywords.narrative(), keywords.lifecycle(),
+                    keywords.givenStories());
+            findingStoryMeta = compile(".*" + keywords.meta() + "(.*?)\\s*(\\Z|" + narrativeOrLifecycleOrGivenStories
+                    + ").*", DOTALL);
+
+            String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords.givenStories(),
+                    keywords.lifecycle(), keywords.scenario());
+            findingNarrative = compile(".*" + keywords.narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario
+                    + ").*", DOTALL);
+            findingNarrativeElements = compile(".*" + keywords.inOrderTo() + "(.*)\\s*" + keywords.asA()
+                    + "(.*)\\s*" + keywords.iWantTo() + "(.*)", DOTALL);
+            findingAlternativeNarrativeElements = compile(".*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo()
+                    + "(.*)\\s*" + keywords.soThat() + "(.*)", DOTALL);
+
+            String lifecycleOrScenario = concatenateWithOr(keywords.lifecycle(), keywords.scenario());
+            findingStoryGivenStories = compile(".*" + keywords.givenStories() + "(.*?)\\s*(\\Z|"
+                    + lifecycleOrScenario + ").*", DOTALL);
+
+            findingLifecycle = compile(".*" + keywords.lifecycle() + "\\s*(.*)", DOTALL);
+            findingBeforeAndAfter = compile(".*" + keywords.before() + "(.*)\\s*" + keywords.after() + "(.*)\\s*",
+                    DOTALL);
+            findingBefore = compile(".*" + keywords.before() + "(.*)\\s*", DOTALL);
+            findingAfter = compile(".*" + keywords.after() + "(.*)\\s*", DOTALL);
+            findingLifecycleScope = compile(keywords.scope() + "((.)*?)\\s*(" + keywords.outcome() + "|"
+                    + keywords.metaFilter() + "|" + startingWords + ").*", DOTALL);
+            String outcomes = concatenateWithOr(keywords.outcomeAny(), keywords.outcomeSuccess(),
+                    keywords.outcomeFailure());
+            findingLifecycleOutcome = compile("\\s*(" + outcomes + ")\\s*(" + keywords.metaFilter() + "|"
+                    + startingWords + ").*", DOTALL);
+            String filters = concatenateWithOr(keywords.metaFilter());
+            findingLifecycleFilters = compile("\\s*(" + filters + "[\\w\\+\\-\\_\\s]*)(" + startingWords + ").*",
+                    DOTALL);
+
+            findingScenarioTitle = compile(keywords.scenario() + "((.)*?)\\s*(" + keywords.meta() + "|"
+                    + startingWords + ").*", DOTALL);
+            findingScenarioMeta = compile(".*" + keywords.meta() + "(.*?)\\s*(" + keywords.givenStories() + "|"
+                    + startingWords + ").*", DOTALL);
+            findingScenarioGivenStories = compile("\\n" + keywords.givenStories() + "((.|\\n)*?)\\s*("
+                    + startingWords + ").*", DOTALL);
+            findingSteps = compile("((" + startingWords + ")\\s(.)*?)\\s*(\\Z|" + followingStartingWords + "|\\n"
+                    + keywords.examplesTable() + ")", DOTALL);
+            findingExamplesTable = compile("\\n" + keywords.examplesTable() + "\\s*(.*)", DOTALL);
+
+            // as used by String.split(String)
+            splittingScenarios = compile(keywords.scenario());
+            splittingScopes = compile(keywords.scope());
+            splittingOutcomes = compile(keywords.outcome());
+        }
 
-    private String concatenateWithOr(String... keywords) {
-        return concatenateWithOr(null, null, keywords);
-    }
+        private static String concatenateWithOr(String... keywords) {
+            return concatenateWithOr(null, null, keywords);
+        }
 
-    private String concatenateWithOr(String beforeKeyword, String afterKeyword, String[] keywords) {
-        StringBuilder builder = new StringBuilder();
-        String before = beforeKeyword != null ? beforeKeyword : NONE;
-        String after = afterKeyword != null ? afterKeyword : NONE;
-        for (String keyword : keywords) {
-            builder.append(before).append(keyword).append(after).append("|");
+        private static String concatenateWithOr(String beforeKeyword, String afterKeyword, String[] keywords) {
+            StringBuilder builder = new StringBuilder();
+            String before = beforeKeyword != null ? beforeKeyword : NONE;
+            String after = afterKeyword != null ? afterKeyword : NONE;
+            for (String keyword : keywords) {
+                builder.append(before).append(keyword).append(after).append("|");
+            }
+            return StringUtils.removeEnd(builder.toString(), "|"); // remove last "|"
         }
-        return StringUtils.removeEnd(builder.toString(), "|"); // remove last "|"
+
     }
 
 }
@@ -10,12 +10,23 @@ public interface StepMatcher {
 
     boolean matches(String stepWithoutStartingWord);
 
+    /**
+     * @deprecated Implement {@link StepPatternMatcher#findMatch(String)}, as
+     *             the parameters retrieved via {@link #parameter(int)} are
+     *             those of the last match, whichever thread made it
+     */
+    @Deprecated
     boolean find(String stepWithoutStartingWord);
 
+    /**
+     * @deprecated Implement {@link StepPatternMatcher}, whose matches hold the
+     *             parameters via {@link StepPatternMatch#parameter(int)}
+     */
+    @Deprecated
     String parameter(int matchedPosition);
 
     String[] parameterNames();
 
     StepPattern pattern();
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package org.jbehave.core.parsers;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Immutable result of matching a step against a {@link StepMatcher}, holding
+ * the matched step, the parameter values captured and the parameter names. As
+ * it holds no reference to the matcher state, it can be safely shared between
+ * threads and reused to create the matched step without matching it again.
+ */
+public class StepPatternMatch {
+
+    private final String stepWithoutStartingWord;
+    private final boolean matched;
+    private final String[] parameterNames;
+    private final String[] parameters;
+
+    /**
+     * Creates a successful match
+     *
+     * @param stepWithoutStartingWord the step matched
+     * @param parameterNames the names of the parameters
+     * @param parameters the parameter values, in the order of their matched
+     *            position
+     */
+    public StepPatternMatch(String stepWithoutStartingWord, String[] parameterNames, String... parameters) {
+        this(stepWithoutStartingWord, true, parameterNames, parameters);
+    }
+
+    private StepPatternMatch(String stepWithoutStartingWord, boolean matched, String[] parameterNames, String[] parameters) {
+        this.stepWithoutStartingWord = stepWithoutStartingWord;
+        this.matched = matched;
+        this.parameterNames = parameterNames;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Creates an unsuccessful match
+     *
+     * @param stepWithoutStartingWord the step not matched
+     * @param parameterNames the names of the parameters
+     * @return A StepPatternMatch with no parameters
+     */
+    public static StepPatternMatch noMatch(String stepWithoutStartingWord, String[] parameterNames) {
+        return new StepPatternMatch(stepWithoutStartingWord, false, parameterNames, new String[0]);
+    }
+
+    /**
+     * Matches the whole step against the pattern of the step matcher, falling
+     * back on {@link StepMatcher#matches(String)} and
+     * {@link StepMatcher#parameter(int)} for step matchers not implementing
+     * {@link StepPatternMatcher}
+     *
+     * @param stepMatcher the {@link StepMatcher}
+     * @param stepWithoutStartingWord the step to match
+     * @return The StepPatternMatch
+     */
+    public static StepPatternMatch match(StepMatcher stepMatcher, String stepWithoutStartingWord) {
+        if (stepMatcher instanceof StepPatternMatcher) {
+            return ((StepPatternMatcher) stepMatcher).match(stepWithoutStartingWord);
+        }
+        if (stepMatcher.matches(stepWithoutStartingWord)) {
+            return lastMatchOf(stepMatcher, stepWithoutStartingWord);
+        }
+        return noMatch(stepWithoutStartingWord, stepMatcher.parameterNames());
+    }
+
+    /**
+     * Finds the pattern of the step matcher in the step, falling back on
+     * {@link StepMatcher#find(String)} and {@link StepMatcher#parameter(int)}
+     * for step matchers not implementing {@link StepPatternMatcher}
+     *
+     * @param stepMatcher the {@link StepMatcher}
+     * @param stepWithoutStartingWord the step to find the pattern in
+     * @return The StepPatternMatch
+     */
+    @SuppressWarnings("deprecation")
+    public static StepPatternMatch find(StepMatcher stepMatcher, String stepWithoutStartingWord) {
+        if (stepMatcher instanceof StepPatternMatcher) {
+            return ((StepPatternMatcher) stepMatcher).findMatch(stepWithoutStartingWord);
+        }
+        if (stepMatcher.find(stepWithoutStartingWord)) {
+            return lastMatchOf(stepMatcher, stepWithoutStartingWord);
+        }
+        return noMatch(stepWithoutStartingWord, stepMatcher.parameterNames());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static StepPatternMatch lastMatchOf(StepMatcher stepMatcher, String stepWithoutStartingWord) {
+        String[] parameterNames = stepMatcher.parameterNames();
+        String[] parameters = new String[parameterNames.length];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = stepMatcher.parameter(i + 1);
+        }
+        return new StepPatternMatch(stepWithoutStartingWord, parameterNames, parameters);
+    }
+
+    public String stepWithoutStartingWord() {
+        return stepWithoutStartingWord;
+    }
+
+    public boolean matched() {
+        return matched;
+    }
+
+    /**
+     * Returns the parameter value captured at the given position
+     *
+     * @param matchedPosition the position, starting from 1 as for regex groups
+     * @return The parameter value
+     * @throws IllegalStateException if the step was not matched
+     */
+    public String parameter(int matchedPosition) {
+        if (!matched) {
+            throw new IllegalStateException("No match found for " + stepWithoutStartingWord);
+        }
+        return parameters[matchedPosition - 1];
+    }
+
+    public String[] parameterNames() {
+        return parameterNames;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append(stepWithoutStartingWord)
+                .append(matched).append(Arrays.asList(parameters)).toString();
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.jbehave.core.parsers;
+
+/**
+ * A {@link StepMatcher} returning the result of each match as an immutable
+ * {@link StepPatternMatch}, so that it can be used concurrently without relying
+ * on the state of the last match. Step matchers not implementing it are
+ * matched via {@link StepPatternMatch#match(StepMatcher, String)} and
+ * {@link StepPatternMatch#find(StepMatcher, String)}.
+ */
+public interface StepPatternMatcher extends StepMatcher {
+
+    /**
+     * Matches the whole step against the pattern
+     *
+     * @param stepWithoutStartingWord the step to match
+     * @return The immutable {@link StepPatternMatch}, which may not be
+     *         {@link StepPatternMatch#matched()}
+     */
+    StepPatternMatch match(String stepWithoutStartingWord);
+
+    /**
+     * Finds the pattern in the step
+     *
+     * @param stepWithoutStartingWord the step to find the pattern in
+     * @return The immutable {@link StepPatternMatch}, which may not be
+     *         {@link StepPatternMatch#matched()}
+     */
+    StepPatternMatch findMatch(String stepWithoutStartingWord);
+
+}
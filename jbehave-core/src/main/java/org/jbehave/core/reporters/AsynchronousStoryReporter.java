@@ -0,0 +1,311 @@
+package org.jbehave.core.reporters;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.ReportEvent.Type;
+
+/**
+ * Reporter which queues the reports of a story, to be invoked in order on the
+ * delegate by the threads of a writer {@link Executor}, so that the threads
+ * performing the story do not wait on the output of the reports. The queue is
+ * bounded, a full queue either blocking the thread reporting until the queue
+ * has room or dropping the verbose reports, as specified by the
+ * {@link BackPressure}. The reports of a story are all invoked once the story
+ * is over, i.e. {@link #afterStory(boolean)} waits until the queue is drained,
+ * unless the story is a given story.
+ */
+public class AsynchronousStoryReporter implements StoryReporter {
+
+    public enum BackPressure {
+        BLOCK, DROP_VERBOSE
+    }
+
+    private final StoryReporter delegate;
+    private final Executor writer;
+    private final BackPressure backPressure;
+    private final BlockingQueue<ReportEvent> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object drained = new Object();
+    private final Runnable drain = new Runnable() {
+        public void run() {
+            drain();
+        }
+    };
+    private volatile Throwable failure;
+
+    /**
+     * @param delegate the StoryReporter the reports are invoked on
+     * @param writer the Executor invoking the reports
+     * @param capacity the capacity of the queue of the reports
+     * @param backPressure the BackPressure applied once the queue is full
+     */
+    public AsynchronousStoryReporter(StoryReporter delegate, Executor writer, int capacity,
+            BackPressure backPressure) {
+        this.delegate = delegate;
+        this.writer = writer;
+        this.backPressure = backPressure;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void storyNotAllowed(Story story, String filter) {
+        report(new ReportEvent(Type.STORY_NOT_ALLOWED, story, filter));
+    }
+
+    @Override
+    public void beforeStory(Story story, boolean givenStory) {
+        report(new ReportEvent(Type.BEFORE_STORY, story, givenStory));
+    }
+
+    @Override
+    public void afterStory(boolean givenStory) {
+        report(new ReportEvent(Type.AFTER_STORY, givenStory));
+        if (!givenStory) {
+            flush();
+        }
+    }
+
+    @Override
+    public void narrative(Narrative aNarrative) {
+        report(new ReportEvent(Type.NARRATIVE, aNarrative));
+    }
+
+    @Override
+    public void lifecyle(Lifecycle aLifecycle) {
+        report(new ReportEvent(Type.LIFECYCLE, aLifecycle));
+    }
+
+    @Override
+    public void scenarioNotAllowed(Scenario scenario, String filter) {
+        report(new ReportEvent(Type.SCENARIO_NOT_ALLOWED, scenario, filter));
+    }
+
+    @Override
+    public void beforeScenario(Scenario scenario) {
+        report(new ReportEvent(Type.BEFORE_SCENARIO, scenario));
+    }
+
+    @Override
+    public void beforeScenario(String scenarioTitle) {
+        report(new ReportEvent(Type.BEFORE_SCENARIO_TITLE, scenarioTitle));
+    }
+
+    @Override
+    public void scenarioMeta(Meta meta) {
+        report(new ReportEvent(Type.SCENARIO_META, meta));
+    }
+
+    @Override
+    public void afterScenario() {
+        report(new ReportEvent(Type.AFTER_SCENARIO));
+    }
+
+    @Override
+    public void beforeGivenStories() {
+        report(new ReportEvent(Type.BEFORE_GIVEN_STORIES));
+    }
+
+    @Override
+    public void givenStories(GivenStories stories) {
+        report(new ReportEvent(Type.GIVEN_STORIES, stories));
+    }
+
+    @Override
+    public void givenStories(List<String> storyPaths) {
+        report(new ReportEvent(Type.GIVEN_STORIES_PATHS, storyPaths));
+    }
+
+    @Override
+    public void afterGivenStories() {
+        report(new ReportEvent(Type.AFTER_GIVEN_STORIES));
+    }
+
+    @Override
+    public void beforeExamples(List<String> steps, ExamplesTable table) {
+        report(new ReportEvent(Type.BEFORE_EXAMPLES, steps, table));
+    }
+
+    @Override
+    public void example(Map<String, String> tableRow) {
+        report(new ReportEvent(Type.EXAMPLE, tableRow));
+    }
+
+    @Override
+    public void afterExamples() {
+        report(new ReportEvent(Type.AFTER_EXAMPLES));
+    }
+
+    @Override
+    public void beforeStep(String step) {
+        report(new ReportEvent(Type.BEFORE_STEP, step));
+    }
+
+    @Override
+    public void successful(String step) {
+        report(new ReportEvent(Type.SUCCESSFUL, step));
+    }
+
+    @Override
+    public void ignorable(String step) {
+        report(new ReportEvent(Type.IGNORABLE, step));
+    }
+
+    @Override
+    public void comment(String step) {
+        report(new ReportEvent(Type.COMMENT, step));
+    }
+
+    @Override
+    public void pending(String step) {
+        report(new ReportEvent(Type.PENDING, step));
+    }
+
+    @Override
+    public void notPerformed(String step) {
+        report(new ReportEvent(Type.NOT_PERFORMED, step));
+    }
+
+    @Override
+    public void failed(String step, Throwable cause) {
+        report(new ReportEvent(Type.FAILED, step, cause));
+    }
+
+    @Override
+    public void failedOutcomes(String step, OutcomesTable table) {
+        report(new ReportEvent(Type.FAILED_OUTCOMES, step, table));
+    }
+
+    @Override
+    public void dryRun() {
+        report(new ReportEvent(Type.DRY_RUN));
+    }
+
+    @Override
+    public void pendingMethods(List<String> methods) {
+        report(new ReportEvent(Type.PENDING_METHODS, methods));
+    }
+
+    @Override
+    public void restarted(String step, Throwable cause) {
+        report(new ReportEvent(Type.RESTARTED, step, cause));
+    }
+
+    @Override
+    public void restartedStory(Story story, Throwable cause) {
+        report(new ReportEvent(Type.RESTARTED_STORY, story, cause));
+    }
+
+    @Override
+    public void storyCancelled(Story story, StoryDuration storyDuration) {
+        report(new ReportEvent(Type.STORY_CANCELLED, story, storyDuration));
+    }
+
+    public StoryReporter getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Waits until the reports queued are all invoked, rethrowing the first
+     * failure of a report, if any
+     */
+    public void flush() {
+        boolean interrupted = false;
+        synchronized (drained) {
+            while (pending.get() > 0) {
+                try {
+                    drained.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable failed = failure;
+        if (failed != null) {
+            failure = null;
+            if (failed instanceof Error) {
+                throw (Error) failed;
+            }
+            throw (RuntimeException) failed;
+        }
+    }
+
+    private void report(ReportEvent event) {
+        if (backPressure == BackPressure.DROP_VERBOSE && event.isVerbose()) {
+            pending.incrementAndGet();
+            if (!queue.offer(event)) {
+                pending.decrementAndGet();
+                return;
+            }
+        } else {
+            pending.incrementAndGet();
+            put(event);
+        }
+        if (draining.compareAndSet(false, true)) {
+            try {
+                writer.execute(drain);
+            } catch (RejectedExecutionException e) {
+                // the reports are invoked by the thread reporting
+                drain();
+            }
+        }
+    }
+
+    private void put(ReportEvent event) {
+        // the report is queued even if the thread is interrupted, e.g. when
+        // its story is cancelled, so that the cancellation is reported
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(event);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        do {
+            ReportEvent event;
+            while ((event = queue.poll()) != null) {
+                try {
+                    event.replay(delegate);
+                } catch (RuntimeException | Error e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+            draining.set(false);
+            synchronized (drained) {
+                drained.notifyAll();
+            }
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+}
@@ -1,9 +1,6 @@
 package org.jbehave.core.reporters;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -16,99 +13,57 @@ import org.jbehave.core.model.OutcomesTable;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.ReportEvent.Type;
 
 /**
  * When running a multithreading mode, reports cannot be written concurrently but should 
  * be delayed and invoked only at the end of a story, ensuring synchronization on the delegate
  * responsible for the reporting.
+ * <p>
+ * The delayed reports are recorded as typed events, replayed by calling the
+ * delegate directly. The number of events recorded can be bounded, in which
+ * case the recorded events are invoked as soon as the bound is reached, which
+ * is only suitable if the delegate reports the story alone, e.g. to its own
+ * files, as the reports of the story are then no longer delayed until its end.
+ * </p>
  */
 public class ConcurrentStoryReporter implements StoryReporter {
 
-    private static Method storyCancelled;
-    private static Method storyNotAllowed;
-    private static Method beforeStory;
-    private static Method afterStory;
-    private static Method narrative;
-    private static Method lifecycle;
-    private static Method scenarioNotAllowed;
-    private static Method beforeScenario;
-    private static Method beforeScenarioDeprecated;
-    private static Method scenarioMeta;
-    private static Method afterScenario;
-    private static Method beforeGivenStories;
-    private static Method givenStories;
-    private static Method givenStoriesPaths;
-    private static Method afterGivenStories;
-    private static Method beforeExamples;
-    private static Method example;
-    private static Method afterExamples;
-    private static Method beforeStep;
-    private static Method successful;
-    private static Method ignorable;
-    private static Method comment;
-    private static Method pending;
-    private static Method notPerformed;
-    private static Method failed;
-    private static Method failedOutcomes;
-    private static Method dryRun;
-    private static Method pendingMethods;
-    private static Method restarted;
-    private static Method restartedStory;
-
-    static {
-        try {
-            storyCancelled = StoryReporter.class.getMethod("storyCancelled", Story.class, StoryDuration.class);
-            storyNotAllowed = StoryReporter.class.getMethod("storyNotAllowed", Story.class, String.class);
-            beforeStory = StoryReporter.class.getMethod("beforeStory", Story.class, Boolean.TYPE);
-            afterStory = StoryReporter.class.getMethod("afterStory", Boolean.TYPE);
-            narrative = StoryReporter.class.getMethod("narrative", Narrative.class);
-            lifecycle = StoryReporter.class.getMethod("lifecyle", Lifecycle.class);
-            scenarioNotAllowed = StoryReporter.class.getMethod("scenarioNotAllowed", Scenario.class, String.class);
-            beforeScenario = StoryReporter.class.getMethod("beforeScenario", Scenario.class);
-            beforeScenarioDeprecated = StoryReporter.class.getMethod("beforeScenario", String.class);
-            scenarioMeta = StoryReporter.class.getMethod("scenarioMeta", Meta.class);
-            afterScenario = StoryReporter.class.getMethod("afterScenario");
-            beforeGivenStories = StoryReporter.class.getMethod("beforeGivenStories");
-            givenStories = StoryReporter.class.getMethod("givenStories", GivenStories.class);
-            givenStoriesPaths = StoryReporter.class.getMethod("givenStories", List.class);
-            afterGivenStories = StoryReporter.class.getMethod("afterGivenStories");
-            beforeExamples = StoryReporter.class.getMethod("beforeExamples", List.class, ExamplesTable.class);
-            example = StoryReporter.class.getMethod("example", Map.class);
-            afterExamples = StoryReporter.class.getMethod("afterExamples");
-            beforeStep = StoryReporter.class.getMethod("beforeStep", String.class);
-            successful = StoryReporter.class.getMethod("successful", String.class);
-            ignorable = StoryReporter.class.getMethod("ignorable", String.class);
-            comment = StoryReporter.class.getMethod("comment", String.class);
-            pending = StoryReporter.class.getMethod("pending", String.class);
-            notPerformed = StoryReporter.class.getMethod("notPerformed", String.class);
-            failed = StoryReporter.class.getMethod("failed", String.class, Throwable.class);
-            failedOutcomes = StoryReporter.class.getMethod("failedOutcomes", String.class, OutcomesTable.class);
-            dryRun = StoryReporter.class.getMethod("dryRun");
-            pendingMethods = StoryReporter.class.getMethod("pendingMethods", List.class);
-            restarted = StoryReporter.class.getMethod("restarted", String.class, Throwable.class);
-            restartedStory = StoryReporter.class.getMethod("restartedStory", Story.class, Throwable.class);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private List<DelayedMethod> delayedMethods = new ArrayList<>();
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final List<ReportEvent> delayedEvents = new ArrayList<>(INITIAL_CAPACITY);
     private final StoryReporter crossReferencing;
     private final StoryReporter delegate;
     private final boolean multiThreading;
+    private final int maxDelayedEvents;
     private boolean invoked = false;
 
     public ConcurrentStoryReporter(StoryReporter crossReferencing, StoryReporter delegate, boolean multiThreading) {
+        this(crossReferencing, delegate, multiThreading, UNBOUNDED);
+    }
+
+    /**
+     * @param crossReferencing the StoryReporter invoked straight away
+     * @param delegate the StoryReporter whose invocations are delayed in
+     *            multithreading mode
+     * @param multiThreading the boolean flag
+     * @param maxDelayedEvents the maximum number of delayed events, invoked
+     *            once reached
+     */
+    public ConcurrentStoryReporter(StoryReporter crossReferencing, StoryReporter delegate, boolean multiThreading,
+            int maxDelayedEvents) {
         this.crossReferencing = crossReferencing;
         this.multiThreading = multiThreading;
         this.delegate = delegate;
+        this.maxDelayedEvents = maxDelayedEvents;
     }
 
     @Override
     public void storyNotAllowed(Story story, String filter) {
         crossReferencing.storyNotAllowed(story, filter);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(storyNotAllowed, story, filter));
+            delay(new ReportEvent(Type.STORY_NOT_ALLOWED, story, filter));
         } else {
             delegate.storyNotAllowed(story, filter);
         }
@@ -118,7 +73,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeStory(Story story, boolean givenStory) {
         crossReferencing.beforeStory(story, givenStory);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeStory, story, givenStory));
+            delay(new ReportEvent(Type.BEFORE_STORY, story, givenStory));
         } else {
             delegate.beforeStory(story, givenStory);
         }
@@ -128,7 +83,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterStory(boolean givenStory) {
         crossReferencing.afterStory(givenStory);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterStory, givenStory));
+            delay(new ReportEvent(Type.AFTER_STORY, givenStory));
         } else {
             delegate.afterStory(givenStory);
         }
@@ -138,17 +93,17 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void narrative(Narrative aNarrative) {
         crossReferencing.narrative(aNarrative);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(narrative, aNarrative));
+            delay(new ReportEvent(Type.NARRATIVE, aNarrative));
         } else {
             delegate.narrative(aNarrative);
         }
     }
-    
+
     @Override
     public void lifecyle(Lifecycle aLifecycle) {
         crossReferencing.lifecyle(aLifecycle);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(lifecycle, aLifecycle));
+            delay(new ReportEvent(Type.LIFECYCLE, aLifecycle));
         } else {
             delegate.lifecyle(aLifecycle);
         }
@@ -158,7 +113,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void scenarioNotAllowed(Scenario scenario, String filter) {
         crossReferencing.scenarioNotAllowed(scenario, filter);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(scenarioNotAllowed, scenario, filter));
+            delay(new ReportEvent(Type.SCENARIO_NOT_ALLOWED, scenario, filter));
         } else {
             delegate.scenarioNotAllowed(scenario, filter);
         }
@@ -168,7 +123,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeScenario(Scenario scenario) {
         crossReferencing.beforeScenario(scenario);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeScenario, scenario));
+            delay(new ReportEvent(Type.BEFORE_SCENARIO, scenario));
         } else {
             delegate.beforeScenario(scenario);
         }
@@ -178,7 +133,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeScenario(String scenarioTitle) {
         crossReferencing.beforeScenario(scenarioTitle);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeScenarioDeprecated, scenarioTitle));
+            delay(new ReportEvent(Type.BEFORE_SCENARIO_TITLE, scenarioTitle));
         } else {
             delegate.beforeScenario(scenarioTitle);
         }
@@ -188,7 +143,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void scenarioMeta(Meta meta) {
         crossReferencing.scenarioMeta(meta);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(scenarioMeta, meta));
+            delay(new ReportEvent(Type.SCENARIO_META, meta));
         } else {
             delegate.scenarioMeta(meta);
         }
@@ -198,7 +153,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterScenario() {
         crossReferencing.afterScenario();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterScenario));
+            delay(new ReportEvent(Type.AFTER_SCENARIO));
         } else {
             delegate.afterScenario();
         }
@@ -208,7 +163,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeGivenStories() {
         crossReferencing.beforeGivenStories();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeGivenStories));
+            delay(new ReportEvent(Type.BEFORE_GIVEN_STORIES));
         } else {
             delegate.beforeGivenStories();
         }
@@ -218,7 +173,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void givenStories(GivenStories stories) {
         crossReferencing.givenStories(stories);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(givenStories, stories));
+            delay(new ReportEvent(Type.GIVEN_STORIES, stories));
         } else {
             delegate.givenStories(stories);
         }
@@ -228,7 +183,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void givenStories(List<String> storyPaths) {
         crossReferencing.givenStories(storyPaths);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(givenStoriesPaths, storyPaths));
+            delay(new ReportEvent(Type.GIVEN_STORIES_PATHS, storyPaths));
         } else {
             delegate.givenStories(storyPaths);
         }
@@ -238,7 +193,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterGivenStories() {
         crossReferencing.afterGivenStories();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterGivenStories));
+            delay(new ReportEvent(Type.AFTER_GIVEN_STORIES));
         } else {
             delegate.afterGivenStories();
         }
@@ -248,7 +203,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeExamples(List<String> steps, ExamplesTable table) {
         crossReferencing.beforeExamples(steps, table);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeExamples, steps, table));
+            delay(new ReportEvent(Type.BEFORE_EXAMPLES, steps, table));
         } else {
             delegate.beforeExamples(steps, table);
         }
@@ -258,7 +213,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void example(Map<String, String> tableRow) {
         crossReferencing.example(tableRow);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(example, tableRow));
+            delay(new ReportEvent(Type.EXAMPLE, tableRow));
         } else {
             delegate.example(tableRow);
         }
@@ -268,7 +223,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterExamples() {
         crossReferencing.afterExamples();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterExamples));
+            delay(new ReportEvent(Type.AFTER_EXAMPLES));
         } else {
             delegate.afterExamples();
         }
@@ -278,7 +233,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeStep(String step) {
         crossReferencing.beforeStep(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeStep, step));
+            delay(new ReportEvent(Type.BEFORE_STEP, step));
         } else {
             delegate.beforeStep(step);
         }
@@ -288,7 +243,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void successful(String step) {
         crossReferencing.successful(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(successful, step));
+            delay(new ReportEvent(Type.SUCCESSFUL, step));
         } else {
             delegate.successful(step);
         }
@@ -298,7 +253,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void ignorable(String step) {
         crossReferencing.ignorable(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(ignorable, step));
+            delay(new ReportEvent(Type.IGNORABLE, step));
         } else {
             delegate.ignorable(step);
         }
@@ -308,7 +263,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void comment(String step) {
         crossReferencing.comment(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(comment, step));
+            delay(new ReportEvent(Type.COMMENT, step));
         } else {
             delegate.comment(step);
         }
@@ -318,7 +273,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void pending(String step) {
         crossReferencing.pending(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(pending, step));
+            delay(new ReportEvent(Type.PENDING, step));
         } else {
             delegate.pending(step);
         }
@@ -328,7 +283,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void notPerformed(String step) {
         crossReferencing.notPerformed(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(notPerformed, step));
+            delay(new ReportEvent(Type.NOT_PERFORMED, step));
         } else {
             delegate.notPerformed(step);
         }
@@ -338,7 +293,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void failed(String step, Throwable cause) {
         crossReferencing.failed(step, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(failed, step, cause));
+            delay(new ReportEvent(Type.FAILED, step, cause));
         } else {
             delegate.failed(step, cause);
         }
@@ -348,7 +303,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void failedOutcomes(String step, OutcomesTable table) {
         crossReferencing.failedOutcomes(step, table);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(failedOutcomes, step, table));
+            delay(new ReportEvent(Type.FAILED_OUTCOMES, step, table));
         } else {
             delegate.failedOutcomes(step, table);
         }
@@ -358,7 +313,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void dryRun() {
         crossReferencing.dryRun();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(dryRun));
+            delay(new ReportEvent(Type.DRY_RUN));
         } else {
             delegate.dryRun();
         }
@@ -368,28 +323,27 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void pendingMethods(List<String> methods) {
         crossReferencing.pendingMethods(methods);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(pendingMethods, methods));
+            delay(new ReportEvent(Type.PENDING_METHODS, methods));
         } else {
             delegate.pendingMethods(methods);
         }
-        
     }
-    
+
     @Override
     public void restarted(String step, Throwable cause) {
         crossReferencing.restarted(step, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(restarted, step, cause));
+            delay(new ReportEvent(Type.RESTARTED, step, cause));
         } else {
             delegate.restarted(step, cause);
         }
     }
-    
+
     @Override
-    public void restartedStory(Story story, Throwable cause){
+    public void restartedStory(Story story, Throwable cause) {
         crossReferencing.restartedStory(story, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(restartedStory, story, cause));
+            delay(new ReportEvent(Type.RESTARTED_STORY, story, cause));
         } else {
             delegate.restartedStory(story, cause);
         }
@@ -399,7 +353,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void storyCancelled(Story story, StoryDuration storyDuration) {
         crossReferencing.storyCancelled(story, storyDuration);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(storyCancelled, story, storyDuration));
+            delay(new ReportEvent(Type.STORY_CANCELLED, story, storyDuration));
         } else {
             delegate.storyCancelled(story, storyDuration);
         }
@@ -417,34 +371,24 @@ public class ConcurrentStoryReporter implements StoryReporter {
         if ( !multiThreading ){
             return;
         }
-        synchronized (delegate) {
-            for (DelayedMethod delayed : delayedMethods) {
-                delayed.invoke(delegate);
-            }
-            delayedMethods.clear();
-        }
+        replayDelayed();
         invoked = true;
     }
 
-    public static class DelayedMethod {
-        private Method method;
-        private Object[] args;
-
-        public DelayedMethod(Method method, Object... args) {
-            this.method = method;
-            this.args = args;
+    private void delay(ReportEvent event) {
+        delayedEvents.add(event);
+        if (delayedEvents.size() >= maxDelayedEvents) {
+            replayDelayed();
         }
+    }
 
-        public void invoke(StoryReporter delegate) {
-            try {
-                method.invoke(delegate, args);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(e);
-            } catch (InvocationTargetException e) {
-                throw new RuntimeException(e);
-            } catch (IllegalArgumentException e) {
-                throw new RuntimeException("" + method, e);
+    private void replayDelayed() {
+        synchronized (delegate) {
+            for (ReportEvent event : delayedEvents) {
+                event.replay(delegate);
             }
+            delayedEvents.clear();
         }
     }
+
 }
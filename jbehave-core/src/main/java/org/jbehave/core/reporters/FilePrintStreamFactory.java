@@ -1,9 +1,16 @@
 package org.jbehave.core.reporters;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -14,10 +21,13 @@ import org.jbehave.core.io.StoryLocation;
 /**
  * Creates {@link PrintStream} instances that write to a file identified by the
  * {@link StoryLocation}. {@link FileConfiguration} specifies directory and the
- * extension, providing useful default values.
+ * extension, providing useful default values, as well as the size of the
+ * buffer the output is written through and whether the output is compressed.
  */
 public class FilePrintStreamFactory implements PrintStreamFactory {
 
+    public static final String COMPRESSED_SUFFIX = ".gz";
+
     private final StoryLocation storyLocation;
     private FileConfiguration configuration;
     private File outputFile;
@@ -35,7 +45,8 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
         try {
             outputFile = outputFile();
             outputFile.getParentFile().mkdirs();
-            return new FilePrintStream(outputFile, false);
+            return new FilePrintStream(outputFile, false, configuration.getBufferSize(),
+                    configuration.isCompressed());
         } catch (Exception e) {
             throw new PrintStreamCreationFailed(outputFile, e);
         }
@@ -71,12 +82,14 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
 
     /**
      * Return the file output name, using the configured
-     * {@link FilePathResolver}
+     * {@link FilePathResolver}, with the ".gz" suffix if the output is
+     * compressed
      * 
      * @return The file output name
      */
     protected String outputName() {
-        return configuration.getPathResolver().resolveName(storyLocation, configuration.getExtension());
+        String name = configuration.getPathResolver().resolveName(storyLocation, configuration.getExtension());
+        return configuration.isCompressed() ? name + COMPRESSED_SUFFIX : name;
     }
 
     public static interface FilePathResolver {
@@ -140,6 +153,35 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
             this.append = append;
         }
 
+        /**
+         * Creates a print stream writing to the channel of the file, through
+         * a buffer of given size, unless it is 0, and compressing the output
+         * with gzip, if required. The buffered output is written when the
+         * buffer is full, when the stream is flushed and when it is closed.
+         */
+        public FilePrintStream(File outputFile, boolean append, int bufferSize, boolean compressed)
+                throws IOException {
+            super(outputStream(outputFile, append, bufferSize, compressed));
+            this.outputFile = outputFile;
+            this.append = append;
+        }
+
+        private static OutputStream outputStream(File outputFile, boolean append, int bufferSize,
+                boolean compressed) throws IOException {
+            FileChannel channel = FileChannel.open(outputFile.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, append ? StandardOpenOption.APPEND
+                            : StandardOpenOption.TRUNCATE_EXISTING);
+            OutputStream output = Channels.newOutputStream(channel);
+            if (bufferSize > 0) {
+                output = new BufferedOutputStream(output, bufferSize);
+            }
+            if (compressed) {
+                // sync flush, so that flushing writes all the output compressed so far
+                output = new GZIPOutputStream(output, bufferSize > 0 ? bufferSize : 512, true);
+            }
+            return output;
+        }
+
         @Override
         public String toString() {
             return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append(outputFile).append(append)
@@ -150,16 +192,22 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
 
     /**
      * Configuration class for file print streams. Allows specification the
-     * relative directory (relative to code location) and file extension.
-     * Provides as defaults {@link #RELATIVE_DIRECTORY} and {@link #EXTENSION}.
+     * relative directory (relative to code location), file extension, buffer
+     * size and compression. Provides as defaults {@link #RELATIVE_DIRECTORY},
+     * {@link #EXTENSION} and unbuffered uncompressed outputs, while
+     * {@link #BUFFER_SIZE} is the size of buffer suited to outputs closed at
+     * the end of each story.
      */
     public static class FileConfiguration {
         public static final String RELATIVE_DIRECTORY = "jbehave";
         public static final String EXTENSION = "html";
+        public static final int BUFFER_SIZE = 8192;
 
         private final String relativeDirectory;
         private final String extension;
         private final FilePathResolver pathResolver;
+        private final int bufferSize;
+        private final boolean compressed;
 
         public FileConfiguration() {
             this(EXTENSION);
@@ -170,9 +218,16 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
         }
 
         public FileConfiguration(String relativeDirectory, String extension, FilePathResolver pathResolver) {
+            this(relativeDirectory, extension, pathResolver, 0, false);
+        }
+
+        public FileConfiguration(String relativeDirectory, String extension, FilePathResolver pathResolver,
+                int bufferSize, boolean compressed) {
             this.relativeDirectory = relativeDirectory;
             this.extension = extension;
             this.pathResolver = pathResolver;
+            this.bufferSize = bufferSize;
+            this.compressed = compressed;
         }
 
         public String getRelativeDirectory() {
@@ -187,6 +242,14 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
             return pathResolver;
         }
 
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public boolean isCompressed() {
+            return compressed;
+        }
+
         @Override
         public String toString() {
             return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
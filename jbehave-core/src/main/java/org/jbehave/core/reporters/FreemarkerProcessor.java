@@ -6,7 +6,26 @@ import java.util.Map;
 import freemarker.template.Configuration;
 import freemarker.template.ObjectWrapper;
 
+/**
+ * Processes templates with Freemarker, loading them from the classpath of the
+ * template loading class. The {@link Configuration} of each template loading
+ * class is shared by all the processors, so that the templates are loaded and
+ * parsed once and then served from its template cache.
+ */
 public class FreemarkerProcessor implements TemplateProcessor {
+
+    private static final ClassValue<Configuration> CONFIGURATIONS = new ClassValue<Configuration>() {
+        @Override
+        protected Configuration computeValue(Class<?> templateLoadingFrom) {
+            // configured once before being shared, as required by Freemarker
+            // for the configuration to be used by concurrent threads
+            Configuration configuration = new Configuration();
+            configuration.setClassForTemplateLoading(templateLoadingFrom, "/");
+            configuration.setObjectWrapper(ObjectWrapper.BEANS_WRAPPER);
+            return configuration;
+        }
+    };
+
     private Class<?> templateLoadingFrom;
         
     public FreemarkerProcessor() {
@@ -26,11 +45,14 @@ public class FreemarkerProcessor implements TemplateProcessor {
         }
     }
 
+    /**
+     * Returns the configuration shared by the processors loading templates
+     * from the same class, which must not be modified
+     * 
+     * @return The Configuration
+     */
     public Configuration configuration() {
-        Configuration configuration = new Configuration();
-        configuration.setClassForTemplateLoading(templateLoadingFrom, "/");
-        configuration.setObjectWrapper(ObjectWrapper.BEANS_WRAPPER);
-        return configuration;
+        return CONFIGURATIONS.get(templateLoadingFrom);
     }
 
     @SuppressWarnings("serial")
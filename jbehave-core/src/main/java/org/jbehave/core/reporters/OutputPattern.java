@@ -0,0 +1,139 @@
+package org.jbehave.core.reporters;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MessageFormat} pattern parsed once into literal and argument
+ * segments, so that formatting appends the segments without parsing the
+ * pattern again. Only the simple argument syntax, i.e. <code>{n}</code>, is
+ * compiled: patterns using format types or styles and arguments that are
+ * numbers or dates are formatted by the {@link MessageFormat}, so that the
+ * output is always the same.
+ */
+class OutputPattern {
+
+    private static final ConcurrentMap<String, OutputPattern> COMPILED = new ConcurrentHashMap<>();
+    private static final int MAX_ARGUMENT_DIGITS = 4;
+
+    private final String pattern;
+    private final String[] literals;
+    private final int[] arguments;
+
+    private OutputPattern(String pattern, String[] literals, int[] arguments) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Returns the compiled pattern, shared by all the outputs using it
+     *
+     * @param pattern the MessageFormat pattern
+     * @return The OutputPattern
+     */
+    static OutputPattern compile(String pattern) {
+        OutputPattern compiled = COMPILED.get(pattern);
+        if (compiled == null) {
+            compiled = parse(pattern);
+            OutputPattern existing = COMPILED.putIfAbsent(pattern, compiled);
+            if (existing != null) {
+                compiled = existing;
+            }
+        }
+        return compiled;
+    }
+
+    private static OutputPattern parse(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean inQuote = false;
+        int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    literal.append(c);
+                    i++;
+                } else {
+                    inQuote = !inQuote;
+                }
+            } else if (c == '{' && !inQuote) {
+                int end = pattern.indexOf('}', i + 1);
+                int argument = end > i + 1 && end - i - 1 <= MAX_ARGUMENT_DIGITS ? argument(pattern, i + 1, end)
+                        : -1;
+                if (argument < 0) {
+                    // format types, styles or malformed arguments
+                    return new OutputPattern(pattern, null, null);
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                arguments.add(argument);
+                i = end;
+            } else {
+                literal.append(c);
+            }
+        }
+        literals.add(literal.toString());
+        int[] indexes = new int[arguments.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = arguments.get(i);
+        }
+        return new OutputPattern(pattern, literals.toArray(new String[literals.size()]), indexes);
+    }
+
+    private static int argument(String pattern, int start, int end) {
+        int argument = 0;
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            argument = argument * 10 + (c - '0');
+        }
+        return argument;
+    }
+
+    /**
+     * Appends the pattern formatted with the arguments to the buffer, as
+     * {@link MessageFormat#format(String, Object...)} would
+     *
+     * @param buffer the StringBuilder to append to
+     * @param args the arguments of the pattern
+     */
+    void appendTo(StringBuilder buffer, Object... args) {
+        if (args == null) {
+            args = new Object[0];
+        }
+        if (literals == null || !compilable(args)) {
+            buffer.append(MessageFormat.format(pattern, args));
+            return;
+        }
+        buffer.append(literals[0]);
+        for (int i = 0; i < arguments.length; i++) {
+            int argument = arguments[i];
+            if (argument >= args.length) {
+                buffer.append('{').append(argument).append('}');
+            } else {
+                buffer.append(args[argument]);
+            }
+            buffer.append(literals[i + 1]);
+        }
+    }
+
+    private boolean compilable(Object[] args) {
+        for (int argument : arguments) {
+            if (argument < args.length && (args[argument] instanceof Number || args[argument] instanceof Date)) {
+                // formatted by locale
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -5,16 +5,14 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.text.MessageFormat;
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.Transformer;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -24,6 +22,7 @@ import org.jbehave.core.embedder.MetaFilter;
 import org.jbehave.core.failures.KnownFailure;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTable.RowIterator;
 import org.jbehave.core.model.GivenStories;
 import org.jbehave.core.model.GivenStory;
 import org.jbehave.core.model.Lifecycle;
@@ -66,8 +65,8 @@ import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
  * patterns.setProperty(&quot;failed&quot;, &quot;{0} &lt;&lt;&lt; {1}&quot;);
  * </pre>
  * 
- * The pattern is by default processed and formatted by the
- * {@link MessageFormat}. Both the
+ * The pattern is by default processed and formatted as by the
+ * {@link MessageFormat}, each pattern being parsed once. Both the
  * {@link #format(String key, String defaultPattern, Object... args)} and
  * {@link #lookupPattern(String key, String defaultPattern)} methods are
  * override-able and a different formatter or pattern lookup can be used by
@@ -89,6 +88,13 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
 
     private static final String EMPTY = "";
     public static final String NL = "\n";
+    private static final int MAX_BUFFER_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
 
     public enum Format {
         TXT {
@@ -125,6 +131,7 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
     private final PrintStream output;
     private final Properties outputPatterns;
     private final Keywords keywords;
+    private final ConcurrentMap<String, String> escapedPatterns = new ConcurrentHashMap<>();
     private ThreadLocal<Boolean> reportFailureTrace = new ThreadLocal<>();
     private ThreadLocal<Boolean> compressFailureTrace = new ThreadLocal<>();
     private ThreadLocal<Throwable> cause = new ThreadLocal<>();
@@ -196,6 +203,8 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
             this.cause.set(storyFailure.getCause());
             print(format("failed", "{0} ({1})\n({2})\n", step, keywords.failed(), storyFailure.getCause(),
                     ((UUIDExceptionWrapper) storyFailure).getUUID()));
+            // failures are written out as they occur, even if output is buffered
+            output.flush();
         } else {
             throw new ClassCastException(storyFailure + " should be an instance of UUIDExceptionWrapper");
         }
@@ -412,7 +421,12 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
             print(format("examplesStep", "{0}\n", step));
         }
         print(format("examplesStepsEnd", EMPTY));
-        print(formatTable(table));
+        if (table.isStreamed()) {
+            // the rows are printed as they are read, rather than all at once
+            printTable(output, table);
+        } else {
+            print(formatTable(table));
+        }
     }
 
     @Override
@@ -442,11 +456,13 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
     @Override
     public void restarted(String step, Throwable cause) {
         print(format("restarted", "{0} {1}\n", step, cause.getMessage()));
+        output.flush();
     }
     
     @Override
     public void restartedStory(Story story, Throwable cause) {
         print(format("restartedStory", "{0} {1}\n", story.getPath(), cause.getMessage()));
+        output.flush();
     }
 
     /**
@@ -462,14 +478,25 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
         String escape = escape(defaultPattern);
         String s = lookupPattern(key, escape);
         Object[] objects = escapeAll(args);
-        return MessageFormat.format(s, objects);
+        StringBuilder buffer = BUFFER.get();
+        if (buffer.capacity() > MAX_BUFFER_CAPACITY) {
+            // do not hold on to the buffer of an exceptionally large output
+            buffer = new StringBuilder(256);
+            BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
+        OutputPattern.compile(s).appendTo(buffer, objects);
+        return buffer.toString();
     }
 
     protected String formatTable(ExamplesTable table) {
         OutputStream formatted = new ByteArrayOutputStream();
-        PrintStream out = new PrintStream(formatted);
+        printTable(new PrintStream(formatted), table);
+        return formatted.toString();
+    }
+
+    private void printTable(PrintStream out, ExamplesTable table) {
         print(out, format("examplesTableStart", NL));
-        List<Map<String, String>> rows = table.getRows();
         List<String> headers = table.getHeaders();
         print(out, format("examplesTableHeadStart", "|"));
         for (String header : headers) {
@@ -477,20 +504,33 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
         }
         print(out, format("examplesTableHeadEnd", NL));
         print(out, format("examplesTableBodyStart", EMPTY));
-        for (Map<String, String> row : rows) {
-            print(out, format("examplesTableRowStart", "|"));
-            for (String header : headers) {
-                print(out, format("examplesTableCell", "{0}|", row.get(header)));
+        RowIterator rows = table.rowIterator();
+        try {
+            while (rows.hasNext()) {
+                Map<String, String> row = rows.next();
+                print(out, format("examplesTableRowStart", "|"));
+                for (String header : headers) {
+                    print(out, format("examplesTableCell", "{0}|", row.get(header)));
+                }
+                print(out, format("examplesTableRowEnd", NL));
             }
-            print(out, format("examplesTableRowEnd", NL));
+        } finally {
+            rows.close();
         }
         print(out, format("examplesTableBodyEnd", EMPTY));
         print(out, format("examplesTableEnd", EMPTY));
-        return formatted.toString();
     }
 
     private String escape(String defaultPattern) {
-        return (String) escapeAll(defaultPattern)[0];
+        if (defaultPattern == null) {
+            return (String) escapeAll(defaultPattern)[0];
+        }
+        String escaped = escapedPatterns.get(defaultPattern);
+        if (escaped == null) {
+            escaped = (String) escapeAll(defaultPattern)[0];
+            escapedPatterns.put(defaultPattern, escaped);
+        }
+        return escaped;
     }
 
     private Object[] escapeAll(Object... args) {
@@ -505,16 +545,14 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
      * @return The cloned and escaped array of args
      */
     protected Object[] escape(final Format format, Object... args) {
-        // Transformer that escapes HTML,XML,JSON strings
-        Transformer<Object, Object> escapingTransformer = new Transformer<Object, Object>() {
-            @Override
-            public Object transform(Object object) {
-                return format.escapeValue(object);
-            }
-        };
-        List<Object> list = Arrays.asList(ArrayUtils.clone(args));
-        CollectionUtils.transform(list, escapingTransformer);
-        return list.toArray();
+        if (args == null) {
+            return null;
+        }
+        Object[] escaped = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            escaped[i] = format.escapeValue(args[i]);
+        }
+        return escaped;
     }
 
     /**
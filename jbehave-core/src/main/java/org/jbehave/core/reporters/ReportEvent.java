@@ -0,0 +1,154 @@
+package org.jbehave.core.reporters;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+
+/**
+ * A report recorded to be replayed later, holding the arguments of the
+ * {@link StoryReporter} method of its type, which is then called directly.
+ */
+class ReportEvent {
+
+    enum Type {
+        STORY_NOT_ALLOWED, BEFORE_STORY, AFTER_STORY, NARRATIVE, LIFECYCLE, SCENARIO_NOT_ALLOWED, BEFORE_SCENARIO,
+        BEFORE_SCENARIO_TITLE, SCENARIO_META, AFTER_SCENARIO, BEFORE_GIVEN_STORIES, GIVEN_STORIES,
+        GIVEN_STORIES_PATHS, AFTER_GIVEN_STORIES, BEFORE_EXAMPLES, EXAMPLE, AFTER_EXAMPLES, BEFORE_STEP,
+        SUCCESSFUL, IGNORABLE, COMMENT, PENDING, NOT_PERFORMED, FAILED, FAILED_OUTCOMES, DRY_RUN,
+        PENDING_METHODS, RESTARTED, RESTARTED_STORY, STORY_CANCELLED
+    }
+
+    private final Type type;
+    private final Object first;
+    private final Object second;
+
+    ReportEvent(Type type) {
+        this(type, null, null);
+    }
+
+    ReportEvent(Type type, Object first) {
+        this(type, first, null);
+    }
+
+    ReportEvent(Type type, Object first, Object second) {
+        this.type = type;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Verbose events only add detail to the report of a story, which is
+     * complete without them
+     * 
+     * @return A boolean, <code>true</code> if the event is verbose
+     */
+    boolean isVerbose() {
+        return type == Type.BEFORE_STEP || type == Type.COMMENT;
+    }
+
+    @SuppressWarnings("unchecked")
+    void replay(StoryReporter reporter) {
+        switch (type) {
+        case STORY_NOT_ALLOWED:
+            reporter.storyNotAllowed((Story) first, (String) second);
+            break;
+        case BEFORE_STORY:
+            reporter.beforeStory((Story) first, (Boolean) second);
+            break;
+        case AFTER_STORY:
+            reporter.afterStory((Boolean) first);
+            break;
+        case NARRATIVE:
+            reporter.narrative((Narrative) first);
+            break;
+        case LIFECYCLE:
+            reporter.lifecyle((Lifecycle) first);
+            break;
+        case SCENARIO_NOT_ALLOWED:
+            reporter.scenarioNotAllowed((Scenario) first, (String) second);
+            break;
+        case BEFORE_SCENARIO:
+            reporter.beforeScenario((Scenario) first);
+            break;
+        case BEFORE_SCENARIO_TITLE:
+            reporter.beforeScenario((String) first);
+            break;
+        case SCENARIO_META:
+            reporter.scenarioMeta((Meta) first);
+            break;
+        case AFTER_SCENARIO:
+            reporter.afterScenario();
+            break;
+        case BEFORE_GIVEN_STORIES:
+            reporter.beforeGivenStories();
+            break;
+        case GIVEN_STORIES:
+            reporter.givenStories((GivenStories) first);
+            break;
+        case GIVEN_STORIES_PATHS:
+            reporter.givenStories((List<String>) first);
+            break;
+        case AFTER_GIVEN_STORIES:
+            reporter.afterGivenStories();
+            break;
+        case BEFORE_EXAMPLES:
+            reporter.beforeExamples((List<String>) first, (ExamplesTable) second);
+            break;
+        case EXAMPLE:
+            reporter.example((Map<String, String>) first);
+            break;
+        case AFTER_EXAMPLES:
+            reporter.afterExamples();
+            break;
+        case BEFORE_STEP:
+            reporter.beforeStep((String) first);
+            break;
+        case SUCCESSFUL:
+            reporter.successful((String) first);
+            break;
+        case IGNORABLE:
+            reporter.ignorable((String) first);
+            break;
+        case COMMENT:
+            reporter.comment((String) first);
+            break;
+        case PENDING:
+            reporter.pending((String) first);
+            break;
+        case NOT_PERFORMED:
+            reporter.notPerformed((String) first);
+            break;
+        case FAILED:
+            reporter.failed((String) first, (Throwable) second);
+            break;
+        case FAILED_OUTCOMES:
+            reporter.failedOutcomes((String) first, (OutcomesTable) second);
+            break;
+        case DRY_RUN:
+            reporter.dryRun();
+            break;
+        case PENDING_METHODS:
+            reporter.pendingMethods((List<String>) first);
+            break;
+        case RESTARTED:
+            reporter.restarted((String) first, (Throwable) second);
+            break;
+        case RESTARTED_STORY:
+            reporter.restartedStory((Story) first, (Throwable) second);
+            break;
+        case STORY_CANCELLED:
+            reporter.storyCancelled((Story) first, (StoryDuration) second);
+            break;
+        }
+    }
+
+}
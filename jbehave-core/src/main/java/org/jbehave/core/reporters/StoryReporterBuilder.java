@@ -8,12 +8,17 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.io.CodeLocations;
 import org.jbehave.core.io.StoryLocation;
+import org.jbehave.core.reporters.AsynchronousStoryReporter.BackPressure;
 import org.jbehave.core.reporters.FilePrintStreamFactory.FileConfiguration;
 import org.jbehave.core.reporters.FilePrintStreamFactory.FilePathResolver;
 
@@ -154,6 +159,13 @@ public class StoryReporterBuilder {
     protected CrossReference crossReference;
     protected SurefireReporter surefireReporter;
     protected boolean multiThreading;
+    protected int maxDelayedEvents = Integer.MAX_VALUE;
+    protected int reportingThreads = 0;
+    protected int reportingQueueCapacity = 1000;
+    protected BackPressure reportingBackPressure = BackPressure.BLOCK;
+    protected int outputBufferSize = FileConfiguration.BUFFER_SIZE;
+    protected boolean compressOutputs = false;
+    private ExecutorService reportingExecutor;
     protected Configuration configuration;
     private FileConfiguration defaultFileConfiguration = new FileConfiguration();
 
@@ -230,6 +242,22 @@ public class StoryReporterBuilder {
         return multiThreading;
     }
 
+    public int maxDelayedEvents() {
+        return maxDelayedEvents;
+    }
+
+    public int reportingThreads() {
+        return reportingThreads;
+    }
+
+    public int outputBufferSize() {
+        return outputBufferSize;
+    }
+
+    public boolean compressOutputs() {
+        return compressOutputs;
+    }
+
     public boolean reportFailureTrace() {
         return reportFailureTrace;
     }
@@ -349,6 +377,78 @@ public class StoryReporterBuilder {
         return this;
     }
 
+    /**
+     * Bounds the number of events delayed by the reporters of each story in
+     * multithreading mode, the delayed events being reported as soon as the
+     * bound is reached rather than at the end of the story. The events are
+     * not bounded by default, as the reports of stories written to the same
+     * output would otherwise be interleaved.
+     * 
+     * @param maxDelayedEvents the maximum number of delayed events
+     * @return The StoryReporterBuilder
+     */
+    public StoryReporterBuilder withMaxDelayedEvents(int maxDelayedEvents) {
+        this.maxDelayedEvents = maxDelayedEvents;
+        return this;
+    }
+
+    /**
+     * Reports the stories asynchronously, using a number of writer threads
+     * shared by the stories, so that the threads performing the stories do not
+     * wait on the output of the reports. Defaults to 0, i.e. reporting
+     * synchronously.
+     * 
+     * @param reportingThreads the number of writer threads
+     * @return The StoryReporterBuilder
+     * @see AsynchronousStoryReporter
+     */
+    public StoryReporterBuilder withAsynchronousReporting(int reportingThreads) {
+        this.reportingThreads = reportingThreads;
+        return this;
+    }
+
+    /**
+     * Specifies the queue of the reports of each story, when reporting
+     * asynchronously
+     * 
+     * @param capacity the capacity of the queue
+     * @param backPressure the BackPressure applied when the queue is full
+     * @return The StoryReporterBuilder
+     */
+    public StoryReporterBuilder withReportingQueue(int capacity, BackPressure backPressure) {
+        this.reportingQueueCapacity = capacity;
+        this.reportingBackPressure = backPressure;
+        return this;
+    }
+
+    /**
+     * Specifies the size of the buffer the file outputs are written through,
+     * the buffered output being written when the buffer is full, when a
+     * failure is reported and when the story is over. Defaults to
+     * {@link FileConfiguration#BUFFER_SIZE}, 0 writing each report as it
+     * occurs.
+     * 
+     * @param outputBufferSize the size of the buffer in bytes
+     * @return The StoryReporterBuilder
+     */
+    public StoryReporterBuilder withOutputBufferSize(int outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+        return this;
+    }
+
+    /**
+     * Compresses the file outputs with gzip, adding the ".gz" suffix to their
+     * names. The statistics are not compressed, as they are read when the
+     * reports view is generated.
+     * 
+     * @param compressOutputs the boolean flag
+     * @return The StoryReporterBuilder
+     */
+    public StoryReporterBuilder withCompressedOutputs(boolean compressOutputs) {
+        this.compressOutputs = compressOutputs;
+        return this;
+    }
+
     public StoryReporterBuilder withViewResources(Properties resources) {
         this.viewResources = resources;
         return this;
@@ -360,10 +460,31 @@ public class StoryReporterBuilder {
             delegates.put(format, reporterFor(storyPath, format));
         }
 
-        DelegatingStoryReporter delegate = new DelegatingStoryReporter(
+        StoryReporter delegate = new DelegatingStoryReporter(
                 delegates.values());
+        if (reportingThreads() > 0) {
+            delegate = new AsynchronousStoryReporter(delegate, reportingExecutor(), reportingQueueCapacity,
+                    reportingBackPressure);
+        }
         return new ConcurrentStoryReporter(new NullStoryReporter(), delegate,
-                multiThreading());
+                multiThreading(), maxDelayedEvents());
+    }
+
+    private synchronized ExecutorService reportingExecutor() {
+        if (reportingExecutor == null) {
+            // writer threads do not prevent the JVM from exiting, as the
+            // reports of each story are flushed once the story is over
+            reportingExecutor = Executors.newFixedThreadPool(reportingThreads(), new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "jbehave-reporter-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return reportingExecutor;
     }
 
     public Map<String, StoryReporter> build(List<String> storyPaths) {
@@ -391,8 +512,10 @@ public class StoryReporterBuilder {
     }
 
     public FileConfiguration fileConfiguration(String extension) {
+        // statistics are read back by the view generator
+        boolean compressed = compressOutputs() && !"stats".equals(extension);
         return new FileConfiguration(relativeDirectory(), extension,
-                pathResolver());
+                pathResolver(), outputBufferSize(), compressed);
     }
 
     /**
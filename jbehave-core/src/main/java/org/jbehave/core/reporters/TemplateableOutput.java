@@ -42,6 +42,13 @@ import org.jbehave.core.steps.StepCollector;
  * <p>
  * Story reporter that outputs to a template.
  * </p>
+ * <p>
+ * The story is held until it is written to the template after the story,
+ * including all the rows of its examples tables, even when they are streamed
+ * (see {@link ExamplesTable#isStreamed()}). The {@link PrintStreamOutput}s,
+ * which print the rows as they are read, should be used for tables too large
+ * to be held in memory.
+ * </p>
  */
 public class TemplateableOutput extends NullStoryReporter {
 
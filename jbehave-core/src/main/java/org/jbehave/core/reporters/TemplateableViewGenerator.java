@@ -9,6 +9,8 @@ import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -22,6 +24,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.builder.CompareToBuilder;
@@ -203,11 +206,11 @@ public class TemplateableViewGenerator implements ViewGenerator {
             for (String name : reportFiles.keySet()) {
                 Map<String, File> filesByFormat = new HashMap<>();
                 for (File file : reportFiles.get(name)) {
-                    String fileName = file.getName();
+                    String fileName = uncompressedName(file.getName());
                     String format = FilenameUtils.getExtension(fileName);
                     Map<String, Object> dataModel = newDataModel();
                     dataModel.put("name", name);
-                    dataModel.put("body", IOUtils.toString(new FileReader(file), true));
+                    dataModel.put("body", IOUtils.toString(readerOf(file), true));
                     dataModel.put("format", format);
                     File outputDirectory = file.getParentFile();
                     String outputName = viewDirectory + "/" + fileName;
@@ -230,6 +233,28 @@ public class TemplateableViewGenerator implements ViewGenerator {
         }
     }
 
+    private Reader readerOf(File file) throws IOException {
+        if (isCompressed(file.getName())) {
+            return new InputStreamReader(new GZIPInputStream(new FileInputStream(file)));
+        }
+        return new FileReader(file);
+    }
+
+    private static boolean isCompressed(String fileName) {
+        return fileName.endsWith(FilePrintStreamFactory.COMPRESSED_SUFFIX);
+    }
+
+    private static String uncompressedName(String fileName) {
+        if (isCompressed(fileName)) {
+            return fileName.substring(0, fileName.length() - FilePrintStreamFactory.COMPRESSED_SUFFIX.length());
+        }
+        return fileName;
+    }
+
+    /**
+     * Reads the report files of the given formats, including the compressed
+     * ones (with the ".gz" suffix), keyed by the report name.
+     */
     SortedMap<String, List<File>> readReportFiles(File outputDirectory, final String outputName,
             final List<String> formats) {
         SortedMap<String, List<File>> reportFiles = new TreeMap<>();
@@ -238,7 +263,7 @@ public class TemplateableViewGenerator implements ViewGenerator {
         }
         String[] fileNames = outputDirectory.list(new FilenameFilter() {
             public boolean accept(File dir, String name) {
-                return !name.equals(outputName) && hasFormats(name, formats);
+                return !name.equals(outputName) && hasFormats(uncompressedName(name), formats);
             }
 
             private boolean hasFormats(String name, List<String> formats) {
@@ -251,7 +276,7 @@ public class TemplateableViewGenerator implements ViewGenerator {
             }
         });
         for (String fileName : fileNames) {
-            String name = FilenameUtils.getBaseName(fileName);
+            String name = FilenameUtils.getBaseName(uncompressedName(fileName));
             List<File> filesByName = reportFiles.get(name);
             if (filesByName == null) {
                 filesByName = new ArrayList<>();
@@ -0,0 +1,152 @@
+package org.jbehave.core.steps;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.configuration.Configuration;
+
+/**
+ * <p>
+ * Immutable registry of the {@link CandidateSteps} created by an
+ * {@link InjectableStepsFactory}, built once per run and shared by all the
+ * {@link StepCollector}s collecting steps for the stories being run.
+ * </p>
+ * <p>
+ * Creating the {@link StepCandidate}s and {@link BeforeOrAfterStep}s requires
+ * reflection over the steps types, the expansion of the pattern variants and
+ * the compilation of the step patterns. The registry does this work once, when
+ * it is created, and each {@link CandidateSteps} it holds returns the lists
+ * collected at that time. The registry is itself a list of
+ * {@link CandidateSteps} and can be used wherever one is expected.
+ * </p>
+ * <p>
+ * The registry reflects the steps factory and the configuration as they were
+ * when it was created and should be rebuilt if either changes (see
+ * {@link #createdBy(InjectableStepsFactory)}).
+ * </p>
+ */
+public class CandidateStepsRegistry extends AbstractList<CandidateSteps> {
+
+    private final InjectableStepsFactory stepsFactory;
+    private final List<CandidateSteps> candidateSteps;
+    private final List<StepCandidate> allCandidates;
+
+    public CandidateStepsRegistry(InjectableStepsFactory stepsFactory) {
+        this(stepsFactory, stepsFactory.createCandidateSteps());
+    }
+
+    public CandidateStepsRegistry(InjectableStepsFactory stepsFactory, List<CandidateSteps> candidateSteps) {
+        this.stepsFactory = stepsFactory;
+        List<CandidateSteps> registered = new ArrayList<>();
+        List<StepCandidate> candidates = new ArrayList<>();
+        for (CandidateSteps steps : candidateSteps) {
+            RegisteredSteps registeredSteps = new RegisteredSteps(steps);
+            registered.add(registeredSteps);
+            candidates.addAll(registeredSteps.listCandidates());
+        }
+        this.candidateSteps = Collections.unmodifiableList(registered);
+        this.allCandidates = Collections.unmodifiableList(candidates);
+    }
+
+    /**
+     * Determines if the registry has been created by the given steps factory
+     *
+     * @param stepsFactory the {@link InjectableStepsFactory}
+     * @return A boolean, <code>true</code> if the registry was created by the
+     *         same steps factory instance
+     */
+    public boolean createdBy(InjectableStepsFactory stepsFactory) {
+        return this.stepsFactory == stepsFactory;
+    }
+
+    public InjectableStepsFactory stepsFactory() {
+        return stepsFactory;
+    }
+
+    /**
+     * Returns the step candidates of all the registered {@link CandidateSteps}
+     *
+     * @return The unmodifiable List of {@link StepCandidate}s
+     */
+    public List<StepCandidate> allCandidates() {
+        return allCandidates;
+    }
+
+    @Override
+    public CandidateSteps get(int index) {
+        return candidateSteps.get(index);
+    }
+
+    @Override
+    public int size() {
+        return candidateSteps.size();
+    }
+
+    /**
+     * {@link CandidateSteps} holding the candidates and the before or after
+     * steps collected from the registered instance.
+     */
+    public static class RegisteredSteps implements CandidateSteps {
+
+        private final CandidateSteps delegate;
+        private final List<StepCandidate> candidates;
+        private final List<BeforeOrAfterStep> beforeOrAfterStories;
+        private final List<BeforeOrAfterStep> beforeOrAfterStory;
+        private final List<BeforeOrAfterStep> beforeOrAfterGivenStory;
+        private final Map<ScenarioType, List<BeforeOrAfterStep>> beforeOrAfterScenario = new EnumMap<>(
+                ScenarioType.class);
+
+        public RegisteredSteps(CandidateSteps delegate) {
+            this.delegate = delegate;
+            this.candidates = unmodifiable(delegate.listCandidates());
+            this.beforeOrAfterStories = unmodifiable(delegate.listBeforeOrAfterStories());
+            this.beforeOrAfterStory = unmodifiable(delegate.listBeforeOrAfterStory(false));
+            this.beforeOrAfterGivenStory = unmodifiable(delegate.listBeforeOrAfterStory(true));
+            for (ScenarioType type : ScenarioType.values()) {
+                beforeOrAfterScenario.put(type, unmodifiable(delegate.listBeforeOrAfterScenario(type)));
+            }
+        }
+
+        public CandidateSteps delegate() {
+            return delegate;
+        }
+
+        public List<StepCandidate> listCandidates() {
+            return candidates;
+        }
+
+        public List<BeforeOrAfterStep> listBeforeOrAfterStories() {
+            return beforeOrAfterStories;
+        }
+
+        public List<BeforeOrAfterStep> listBeforeOrAfterStory(boolean givenStory) {
+            return givenStory ? beforeOrAfterGivenStory : beforeOrAfterStory;
+        }
+
+        public List<BeforeOrAfterStep> listBeforeOrAfterScenario(ScenarioType type) {
+            return beforeOrAfterScenario.get(type);
+        }
+
+        public Configuration configuration() {
+            return delegate.configuration();
+        }
+
+        private static <T> List<T> unmodifiable(List<T> list) {
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            return Collections.unmodifiableList(new ArrayList<>(list));
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+
+    }
+}
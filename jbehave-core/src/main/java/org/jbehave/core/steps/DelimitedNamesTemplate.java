@@ -0,0 +1,128 @@
+package org.jbehave.core.steps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Text split once into its literal segments and the names delimited by the
+ * name delimiters of the {@link ParameterControls}, e.g. <code>&lt;name&gt;</code>.
+ * The delimited names can then be replaced by their values, for any values, in
+ * a single pass over the segments rather than searching the text for each
+ * value.
+ * </p>
+ * <p>
+ * Delimited names without a value are left as they are, and values are never
+ * searched for further delimited names.
+ * </p>
+ */
+public class DelimitedNamesTemplate {
+
+    private static final String NONE = "";
+
+    private final String text;
+    private final String nameDelimiterLeft;
+    private final String nameDelimiterRight;
+    private final String[] literals;
+    private final String[] names;
+
+    public DelimitedNamesTemplate(String text, String nameDelimiterLeft, String nameDelimiterRight) {
+        this.text = text;
+        this.nameDelimiterLeft = nameDelimiterLeft;
+        this.nameDelimiterRight = nameDelimiterRight;
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int lastLiteralStart = 0;
+        if (!nameDelimiterLeft.isEmpty() && !nameDelimiterRight.isEmpty()) {
+            lastLiteralStart = split(literals, names);
+        }
+        literals.add(text.substring(lastLiteralStart));
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.names = names.toArray(new String[names.size()]);
+    }
+
+    private int split(List<String> literals, List<String> names) {
+        int literalStart = 0;
+        int from = 0;
+        while (true) {
+            int start = text.indexOf(nameDelimiterLeft, from);
+            if (start == -1) {
+                break;
+            }
+            int nameStart = start + nameDelimiterLeft.length();
+            int end = text.indexOf(nameDelimiterRight, nameStart);
+            if (end == -1) {
+                break;
+            }
+            int nextStart = text.indexOf(nameDelimiterLeft, nameStart);
+            if (nextStart != -1 && nextStart < end) {
+                // names do not contain the left delimiter: the name starts at the last one
+                from = nextStart;
+                continue;
+            }
+            literals.add(text.substring(literalStart, start));
+            names.add(text.substring(nameStart, end));
+            literalStart = end + nameDelimiterRight.length();
+            from = literalStart;
+        }
+        return literalStart;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean hasNames() {
+        return names.length > 0;
+    }
+
+    /**
+     * Replaces the delimited names by their values
+     *
+     * @param values the values by name
+     * @return The text with the delimited names replaced, or the same text if
+     *         none was replaced
+     */
+    public String replace(Map<String, String> values) {
+        return replace(values, NONE, NONE, new StringBuilder());
+    }
+
+    /**
+     * Replaces the delimited names by their values, each enclosed by a start
+     * and an end, using a buffer which may be reused across invocations
+     *
+     * @param values the values by name
+     * @param valueStart the String starting each value
+     * @param valueEnd the String ending each value
+     * @param buffer the StringBuilder to render the text into, cleared before
+     *            use
+     * @return The text with the delimited names replaced, or the same text if
+     *         none was replaced
+     */
+    public String replace(Map<String, String> values, String valueStart, String valueEnd, StringBuilder buffer) {
+        if (names.length == 0 || values.isEmpty()) {
+            return text;
+        }
+        buffer.setLength(0);
+        boolean replaced = false;
+        for (int i = 0; i < names.length; i++) {
+            buffer.append(literals[i]);
+            String value = values.get(names[i]);
+            if (value != null) {
+                buffer.append(valueStart).append(value).append(valueEnd);
+                replaced = true;
+            } else {
+                buffer.append(nameDelimiterLeft).append(names[i]).append(nameDelimiterRight);
+            }
+        }
+        buffer.append(literals[names.length]);
+        return replaced ? buffer.toString() : text;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+}
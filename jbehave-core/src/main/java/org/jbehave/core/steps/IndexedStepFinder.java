@@ -0,0 +1,78 @@
+package org.jbehave.core.steps;
+
+import java.util.List;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+
+/**
+ * <p>
+ * StepFinder that collects the {@link StepCandidate}s in a
+ * {@link StepCandidateIndex}, so that for each textual step only the handful
+ * of candidates that may match it are prioritised and matched, rather than all
+ * the candidates in turn. The candidates are prioritised by
+ * {@link ByPriorityField}, with the same ordering and matching semantics as the
+ * default {@link StepFinder}.
+ * </p>
+ * <p>
+ * When the candidate steps are a {@link CandidateStepsRegistry}, the index is
+ * built once and reused until a different registry is used.
+ * </p>
+ * <p>
+ * The {@link Keywords} must be the same used by the {@link StepCandidate}s,
+ * e.g.:
+ *
+ * <pre>
+ * configuration.useStepCollector(new MarkUnmatchedStepsAsPending(new IndexedStepFinder(keywords), keywords));
+ * </pre>
+ * </p>
+ */
+public class IndexedStepFinder extends StepFinder {
+
+    private final Keywords keywords;
+    private volatile RegistryIndex registryIndex;
+
+    public IndexedStepFinder() {
+        this(new LocalizedKeywords());
+    }
+
+    public IndexedStepFinder(Keywords keywords) {
+        super(new ByPriorityField());
+        this.keywords = keywords;
+    }
+
+    @Override
+    public List<StepCandidate> collectCandidates(List<CandidateSteps> candidateSteps) {
+        if (candidateSteps instanceof CandidateStepsRegistry) {
+            RegistryIndex current = registryIndex;
+            if (current == null || current.registry != candidateSteps) {
+                CandidateStepsRegistry registry = (CandidateStepsRegistry) candidateSteps;
+                current = new RegistryIndex(registry, new StepCandidateIndex(keywords, registry.allCandidates()));
+                registryIndex = current;
+            }
+            return current.index;
+        }
+        return new StepCandidateIndex(keywords, super.collectCandidates(candidateSteps));
+    }
+
+    @Override
+    public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
+        if (candidates instanceof StepCandidateIndex) {
+            return ((StepCandidateIndex) candidates).prioritise(stepAsText);
+        }
+        return super.prioritise(stepAsText, candidates);
+    }
+
+    private static class RegistryIndex {
+
+        private final CandidateStepsRegistry registry;
+        private final StepCandidateIndex index;
+
+        private RegistryIndex(CandidateStepsRegistry registry, StepCandidateIndex index) {
+            this.registry = registry;
+            this.index = index;
+        }
+
+    }
+
+}
@@ -14,6 +14,7 @@ import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StepPatternMatch;
 import org.jbehave.core.steps.AbstractStepResult.Pending;
 import org.jbehave.core.steps.StepCreator.PendingStep;
 
@@ -21,7 +22,7 @@ import org.jbehave.core.steps.StepCreator.PendingStep;
  * StepCollector that marks unmatched steps as {@link Pending}. It uses a
  * {@link StepFinder} to collect and prioritise {@link StepCandidate}s.
  */
-public class MarkUnmatchedStepsAsPending implements StepCollector {
+public class MarkUnmatchedStepsAsPending implements MatchingStepCollector {
 
     private final StepFinder stepFinder;
     private final Keywords keywords;
@@ -97,9 +98,12 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
 
     public List<Step> collectScenarioSteps(List<CandidateSteps> candidateSteps, Scenario scenario,
             Map<String, String> parameters, StepMonitor stepMonitor) {
-        List<Step> steps = new ArrayList<>();
-        addMatchedSteps(scenario.getSteps(), steps, parameters, candidateSteps, stepMonitor);
-        return steps;
+        return matchScenarioSteps(candidateSteps, scenario, stepMonitor).createSteps(parameters);
+    }
+
+    public MatchedSteps matchScenarioSteps(List<CandidateSteps> candidateSteps, Scenario scenario,
+            StepMonitor stepMonitor) {
+        return matchSteps(scenario.getSteps(), candidateSteps, null, stepMonitor);
     }
 
     private List<Step> createSteps(List<BeforeOrAfterStep> beforeOrAfter, Stage stage) {
@@ -137,45 +141,34 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
     }
 
     private void addMatchedSteps(List<String> stepsAsString, List<Step> steps, Map<String, String> namedParameters,
-            List<CandidateSteps> candidateSteps, StepMonitor stepMonitor) {
-        addMatchedSteps(stepsAsString, steps, namedParameters, candidateSteps, null, stepMonitor);
+            List<CandidateSteps> candidateSteps, Outcome outcome, StepMonitor stepMonitor) {
+        steps.addAll(matchSteps(stepsAsString, candidateSteps, outcome, stepMonitor).createSteps(namedParameters));
     }
 
-    private void addMatchedSteps(List<String> stepsAsString, List<Step> steps, Map<String, String> namedParameters,
-            List<CandidateSteps> candidateSteps, Outcome outcome, StepMonitor stepMonitor) {
+    private StepsMatchedOnce matchSteps(List<String> stepsAsString, List<CandidateSteps> candidateSteps,
+            Outcome outcome, StepMonitor stepMonitor) {
         List<StepCandidate> allCandidates = stepFinder.collectCandidates(candidateSteps);
+        List<MatchedStep> matchedSteps = new ArrayList<>();
         String previousNonAndStep = null;
         for (String stepAsString : stepsAsString) {
             // pending is default step, overridden below
-            Step step = StepCreator.createPendingStep(stepAsString, previousNonAndStep);
-            List<Step> composedSteps = new ArrayList<>();
+            MatchedStep matchedStep = new MatchedStep(stepAsString, previousNonAndStep);
             List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString, allCandidates);
             for (StepCandidate candidate : prioritisedCandidates) {
-                candidate.useStepMonitor(stepMonitor);
                 if (candidate.ignore(stepAsString)) {
                     // ignorable steps are added so they can be reported
-                    step = StepCreator.createIgnorableStep(stepAsString);
+                    matchedStep.sameForAnyParameters(StepCreator.createIgnorableStep(stepAsString));
                     break;
                 }
                 if (candidate.comment(stepAsString)) {
                     // comments are added so they can be reported
-                    step = StepCreator.createComment(stepAsString);
+                    matchedStep.sameForAnyParameters(StepCreator.createComment(stepAsString));
                     break;
                 }
-                if (matchesCandidate(stepAsString, previousNonAndStep, candidate)) {
+                StepPatternMatch stepMatch = candidate.match(stepAsString, previousNonAndStep, stepMonitor);
+                if (stepMatch != null) {
                     // step matches candidate
-                    if (candidate.isPending()) {
-                        ((PendingStep) step).annotatedOn(candidate.getMethod());
-                    } else {
-                        if ( outcome != null ){
-                            step = candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, outcome);
-                        } else {
-                            step = candidate.createMatchedStep(stepAsString, namedParameters);
-                        }
-                        if ( candidate.isComposite() ){
-                            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, allCandidates);
-                        }
-                    }
+                    matchedStep.matchedBy(candidate, stepMatch);
                     if (!(candidate.isAndStep(stepAsString) || candidate.isIgnorableStep(stepAsString))) {
                         // only update previous step if not AND or IGNORABLE step
                         previousNonAndStep = stepAsString;
@@ -186,16 +179,94 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
             if ( !(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString)) ){
                 previousNonAndStep = stepAsString;
             }
+            matchedSteps.add(matchedStep);
+        }
+        return new StepsMatchedOnce(matchedSteps, allCandidates, outcome, stepMonitor);
+    }
+
+    /**
+     * The steps matched once against the candidates, creating the executable
+     * steps for any parameters from the matched candidates.
+     */
+    private static class StepsMatchedOnce implements MatchedSteps {
+
+        private final List<MatchedStep> matchedSteps;
+        private final List<StepCandidate> allCandidates;
+        private final Outcome outcome;
+        private final StepMonitor stepMonitor;
+
+        private StepsMatchedOnce(List<MatchedStep> matchedSteps, List<StepCandidate> allCandidates, Outcome outcome,
+                StepMonitor stepMonitor) {
+            this.matchedSteps = matchedSteps;
+            this.allCandidates = allCandidates;
+            this.outcome = outcome;
+            this.stepMonitor = stepMonitor;
+        }
+
+        public List<Step> createSteps(Map<String, String> namedParameters) {
+            List<Step> steps = new ArrayList<>(matchedSteps.size());
+            for (MatchedStep matchedStep : matchedSteps) {
+                matchedStep.addSteps(steps, namedParameters, allCandidates, outcome, stepMonitor);
+            }
+            return steps;
+        }
+
+    }
+
+    private static class MatchedStep {
+
+        private final String stepAsString;
+        private final String previousNonAndStep;
+        private Step sameForAnyParameters;
+        private StepCandidate candidate;
+        private StepPatternMatch stepMatch;
+
+        private MatchedStep(String stepAsString, String previousNonAndStep) {
+            this.stepAsString = stepAsString;
+            this.previousNonAndStep = previousNonAndStep;
+        }
+
+        private void sameForAnyParameters(Step step) {
+            this.sameForAnyParameters = step;
+        }
+
+        private void matchedBy(StepCandidate candidate, StepPatternMatch stepMatch) {
+            this.candidate = candidate;
+            this.stepMatch = stepMatch;
+        }
+
+        private void addSteps(List<Step> steps, Map<String, String> namedParameters,
+                List<StepCandidate> allCandidates, Outcome outcome, StepMonitor stepMonitor) {
+            if (sameForAnyParameters != null) {
+                steps.add(sameForAnyParameters);
+                return;
+            }
+            Step step = StepCreator.createPendingStep(stepAsString, previousNonAndStep);
+            List<Step> composedSteps = new ArrayList<>();
+            if (candidate != null) {
+                if (candidate.isPending()) {
+                    ((PendingStep) step).annotatedOn(candidate.getMethod());
+                } else {
+                    step = createMatchedStep(namedParameters, outcome, stepMonitor);
+                    if ( candidate.isComposite() ){
+                        candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, allCandidates,
+                                stepMonitor);
+                    }
+                }
+            }
             steps.add(step);
             steps.addAll(composedSteps);
         }
-    }
 
-    private boolean matchesCandidate(String step, String previousNonAndStep, StepCandidate candidate) {
-        if (previousNonAndStep != null) {
-            return candidate.matches(step, previousNonAndStep);
+        private Step createMatchedStep(Map<String, String> namedParameters, Outcome outcome,
+                StepMonitor stepMonitor) {
+            if ( outcome != null ){
+                return candidate.createMatchedStepUponOutcome(stepAsString, stepMatch, namedParameters, outcome,
+                        stepMonitor);
+            }
+            return candidate.createMatchedStep(stepAsString, stepMatch, namedParameters, stepMonitor);
         }
-        return candidate.matches(step);
+
     }
 
 }
@@ -0,0 +1,46 @@
+package org.jbehave.core.steps;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.model.Scenario;
+
+/**
+ * A {@link StepCollector} also able to match the steps of a scenario once, so
+ * that its executable {@link Step}s can be created for any parameters without
+ * matching the steps again. Step collectors not implementing it have the steps
+ * of a scenario collected for each set of parameters via
+ * {@link StepCollector#collectScenarioSteps(List, Scenario, Map, StepMonitor)}.
+ */
+public interface MatchingStepCollector extends StepCollector {
+
+    /**
+     * Represents the {@link Step}s of a scenario matched once against the
+     * {@link CandidateSteps}, from which the executable steps are created for
+     * any parameters, e.g. for each row of an examples table.
+     */
+    interface MatchedSteps {
+
+        /**
+         * Creates the executable {@link Step}s for the given parameters,
+         * without matching the steps again.
+         * 
+         * @param parameters the parameters.
+         * @return A List of executable {@link Step}s
+         */
+        List<Step> createSteps(Map<String, String> parameters);
+
+    }
+
+    /**
+     * Matches all of the steps of a scenario once, so that its executable
+     * {@link Step}s can be created for any parameters.
+     * 
+     * @param candidateSteps the {@link CandidateSteps}.
+     * @param scenario the {@link Scenario}.
+     * @param stepMonitor the {@link StepMonitor}.
+     * @return The {@link MatchedSteps} of the scenario
+     */
+    MatchedSteps matchScenarioSteps(List<CandidateSteps> candidateSteps, Scenario scenario, StepMonitor stepMonitor);
+
+}
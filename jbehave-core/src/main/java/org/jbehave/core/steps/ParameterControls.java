@@ -58,6 +58,10 @@ public class ParameterControls {
         return StringUtils.replace(text, createDelimitedName(name), value);
     }
 
+    public DelimitedNamesTemplate delimitedNamesTemplate(String text) {
+        return new DelimitedNamesTemplate(text, nameDelimiterLeft, nameDelimiterRight);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
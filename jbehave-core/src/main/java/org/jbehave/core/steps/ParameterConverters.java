@@ -18,10 +18,12 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -64,6 +66,11 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * MethodReturningConverter}</li>
  * </ul>
  * </p>
+ * <p>
+ * The converter found for a type is cached, so that the converters are only
+ * asked to accept each type once, until converters are added. The converters
+ * must therefore accept a type regardless of the value converted.
+ * </p>
  */
 public class ParameterConverters {
 
@@ -81,10 +88,20 @@ public class ParameterConverters {
 
     private static final String DEFAULT_TRUE_VALUE = "true";
     private static final String DEFAULT_FALSE_VALUE = "false";
+    private static final ParameterConverter<?> NO_CONVERTER = new ParameterConverter<Object>() {
+        public boolean accept(Type type) {
+            return false;
+        }
+
+        public Object convertValue(String value, Type type) {
+            throw new ParameterConvertionFailed("No parameter converter for " + type);
+        }
+    };
 
     private final StepMonitor monitor;
     private final List<ParameterConverter> converters;
     private final boolean threadSafe;
+    private volatile Map<Type, ParameterConverter<?>> convertersByType;
     private String escapedCollectionSeparator;
 
 
@@ -180,6 +197,7 @@ public class ParameterConverters {
         this.threadSafe = threadSafe;
         this.converters = threadSafe ? new CopyOnWriteArrayList<>(converters)
                 : new ArrayList<>(converters);
+        this.convertersByType = new ConcurrentHashMap<>();
     }
 
     protected ParameterConverter[] defaultConverters(ResourceLoader resourceLoader, ParameterControls parameterControls,
@@ -210,6 +228,8 @@ public class ParameterConverters {
 
     public ParameterConverters addConverters(List<ParameterConverter> converters) {
         this.converters.addAll(0, converters);
+        // the converters found so far may be preceded by the added ones
+        this.convertersByType = new ConcurrentHashMap<>();
         return this;
     }
 
@@ -237,12 +257,21 @@ public class ParameterConverters {
     }
 
     private ParameterConverter<?> findConverter(Type type) {
-        for (ParameterConverter<?> converter : converters) {
-            if (converter.accept(type)) {
-                return converter;
+        // the cache is read before the converters, so that a converter found
+        // while converters are added is only cached in the replaced cache
+        Map<Type, ParameterConverter<?>> convertersByType = this.convertersByType;
+        ParameterConverter<?> found = convertersByType.get(type);
+        if (found == null) {
+            found = NO_CONVERTER;
+            for (ParameterConverter<?> converter : converters) {
+                if (converter.accept(type)) {
+                    found = converter;
+                    break;
+                }
             }
+            convertersByType.put(type, found);
         }
-        return null;
+        return found != NO_CONVERTER ? found : null;
     }
 
     private static boolean isAssignableFrom(Class<?> clazz, Type type) {
@@ -13,6 +13,7 @@ import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
 import org.jbehave.core.parsers.StepMatcher;
+import org.jbehave.core.parsers.StepPatternMatch;
 import org.jbehave.core.parsers.StepPatternParser;
 import org.jbehave.core.steps.context.StepsContext;
 
@@ -78,6 +79,10 @@ public class StepCandidate {
         return stepType;
     }
 
+    public StepMatcher getStepMatcher() {
+        return stepMatcher;
+    }
+
     public String getStartingWord() {
         return keywords.startingWordFor(stepType);
     }
@@ -145,6 +150,28 @@ public class StepCandidate {
     }
 
     public boolean matches(String step, String previousNonAndStep) {
+        return matches(step, previousNonAndStep, stepMonitor);
+    }
+
+    public boolean matches(String step, String previousNonAndStep, StepMonitor stepMonitor) {
+        return match(step, previousNonAndStep, stepMonitor) != null;
+    }
+
+    /**
+     * Matches the step against both the type and the pattern of the candidate.
+     * As the candidate may be shared by the stories run concurrently, the
+     * matching is reported to the given monitor rather than to the one used
+     * by the candidate.
+     * 
+     * @param step the textual step
+     * @param previousNonAndStep the previous non-And step, or
+     *            <code>null</code> if none
+     * @param stepMonitor the {@link StepMonitor} the matching is reported to
+     * @return The {@link StepPatternMatch} to create the matched step from,
+     *         for any parameters, or <code>null</code> if the step is not
+     *         matched
+     */
+    public StepPatternMatch match(String step, String previousNonAndStep, StepMonitor stepMonitor) {
         try {
             boolean matchesType = true;
             if (isAndStep(step)) {
@@ -157,12 +184,13 @@ public class StepCandidate {
                 }
             }
             stepMonitor.stepMatchesType(step, previousNonAndStep, matchesType, stepType, method, stepsType);
-            boolean matchesPattern = stepMatcher.matches(stripStartingWord(step));
+            StepPatternMatch stepMatch = StepPatternMatch.match(stepMatcher, stripStartingWord(step));
+            boolean matchesPattern = stepMatch.matched();
             stepMonitor.stepMatchesPattern(step, matchesPattern, stepMatcher.pattern(), method, stepsType);
             // must match both type and pattern
-            return matchesType && matchesPattern;
+            return matchesType && matchesPattern ? stepMatch : null;
         } catch (StartingWordNotFound e) {
-            return false;
+            return null;
         }
     }
 
@@ -171,46 +199,64 @@ public class StepCandidate {
                 namedParameters);
     }
 
+    public Step createMatchedStep(String stepAsString, StepPatternMatch stepMatch, Map<String, String> namedParameters,
+            StepMonitor stepMonitor) {
+        return stepCreator.createParametrisedStep(method, stepAsString, stepMatch, namedParameters, stepMonitor);
+    }
+
     public Step createMatchedStepUponOutcome(String stepAsString, Map<String, String> namedParameters, Outcome outcome) {
         return stepCreator.createParametrisedStepUponOutcome(method, stepAsString, stripStartingWord(stepAsString),
                 namedParameters, outcome);
     }
 
+    public Step createMatchedStepUponOutcome(String stepAsString, StepPatternMatch stepMatch,
+            Map<String, String> namedParameters, Outcome outcome, StepMonitor stepMonitor) {
+        return stepCreator.createParametrisedStepUponOutcome(method, stepAsString, stepMatch, namedParameters,
+                outcome, stepMonitor);
+    }
+
     public void addComposedSteps(List<Step> steps, String stepAsString, Map<String, String> namedParameters,
             List<StepCandidate> allCandidates) {
-        addComposedStepsRecursively(steps, stepAsString, namedParameters, allCandidates, composedSteps);
+        addComposedSteps(steps, stepAsString, namedParameters, allCandidates, stepMonitor);
+    }
+
+    public void addComposedSteps(List<Step> steps, String stepAsString, Map<String, String> namedParameters,
+            List<StepCandidate> allCandidates, StepMonitor stepMonitor) {
+        addComposedStepsRecursively(steps, stepAsString, namedParameters, allCandidates, composedSteps, stepMonitor);
     }
 
     private void addComposedStepsRecursively(List<Step> steps, String stepAsString,
-            Map<String, String> namedParameters, List<StepCandidate> allCandidates, String[] composedSteps) {
+            Map<String, String> namedParameters, List<StepCandidate> allCandidates, String[] composedSteps,
+            StepMonitor stepMonitor) {
         Map<String, String> matchedParameters = stepCreator.matchedParameters(method, stepAsString,
                 stripStartingWord(stepAsString), namedParameters);
         matchedParameters.putAll(namedParameters);
         for (String composedStep : composedSteps) {
-            addComposedStep(steps, composedStep, matchedParameters, allCandidates);
+            addComposedStep(steps, composedStep, matchedParameters, allCandidates, stepMonitor);
         }
     }
 
     private void addComposedStep(List<Step> steps, String composedStep, Map<String, String> matchedParameters,
-            List<StepCandidate> allCandidates) {
-        StepCandidate candidate = findComposedCandidate(composedStep, allCandidates);
+            List<StepCandidate> allCandidates, StepMonitor stepMonitor) {
+        StepCandidate candidate = findComposedCandidate(composedStep, allCandidates, stepMonitor);
         if (candidate != null) {
             steps.add(candidate.createMatchedStep(composedStep, matchedParameters));
             if (candidate.isComposite()) {
                 // candidate is itself composite: recursively add composed steps
                 addComposedStepsRecursively(steps, composedStep, matchedParameters, allCandidates,
-                        candidate.composedSteps());
+                        candidate.composedSteps(), stepMonitor);
             }
         } else {
             steps.add(StepCreator.createPendingStep(composedStep, null));
         }
     }
 
-    private StepCandidate findComposedCandidate(String composedStep, List<StepCandidate> allCandidates) {
+    private StepCandidate findComposedCandidate(String composedStep, List<StepCandidate> allCandidates,
+            StepMonitor stepMonitor) {
         for (StepCandidate candidate : allCandidates) {
             if (StringUtils.startsWith(composedStep, candidate.getStartingWord())
                     && (StringUtils.endsWith(composedStep, candidate.getPatternAsString()) || candidate
-                            .matches(composedStep))) {
+                            .matches(composedStep, null, stepMonitor))) {
                 return candidate;
             }
         }
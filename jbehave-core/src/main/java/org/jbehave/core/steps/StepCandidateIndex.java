@@ -0,0 +1,264 @@
+package org.jbehave.core.steps;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatcher;
+import org.jbehave.core.steps.StepFinder.ByPriorityField;
+
+/**
+ * <p>
+ * Immutable index of {@link StepCandidate}s, sorted once by priority (as done
+ * by {@link ByPriorityField}) and indexed by {@link StepType} and by the first
+ * literal word of their step pattern.
+ * </p>
+ * <p>
+ * For a given textual step, the index returns, in priority order, only the
+ * candidates that may match it: those of a step type whose starting word the
+ * step can be stripped of and whose pattern starts with the same first word as
+ * the step, plus those whose pattern does not start with a literal word (e.g.
+ * starting with a parameter) and which are always returned. Steps starting with
+ * the {@link StepType#IGNORABLE} word are returned all candidates, as they are
+ * resolved by the first candidate they are checked against.
+ * </p>
+ * <p>
+ * Only candidates with a {@link RegexStepMatcher} are indexed by word, provided
+ * the regex pattern is case-sensitive and does not use alternation. The index
+ * never excludes a candidate that would match the step, so matching the
+ * returned candidates in order gives the same result as matching all the
+ * candidates prioritised by {@link ByPriorityField}.
+ * </p>
+ */
+public class StepCandidateIndex extends AbstractList<StepCandidate> {
+
+    private static final int UNINDEXABLE_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.LITERAL
+            | Pattern.CANON_EQ;
+    private static final String REGEX_WHITESPACE = " \t\n\u000B\f\r";
+    private static final String REGEX_METACHARS = ".[](){}?*+|^$";
+
+    private final Keywords keywords;
+    private final List<StepCandidate> prioritised;
+    private final Map<StepType, TypeIndex> indexByType = new EnumMap<>(StepType.class);
+
+    public StepCandidateIndex(Keywords keywords, List<StepCandidate> candidates) {
+        this.keywords = keywords;
+        this.prioritised = Collections.unmodifiableList(new ByPriorityField().prioritise(null,
+                new ArrayList<>(candidates)));
+        Map<StepType, TypeIndexBuilder> builders = new EnumMap<>(StepType.class);
+        for (int position = 0; position < prioritised.size(); position++) {
+            StepCandidate candidate = prioritised.get(position);
+            TypeIndexBuilder builder = builders.get(candidate.getStepType());
+            if (builder == null) {
+                builder = new TypeIndexBuilder();
+                builders.put(candidate.getStepType(), builder);
+            }
+            builder.add(firstWordOf(candidate.getStepMatcher()), position);
+        }
+        for (Map.Entry<StepType, TypeIndexBuilder> entry : builders.entrySet()) {
+            indexByType.put(entry.getKey(), entry.getValue().build());
+        }
+    }
+
+    /**
+     * Returns the candidates that may match the given textual step, in
+     * priority order
+     *
+     * @param stepAsString the textual step
+     * @return The List of prioritised {@link StepCandidate}s
+     */
+    public List<StepCandidate> prioritise(String stepAsString) {
+        if (isIgnorable(stepAsString)) {
+            return new ArrayList<>(prioritised);
+        }
+        int[][] matchingPositions = new int[indexByType.size() * 2][];
+        int count = 0;
+        int size = 0;
+        for (Map.Entry<StepType, TypeIndex> entry : indexByType.entrySet()) {
+            String stepWithoutStartingWord;
+            try {
+                stepWithoutStartingWord = keywords.stepWithoutStartingWord(stepAsString, entry.getKey());
+            } catch (StartingWordNotFound e) {
+                // candidates of this type cannot match the step
+                continue;
+            }
+            TypeIndex typeIndex = entry.getValue();
+            int[] indexed = typeIndex.byFirstWord.get(firstWordOf(stepWithoutStartingWord));
+            if (indexed != null) {
+                matchingPositions[count++] = indexed;
+                size += indexed.length;
+            }
+            matchingPositions[count++] = typeIndex.unindexed;
+            size += typeIndex.unindexed.length;
+        }
+        int[] positions = new int[size];
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(matchingPositions[i], 0, positions, offset, matchingPositions[i].length);
+            offset += matchingPositions[i].length;
+        }
+        Arrays.sort(positions);
+        List<StepCandidate> candidates = new ArrayList<>(size);
+        for (int position : positions) {
+            candidates.add(prioritised.get(position));
+        }
+        return candidates;
+    }
+
+    @Override
+    public StepCandidate get(int index) {
+        return prioritised.get(index);
+    }
+
+    @Override
+    public int size() {
+        return prioritised.size();
+    }
+
+    private boolean isIgnorable(String stepAsString) {
+        try {
+            return keywords.isIgnorableStep(stepAsString)
+                    || keywords.stepStartsWithWord(stepAsString, keywords.startingWordFor(StepType.IGNORABLE));
+        } catch (StartingWordNotFound e) {
+            return false;
+        }
+    }
+
+    private static String firstWordOf(String stepWithoutStartingWord) {
+        int length = stepWithoutStartingWord.length();
+        for (int i = 0; i < length; i++) {
+            if (REGEX_WHITESPACE.indexOf(stepWithoutStartingWord.charAt(i)) != -1) {
+                return stepWithoutStartingWord.substring(0, i);
+            }
+        }
+        return stepWithoutStartingWord;
+    }
+
+    /**
+     * Returns the literal word the step must start with to match the given
+     * step matcher, or <code>null</code> if it cannot be determined.
+     */
+    private static String firstWordOf(StepMatcher stepMatcher) {
+        if (!(stepMatcher instanceof RegexStepMatcher)) {
+            return null;
+        }
+        Pattern pattern = ((RegexStepMatcher) stepMatcher).regexPattern();
+        if ((pattern.flags() & UNINDEXABLE_FLAGS) != 0) {
+            return null;
+        }
+        String regex = pattern.pattern();
+        if (hasAlternation(regex)) {
+            return null;
+        }
+        StringBuilder word = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 == regex.length()) {
+                    return null;
+                }
+                char escaped = regex.charAt(i + 1);
+                if (escaped == 's') {
+                    return endOfWord(word, regex, i + 2);
+                }
+                if (Character.isLetterOrDigit(escaped)) {
+                    // a character class or a construct other than an escaped
+                    // literal
+                    return null;
+                }
+                word.append(escaped);
+                i += 2;
+            } else if (REGEX_WHITESPACE.indexOf(c) != -1) {
+                return endOfWord(word, regex, i + 1);
+            } else if (REGEX_METACHARS.indexOf(c) != -1) {
+                return null;
+            } else {
+                word.append(c);
+                i++;
+            }
+        }
+        return word.length() > 0 ? word.toString() : null;
+    }
+
+    private static String endOfWord(StringBuilder word, String regex, int next) {
+        if (word.length() == 0) {
+            return null;
+        }
+        if (next < regex.length() && "*?{".indexOf(regex.charAt(next)) != -1) {
+            // whitespace is optional
+            return null;
+        }
+        return word.toString();
+    }
+
+    private static boolean hasAlternation(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '|') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class TypeIndex {
+
+        private final Map<String, int[]> byFirstWord;
+        private final int[] unindexed;
+
+        private TypeIndex(Map<String, int[]> byFirstWord, int[] unindexed) {
+            this.byFirstWord = byFirstWord;
+            this.unindexed = unindexed;
+        }
+
+    }
+
+    private static class TypeIndexBuilder {
+
+        private final Map<String, List<Integer>> byFirstWord = new HashMap<>();
+        private final List<Integer> unindexed = new ArrayList<>();
+
+        private void add(String firstWord, int position) {
+            if (firstWord == null) {
+                unindexed.add(position);
+                return;
+            }
+            List<Integer> positions = byFirstWord.get(firstWord);
+            if (positions == null) {
+                positions = new ArrayList<>();
+                byFirstWord.put(firstWord, positions);
+            }
+            positions.add(position);
+        }
+
+        private TypeIndex build() {
+            Map<String, int[]> indexed = new HashMap<>();
+            for (Map.Entry<String, List<Integer>> entry : byFirstWord.entrySet()) {
+                indexed.put(entry.getKey(), toArray(entry.getValue()));
+            }
+            return new TypeIndex(indexed, toArray(unindexed));
+        }
+
+        private int[] toArray(List<Integer> positions) {
+            int[] array = new int[positions.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = positions.get(i);
+            }
+            return array;
+        }
+
+    }
+
+}
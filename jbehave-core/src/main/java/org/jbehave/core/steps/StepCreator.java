@@ -1,8 +1,12 @@
 package org.jbehave.core.steps;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -10,9 +14,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.annotations.AfterScenario.Outcome;
@@ -27,6 +34,7 @@ import org.jbehave.core.failures.RestartingScenarioFailure;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.Meta;
+import org.jbehave.core.parsers.StepPatternMatch;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.ParameterConverters.ParameterConverter;
@@ -63,6 +71,8 @@ public class StepCreator {
     private final Pattern delimitedNamePattern;
     private final StepMatcher stepMatcher;
     private final StepsContext stepsContext;
+    private final ConcurrentMap<Method, InvocationPlan> invocationPlans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DelimitedNamesTemplate> stepTemplates = new ConcurrentHashMap<>();
     private StepMonitor stepMonitor;
     private Paranamer paranamer = new NullParanamer();
     private boolean dryRun = false;
@@ -87,6 +97,8 @@ public class StepCreator {
 
     public void useParanamer(Paranamer paranamer) {
         this.paranamer = paranamer;
+        // the parameter names may be looked up differently
+        this.invocationPlans.clear();
     }
 
     public void doDryRun(boolean dryRun) {
@@ -116,17 +128,19 @@ public class StepCreator {
     public Map<String, String> matchedParameters(final Method method, final String stepAsString,
             final String stepWithoutStartingWord, final Map<String, String> namedParameters) {
         Map<String, String> matchedParameters = new HashMap<>();
-        if (stepMatcher.find(stepWithoutStartingWord)) { 
+        StepPatternMatch stepMatch = StepPatternMatch.find(stepMatcher, stepWithoutStartingWord);
+        if (stepMatch.matched()) { 
             // we've found a match, populate map
-            ParameterName[] parameterNames = parameterNames(method);
-            Type[] types = method.getGenericParameterTypes();
-            String[] values = parameterValuesForStep(namedParameters, types, parameterNames);
+            InvocationPlan plan = invocationPlan(method);
+            ParameterName[] parameterNames = plan.parameterNames;
+            Type[] types = plan.types;
+            String[] values = parameterValuesForStep(stepMatch, namedParameters, types, parameterNames, stepMonitor);
     
             
             for (int i = 0; i < parameterNames.length; i++) {
                 String name = parameterNames[i].name;
                 if (name == null) {
-                    name = stepMatcher.parameterNames()[i];
+                    name = stepMatch.parameterNames()[i];
                 }
                 matchedParameters.put(name, values[i]);
             }
@@ -140,14 +154,13 @@ public class StepCreator {
      * providing an abstraction that supports both annotated and non-annotated
      * parameters.
      * 
-     * @param method the Method
+     * @param annotatedNames the {@link Named}-annotated names of the parameters
+     * @param paranamerNames the names of the parameters looked up by Paranamer
+     * @param contextNames the {@link FromContext}-annotated names of the
+     *            parameters
      * @return The array of {@link ParameterName}s
      */
-    private ParameterName[] parameterNames(Method method) {
-        String[] annotatedNames = annotatedParameterNames(method);
-        String[] paranamerNames = paranamerParameterNames(method);
-        String[] contextNames = contextParameterNames(method);
-
+    private ParameterName[] parameterNames(String[] annotatedNames, String[] paranamerNames, String[] contextNames) {
         ParameterName[] parameterNames = new ParameterName[annotatedNames.length];
         for (int i = 0; i < annotatedNames.length; i++) {
             parameterNames[i] = parameterName(annotatedNames, paranamerNames, contextNames, i);
@@ -155,6 +168,47 @@ public class StepCreator {
         return parameterNames;
     }
 
+    /**
+     * Returns the names of the method parameters whose values are the meta
+     * properties, as annotated or else as looked up by Paranamer
+     * 
+     * @param annotatedNames the {@link Named}-annotated names of the parameters
+     * @param paranamerNames the names of the parameters looked up by Paranamer
+     * @return The array of names, which <b>may</b> include <code>null</code>
+     *         values for the parameters whose name is not found
+     */
+    private String[] metaParameterNames(String[] annotatedNames, String[] paranamerNames) {
+        String[] names = new String[annotatedNames.length];
+        for (int i = 0; i < annotatedNames.length; i++) {
+            names[i] = annotatedNames[i] != null ? annotatedNames[i]
+                    : (paranamerNames.length > i ? paranamerNames[i] : null);
+        }
+        return names;
+    }
+
+    /**
+     * Returns the {@link InvocationPlan} of the method, resolved when first
+     * invoked and then shared by all the steps created for it
+     * 
+     * @param method the Method
+     * @return The InvocationPlan
+     */
+    private InvocationPlan invocationPlan(Method method) {
+        InvocationPlan plan = invocationPlans.get(method);
+        if (plan == null) {
+            String[] annotatedNames = annotatedParameterNames(method);
+            String[] paranamerNames = paranamerParameterNames(method);
+            String[] contextNames = contextParameterNames(method);
+            plan = new InvocationPlan(method, parameterNames(annotatedNames, paranamerNames, contextNames),
+                    metaParameterNames(annotatedNames, paranamerNames));
+            InvocationPlan existing = invocationPlans.putIfAbsent(method, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
     private ParameterName parameterName(String[] annotatedNames, String[] paranamerNames, String[] contextNames, int i) {
         boolean annotated = true;
         boolean fromContext = false;
@@ -257,17 +311,46 @@ public class StepCreator {
         return new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
     }
 
+    /**
+     * Creates the parametrised step from the {@link StepPatternMatch} found when
+     * matching the step, without matching it again
+     * 
+     * @param method the Method
+     * @param stepAsString the textual step
+     * @param stepMatch the {@link StepPatternMatch} of the step without starting word
+     * @param namedParameters the named parameters
+     * @param stepMonitor the {@link StepMonitor} of the step, used in place of
+     *            the one of the creator
+     * @return The parametrised Step
+     */
+    public Step createParametrisedStep(final Method method, final String stepAsString, final StepPatternMatch stepMatch,
+            final Map<String, String> namedParameters, final StepMonitor stepMonitor) {
+        return new ParametrisedStep(stepAsString, method, stepMatch, namedParameters, stepMonitor);
+    }
+
     public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
             final String stepWithoutStartingWord, final Map<String, String> namedParameters, Outcome outcome) {
+        return createParametrisedStepUponOutcome(new ParametrisedStep(stepAsString, method, stepWithoutStartingWord,
+                namedParameters), outcome);
+    }
+
+    public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
+            final StepPatternMatch stepMatch, final Map<String, String> namedParameters, Outcome outcome,
+            final StepMonitor stepMonitor) {
+        return createParametrisedStepUponOutcome(new ParametrisedStep(stepAsString, method, stepMatch,
+                namedParameters, stepMonitor), outcome);
+    }
+
+    private Step createParametrisedStepUponOutcome(ParametrisedStep parametrisedStep, Outcome outcome) {
         switch (outcome) {
         case ANY:
-            return new UponAnyParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
+            return new UponAnyParametrisedStep(parametrisedStep);
         case SUCCESS:
-            return new UponSuccessParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
+            return new UponSuccessParametrisedStep(parametrisedStep);
         case FAILURE:
-            return new UponFailureParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
+            return new UponFailureParametrisedStep(parametrisedStep);
         default:
-            return new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
+            return parametrisedStep;
         }
     }
 
@@ -280,11 +363,27 @@ public class StepCreator {
             parametrisedStep = markParsedParameterValue(parametrisedStep, types[position], parameterValues[position], hasTable);
         }
         // mark parameter values that are named
-        for (String name : namedParameters.keySet()) {
-            parametrisedStep = markNamedParameterValue(parametrisedStep, namedParameters, name);
-        }
+        return stepTemplate(stepAsString, parametrisedStep).replace(namedParameters, PARAMETER_VALUE_START,
+                PARAMETER_VALUE_END, new StringBuilder(parametrisedStep.length() + 32));
+    }
 
-        return parametrisedStep;
+    /**
+     * Returns the template of the step text, compiled once per step unless
+     * parsed parameter values were marked in the text
+     */
+    private DelimitedNamesTemplate stepTemplate(String stepAsString, String stepText) {
+        if (!stepText.equals(stepAsString)) {
+            return parameterControls.delimitedNamesTemplate(stepText);
+        }
+        DelimitedNamesTemplate template = stepTemplates.get(stepAsString);
+        if (template == null) {
+            template = parameterControls.delimitedNamesTemplate(stepAsString);
+            DelimitedNamesTemplate existing = stepTemplates.putIfAbsent(stepAsString, template);
+            if (existing != null) {
+                template = existing;
+            }
+        }
+        return template;
     }
 
     private boolean hasTable(Type[] types) {
@@ -296,18 +395,10 @@ public class StepCreator {
         return false;
     }
 
-    private String markNamedParameterValue(String stepText, Map<String, String> namedParameters, String name) {
-        String value = namedParameter(namedParameters, name);
-        if (value != null) {
-            return parameterControls.replaceAllDelimitedNames(stepText, name, markedValue(value));
-        }
-        return stepText;
-    }
-
     private String markParsedParameterValue(String stepText, Type type, String value, boolean hasTable) {
         if (value != null) {
             if (isTable(type)) {
-                return stepText.replace(value, markedTable(value));
+                return StringUtils.replace(stepText, value, markedTable(value));
             }
             // only mark non-empty string as parameter (JBEHAVE-656)
             if (value.trim().length() != 0) {
@@ -315,10 +406,10 @@ public class StepCreator {
                 // identify parameter values to mark as padded by spaces to avoid duplicated replacements of overlapping values (JBEHAVE-837)
                 String leftPad = SPACE;
                 String rightPad = stepText.endsWith(value) ? NONE : SPACE;
-                return stepText.replace(pad(value, leftPad, rightPad), pad(markedValue, leftPad, rightPad));
+                return StringUtils.replace(stepText, pad(value, leftPad, rightPad), pad(markedValue, leftPad, rightPad));
             }
             if (!hasTable){
-                return stepText.replace(NEWLINE, PARAMETER_VALUE_NEWLINE);
+                return StringUtils.replace(stepText, NEWLINE, PARAMETER_VALUE_NEWLINE);
             }
         }
         return stepText;
@@ -387,10 +478,11 @@ public class StepCreator {
         return result;
     }
 
-    private String[] parameterValuesForStep(Map<String, String> namedParameters, Type[] types, ParameterName[] names) {
+    private String[] parameterValuesForStep(StepPatternMatch stepMatch, Map<String, String> namedParameters, Type[] types,
+            ParameterName[] names, StepMonitor stepMonitor) {
         final String[] parameters = new String[types.length];
         for (int position = 0; position < types.length; position++) {
-            parameters[position] = parameterForPosition(position, names, namedParameters);
+            parameters[position] = parameterForPosition(stepMatch, position, names, namedParameters, stepMonitor);
         }
         return parameters;
     }
@@ -407,7 +499,8 @@ public class StepCreator {
         return parameters;
     }
 
-    private String parameterForPosition(int position, ParameterName[] names, Map<String, String> namedParameters) {
+    private String parameterForPosition(StepPatternMatch stepMatch, int position, ParameterName[] names,
+            Map<String, String> namedParameters, StepMonitor stepMonitor) {
         int namePosition = parameterPosition(names, position);
         String parameter = null;
 
@@ -418,18 +511,18 @@ public class StepCreator {
 
             List<String> delimitedNames = Collections.emptyList();
 
-            if (isGroupName(name)) {
-                parameter = matchedParameter(name);
+            if (isGroupName(stepMatch, name)) {
+                parameter = matchedParameter(stepMatch, name);
                 delimitedNames = delimitedNameFor(parameter);
 
                 if (delimitedNames.isEmpty()) {
-                    monitorUsingNameForParameter(name, position, annotated);
+                    monitorUsingNameForParameter(name, position, annotated, stepMonitor);
                 }
             }
 
             if (!delimitedNames.isEmpty()) {
                 for(String delimitedName : delimitedNames) {
-                    monitorUsingTableNameForParameter(delimitedName, position, annotated);
+                    monitorUsingTableNameForParameter(delimitedName, position, annotated, stepMonitor);
                     parameter = parameterControls.replaceAllDelimitedNames(parameter, delimitedName,
                             namedParameter(namedParameters, delimitedName));
                 }
@@ -437,7 +530,7 @@ public class StepCreator {
             else if (isTableName(namedParameters, name)) {
                 parameter = namedParameter(namedParameters, name);
                 if (parameter != null) {
-                    monitorUsingTableNameForParameter(name, position, annotated); 
+                    monitorUsingTableNameForParameter(name, position, annotated, stepMonitor);
                 }
             }
             
@@ -452,7 +545,7 @@ public class StepCreator {
             // This allow parameters to be in different order.
             position = position - numberOfPreviousFromContext(names, position);
             stepMonitor.usingNaturalOrderForParameter(position);
-            parameter = matchedParameter(position);
+            parameter = matchedParameter(stepMatch, position);
             List<String> delimitedNames = delimitedNameFor(parameter);
 
             for(String delimitedName : delimitedNames) {
@@ -480,7 +573,8 @@ public class StepCreator {
         return number;
     }
 
-    private void monitorUsingTableNameForParameter(String name, int position, boolean usingAnnotationNames) {
+    private void monitorUsingTableNameForParameter(String name, int position, boolean usingAnnotationNames,
+            StepMonitor stepMonitor) {
         if (usingAnnotationNames) {
             stepMonitor.usingTableAnnotatedNameForParameter(name, position);
         } else {
@@ -488,7 +582,8 @@ public class StepCreator {
         }
     }
 
-    private void monitorUsingNameForParameter(String name, int position, boolean usingAnnotationNames) {
+    private void monitorUsingNameForParameter(String name, int position, boolean usingAnnotationNames,
+            StepMonitor stepMonitor) {
         if (usingAnnotationNames) {
             stepMonitor.usingAnnotatedNameForParameter(name, position);
         } else {
@@ -507,22 +602,22 @@ public class StepCreator {
         return delimitedNames;
     }
 
-    String matchedParameter(String name) {
-        String[] parameterNames = stepMatcher.parameterNames();
+    String matchedParameter(StepPatternMatch stepMatch, String name) {
+        String[] parameterNames = stepMatch.parameterNames();
         for (int i = 0; i < parameterNames.length; i++) {
             String parameterName = parameterNames[i];
             if (name.equals(parameterName)) {
-                return matchedParameter(i);
+                return matchedParameter(stepMatch, i);
             }
         }
         throw new ParameterNotFound(name, parameterNames);
     }
 
-    private String matchedParameter(int position) {
-        String[] parameterNames = stepMatcher.parameterNames();
+    private String matchedParameter(StepPatternMatch stepMatch, int position) {
+        String[] parameterNames = stepMatch.parameterNames();
         int matchedPosition = position + 1;
         if (matchedPosition <= parameterNames.length) {
-            return stepMatcher.parameter(matchedPosition);
+            return stepMatch.parameter(matchedPosition);
         }
         throw new ParameterNotFound(position, parameterNames);
     }
@@ -541,8 +636,8 @@ public class StepCreator {
         return -1;
     }
 
-    private boolean isGroupName(String name) {
-        String[] groupNames = stepMatcher.parameterNames();
+    private boolean isGroupName(StepPatternMatch stepMatch, String name) {
+        String[] groupNames = stepMatch.parameterNames();
         for (String groupName : groupNames) {
             if (name.equals(groupName)) {
                 return true;
@@ -571,8 +666,8 @@ public class StepCreator {
         return new Comment(stepAsString);
     }
 
-    private void storeOutput(Object object, Method method) {
-        ToContext annotation = method.getAnnotation(ToContext.class);
+    private void storeOutput(Object object, InvocationPlan plan) {
+        ToContext annotation = plan.toContext;
         if (annotation != null) {
             stepsContext.put(annotation.value(), object, annotation.retentionLevel());
         }
@@ -625,13 +720,14 @@ public class StepCreator {
         }
 
         public StepResult perform(UUIDExceptionWrapper storyFailureIfItHappened) {
-            ParameterConverters paramConvertersWithExceptionInjector = paramConvertersWithExceptionInjector(storyFailureIfItHappened);
-            MethodInvoker methodInvoker = new MethodInvoker(method, paramConvertersWithExceptionInjector, paranamer,
-                    meta);
+            InvocationPlan plan = invocationPlan(method);
+            // the story failure is only injected in methods expecting it
+            ParameterConverters converters = plan.injectsFailure ? paramConvertersWithExceptionInjector(
+                    storyFailureIfItHappened) : parameterConverters;
             Timer timer = new Timer().start();
             try {
-                Object outputObject = methodInvoker.invoke();
-                storeOutput(outputObject, method);
+                Object outputObject = plan.invoke(stepsInstance(), parameterValuesFrom(plan, converters));
+                storeOutput(outputObject, plan);
                 return silent(method).setTimings(timer.stop());
             } catch (InvocationTargetException e) {
                 return failed(method, new UUIDExceptionWrapper(new BeforeOrAfterFailed(method, e.getCause())))
@@ -642,6 +738,16 @@ public class StepCreator {
             }
         }
 
+        private Object[] parameterValuesFrom(InvocationPlan plan, ParameterConverters converters) {
+            Object[] values = new Object[plan.types.length];
+            for (int position = 0; position < values.length; position++) {
+                String name = plan.metaNames[position];
+                String value = name != null ? meta.getProperty(name) : null;
+                values[position] = converters.convert(value, plan.types[position]);
+            }
+            return values;
+        }
+
         private ParameterConverters paramConvertersWithExceptionInjector(UUIDExceptionWrapper storyFailureIfItHappened) {
             return parameterConverters.newInstanceAdding(new UUIDExceptionWrapperInjector(storyFailureIfItHappened));
         }
@@ -715,19 +821,34 @@ public class StepCreator {
     }
     
     public class ParametrisedStep extends AbstractStep {
+        private InvocationPlan plan;
         private Object[] convertedParameters;
         private String parametrisedStep;
         private final String stepAsString;
         private final Method method;
         private final String stepWithoutStartingWord;
         private final Map<String, String> namedParameters;
+        private final StepMonitor stepMonitor;
+        private StepPatternMatch stepMatch;
 
         public ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
                 Map<String, String> namedParameters) {
+            this(stepAsString, method, stepWithoutStartingWord, namedParameters, StepCreator.this.stepMonitor);
+        }
+
+        public ParametrisedStep(String stepAsString, Method method, StepPatternMatch stepMatch,
+                Map<String, String> namedParameters, StepMonitor stepMonitor) {
+            this(stepAsString, method, stepMatch.stepWithoutStartingWord(), namedParameters, stepMonitor);
+            this.stepMatch = stepMatch;
+        }
+
+        private ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
+                Map<String, String> namedParameters, StepMonitor stepMonitor) {
             this.stepAsString = stepAsString;
             this.method = method;
             this.stepWithoutStartingWord = stepWithoutStartingWord;
             this.namedParameters = namedParameters;
+            this.stepMonitor = stepMonitor;
         }
 
         public void describeTo(StoryReporter storyReporter) {
@@ -740,8 +861,8 @@ public class StepCreator {
                 parametriseStep();
                 stepMonitor.performing(parametrisedStep, dryRun);
                 if (!dryRun) {
-                    Object outputObject = method.invoke(stepsInstance(), convertedParameters);
-                    storeOutput(outputObject, method);
+                    Object outputObject = plan.invoke(stepsInstance(), convertedParameters);
+                    storeOutput(outputObject, plan);
                 }
                 return successful(stepAsString).withParameterValues(parametrisedStep)
                         .setTimings(timer.stop());
@@ -785,10 +906,15 @@ public class StepCreator {
         }
         
         private void parametriseStep() {
-            stepMatcher.find(stepWithoutStartingWord);
-            ParameterName[] names = parameterNames(method);
-            Type[] types = method.getGenericParameterTypes();
-            String[] parameterValues = parameterValuesForStep(namedParameters, types, names);
+            if (stepMatch == null) {
+                stepMatch = StepPatternMatch.find(stepMatcher, stepWithoutStartingWord);
+            }
+            if (plan == null) {
+                plan = invocationPlan(method);
+            }
+            ParameterName[] names = plan.parameterNames;
+            Type[] types = plan.types;
+            String[] parameterValues = parameterValuesForStep(stepMatch, namedParameters, types, names, stepMonitor);
             convertedParameters = convertParameterValues(parameterValues, types, names);
             addNamedParametersToExamplesTables();
             parametrisedStep = parametrisedStep(stepAsString, namedParameters, types, parameterValues);
@@ -808,7 +934,11 @@ public class StepCreator {
 
         public UponAnyParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
                 Map<String, String> namedParameters){
-            this.parametrisedStep = new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
+            this(new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters));
+        }
+
+        public UponAnyParametrisedStep(ParametrisedStep parametrisedStep) {
+            this.parametrisedStep = parametrisedStep;
         }
 
         public StepResult doNotPerform(UUIDExceptionWrapper storyFailureIfItHappened) {
@@ -830,7 +960,11 @@ public class StepCreator {
 
         public UponSuccessParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
                 Map<String, String> namedParameters){
-            this.parametrisedStep = new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
+            this(new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters));
+        }
+
+        public UponSuccessParametrisedStep(ParametrisedStep parametrisedStep) {
+            this.parametrisedStep = parametrisedStep;
         }
 
         public StepResult doNotPerform(UUIDExceptionWrapper storyFailureIfItHappened) {
@@ -852,7 +986,11 @@ public class StepCreator {
 
         public UponFailureParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
                 Map<String, String> namedParameters){
-            this.parametrisedStep = new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
+            this(new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters));
+        }
+
+        public UponFailureParametrisedStep(ParametrisedStep parametrisedStep) {
+            this.parametrisedStep = parametrisedStep;
         }
 
         public StepResult doNotPerform(UUIDExceptionWrapper storyFailureIfItHappened) {
@@ -949,78 +1087,79 @@ public class StepCreator {
         }
     }
 
-    private class MethodInvoker {
+    /**
+     * The invocation plan of a step method, resolved once for all the steps
+     * created for it: the names and types of its parameters, the context key
+     * of its output and the method handle invoking it.
+     */
+    private static class InvocationPlan {
         private final Method method;
-        private final ParameterConverters parameterConverters;
-        private final Paranamer paranamer;
-        private final Meta meta;
-        private final Type[] parameterTypes;
-        
-        public MethodInvoker(Method method, ParameterConverters parameterConverters, Paranamer paranamer, Meta meta) {
+        private final ParameterName[] parameterNames;
+        private final String[] metaNames;
+        private final Type[] types;
+        private final Class<?>[] argumentTypes;
+        private final Class<?>[] boxedArgumentTypes;
+        private final boolean injectsFailure;
+        private final ToContext toContext;
+        private final MethodHandle invoker;
+
+        private InvocationPlan(Method method, ParameterName[] parameterNames, String[] metaNames) {
             this.method = method;
-            this.parameterConverters = parameterConverters;
-            this.paranamer = paranamer;
-            this.meta = meta;
-            this.parameterTypes = method.getGenericParameterTypes();
-        }
-
-        public Object invoke() throws InvocationTargetException, IllegalAccessException {
-            return method.invoke(stepsInstance(), parameterValuesFrom(meta));
-        }
-
-        private Parameter[] methodParameters() {
-            Parameter[] parameters = new Parameter[parameterTypes.length];
-            String[] annotatedNames = annotatedParameterNames(method);
-            String[] paranamerNames = paranamer.lookupParameterNames(method, false);
-
-            for (int position = 0; position < parameterTypes.length; position++) {
-                String name = parameterNameFor(position, annotatedNames, paranamerNames);
-                parameters[position] = new Parameter(position, parameterTypes[position], name);
+            this.parameterNames = parameterNames;
+            this.metaNames = metaNames;
+            this.types = method.getGenericParameterTypes();
+            this.argumentTypes = method.getParameterTypes();
+            this.boxedArgumentTypes = new Class<?>[argumentTypes.length];
+            for (int i = 0; i < argumentTypes.length; i++) {
+                boxedArgumentTypes[i] = MethodType.methodType(argumentTypes[i]).wrap().returnType();
             }
-
-            return parameters;
+            this.injectsFailure = asList(argumentTypes).contains(UUIDExceptionWrapper.class);
+            this.toContext = method.getAnnotation(ToContext.class);
+            this.invoker = invokerOf(method);
         }
 
-        private String parameterNameFor(int position, String[] annotatedNames, String[] paranamerNames) {
-            String annotatedName = nameByPosition(annotatedNames, position);
-            String paranamerName = nameByPosition(paranamerNames, position);
-            if (annotatedName != null) {
-                return annotatedName;
-            } else if (paranamerName != null) {
-                return paranamerName;
+        private static MethodHandle invokerOf(Method method) {
+            try {
+                MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+                if (Modifier.isStatic(method.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                int parameterCount = method.getParameterTypes().length;
+                return handle.asType(MethodType.genericMethodType(parameterCount + 1)).asSpreader(Object[].class,
+                        parameterCount);
+            } catch (IllegalAccessException e) {
+                // left to reflection, which fails likewise when invoked
+                return null;
             }
-            return null;
         }
 
-        private String nameByPosition(String[] names, int position) {
-            return position < names.length ? names[position] : null;
-        }
-
-        private Object[] parameterValuesFrom(Meta meta) {
-            Object[] values = new Object[parameterTypes.length];
-            for (Parameter parameter : methodParameters()) {
-                values[parameter.position] = parameterConverters.convert(parameter.valueFrom(meta), parameter.type);
+        private Object invoke(Object instance, Object[] arguments) throws InvocationTargetException,
+                IllegalAccessException {
+            if (invoker == null || !invocableWith(instance, arguments)) {
+                // reflection converts or rejects the arguments
+                return method.invoke(instance, arguments);
+            }
+            try {
+                return (Object) invoker.invokeExact(instance, arguments);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
             }
-            return values;
         }
 
-        private class Parameter {
-            private final int position;
-            private final Type type;
-            private final String name;
-
-            public Parameter(int position, Type type, String name) {
-                this.position = position;
-                this.type = type;
-                this.name = name;
+        private boolean invocableWith(Object instance, Object[] arguments) {
+            if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(instance)) {
+                return false;
             }
-
-            public String valueFrom(Meta meta) {
-                if (name == null) {
-                    return null;
+            if (arguments.length != argumentTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i] == null ? argumentTypes[i].isPrimitive()
+                        : !boxedArgumentTypes[i].isInstance(arguments[i])) {
+                    return false;
                 }
-                return meta.getProperty(name);
             }
+            return true;
         }
     }
 
@@ -90,6 +90,9 @@ public class StepFinder {
     public List<Object> stepsInstances(List<CandidateSteps> candidateSteps) {
         List<Object> instances = new ArrayList<>();
         for (CandidateSteps steps : candidateSteps) {
+            if (steps instanceof CandidateStepsRegistry.RegisteredSteps) {
+                steps = ((CandidateStepsRegistry.RegisteredSteps) steps).delegate();
+            }
             if (steps instanceof Steps) {
                 instances.add(((Steps) steps).instance());
             }
@@ -99,12 +102,18 @@ public class StepFinder {
 
     /**
      * Collects a list of step candidates from {@link CandidateSteps} instances.
+     * If the candidate steps are a {@link CandidateStepsRegistry}, the
+     * candidates already collected by the registry are used.
      * 
      * @param candidateSteps
      *            the list {@link CandidateSteps} instances
      * @return A List of {@link StepCandidate}
      */
     public List<StepCandidate> collectCandidates(List<CandidateSteps> candidateSteps) {
+        if (candidateSteps instanceof CandidateStepsRegistry) {
+            // copied as the prioritising strategies sort the list in place
+            return new ArrayList<>(((CandidateStepsRegistry) candidateSteps).allCandidates());
+        }
         List<StepCandidate> collected = new ArrayList<>();
         for (CandidateSteps steps : candidateSteps) {
             collected.addAll(steps.listCandidates());
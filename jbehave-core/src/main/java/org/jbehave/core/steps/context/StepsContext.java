@@ -111,6 +111,47 @@ public class StepsContext {
         keysStored.set(new HashSet<String>());
     }
 
+    /**
+     * Takes a snapshot of the story and scenario objects stored by the current
+     * thread, e.g. to perform the examples of a scenario in other threads
+     * 
+     * @return The Snapshot of the objects
+     */
+    public Snapshot snapshot() {
+        Set<String> keys = new HashSet<>(getKeys());
+        // the example objects of the current thread are not part of the snapshot
+        keys.removeAll(getExampleObjects().keySet());
+        return new Snapshot(getStoryObjects(), getScenarioObjects(), keys);
+    }
+
+    /**
+     * Restores in the current thread the story and scenario objects of a
+     * snapshot, taken by another thread. The objects stored afterwards are
+     * only visible to the current thread.
+     * 
+     * @param snapshot the Snapshot of the objects
+     */
+    public void restore(Snapshot snapshot) {
+        storyObjects.set(new HashMap<>(snapshot.storyObjects));
+        scenarioObjects.set(new HashMap<>(snapshot.scenarioObjects));
+        keysStored.set(new HashSet<>(snapshot.keys));
+        exampleObjects.set(new HashMap<String, Object>());
+    }
+
+    public static class Snapshot {
+
+        private final Map<String, Object> storyObjects;
+        private final Map<String, Object> scenarioObjects;
+        private final Set<String> keys;
+
+        private Snapshot(Map<String, Object> storyObjects, Map<String, Object> scenarioObjects, Set<String> keys) {
+            this.storyObjects = new HashMap<>(storyObjects);
+            this.scenarioObjects = new HashMap<>(scenarioObjects);
+            this.keys = keys;
+        }
+
+    }
+
     @SuppressWarnings("serial")
 	public static class ObjectNotStoredException extends RuntimeException {
 
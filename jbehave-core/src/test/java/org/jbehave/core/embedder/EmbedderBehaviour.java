@@ -505,7 +505,7 @@ public class EmbedderBehaviour {
 
         // Then
         for (String storyPath : storyPaths) {
-            verify(performableTree, never()).perform(runContext, stories.get(storyPath));
+            verify(performableTree, never()).perform(Matchers.isA(RunContext.class), Matchers.eq(stories.get(storyPath)));
         }
         assertThatReportsViewGenerated(out);
         assertThat(embedder.hasExecutorService(), is(false));
@@ -579,7 +579,7 @@ public class EmbedderBehaviour {
 
         // Then
         for (String storyPath : storyPaths) {
-            verify(performableTree, never()).perform(runContext, stories.get(storyPath));
+            verify(performableTree, never()).perform(Matchers.isA(RunContext.class), Matchers.eq(stories.get(storyPath)));
             assertThat(out.toString(), not(containsString("Running story " + storyPath)));
         }
         assertThat(out.toString(), containsString("Skipped stories " + storyPaths));
@@ -618,7 +618,7 @@ public class EmbedderBehaviour {
                 runContext);
 
         for (String storyPath : storyPaths) {
-            doThrow(new RuntimeException(storyPath + " failed")).when(performableTree).perform(runContext, stories.get(storyPath));
+            doThrow(new RuntimeException(storyPath + " failed")).when(performableTree).perform(Matchers.isA(RunContext.class), Matchers.eq(stories.get(storyPath)));
         }
 
         // When
@@ -665,7 +665,7 @@ public class EmbedderBehaviour {
                 runContext);
 
         for (String storyPath : storyPaths) {
-            doNothing().when(performableTree).perform(runContext, stories.get(storyPath));
+            doNothing().when(performableTree).perform(Matchers.isA(RunContext.class), Matchers.eq(stories.get(storyPath)));
         }
         
         // When
@@ -712,7 +712,7 @@ public class EmbedderBehaviour {
         for (String storyPath : storyPaths) {
             RuntimeException thrown = new RuntimeException(storyPath + " failed");
             failures.put(storyPath, thrown);
-            doThrow(thrown).when(performableTree).perform(runContext, stories.get(storyPath));
+            doThrow(thrown).when(performableTree).perform(Matchers.isA(RunContext.class), Matchers.eq(stories.get(storyPath)));
         }
 
         // When
@@ -763,7 +763,7 @@ public class EmbedderBehaviour {
 
         // Then
         for (String storyPath : storyPaths) {
-            verify(performableTree).perform(runContext, stories.get(storyPath));
+            verify(performableTree).perform(Matchers.isA(RunContext.class), Matchers.eq(stories.get(storyPath)));
             assertThat(out.toString(), containsString("Running story " + storyPath));
         }
         assertThat(out.toString(), not(containsString("Generating stories view")));
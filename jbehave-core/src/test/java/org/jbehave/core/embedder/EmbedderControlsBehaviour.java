@@ -32,6 +32,8 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo(defaultControls.storyTimeoutInSecsByPath()));
         assertThat(embedderControls.failOnStoryTimeout(), is(defaultControls.failOnStoryTimeout()));
         assertThat(embedderControls.threads(), equalTo(defaultControls.threads()));
+        assertThat(embedderControls.parsingThreads(), equalTo(defaultControls.parsingThreads()));
+        assertThat(embedderControls.pipelineStories(), is(defaultControls.pipelineStories()));
 
         System.setProperty(PropertyBasedEmbedderControls.BATCH, "true");
         System.setProperty(PropertyBasedEmbedderControls.GENERATE_VIEW_AFTER_STORIES, "true");
@@ -44,6 +46,8 @@ public class EmbedderControlsBehaviour {
         System.setProperty(PropertyBasedEmbedderControls.STORY_TIMEOUT_IN_SECS_BY_PATH, "**/shorts/*.story:3,**/longs/*.story:20");
         System.setProperty(PropertyBasedEmbedderControls.FAIL_ON_STORY_TIMEOUT, "true");
         System.setProperty(PropertyBasedEmbedderControls.THREADS, "5");
+        System.setProperty(PropertyBasedEmbedderControls.PARSING_THREADS, "3");
+        System.setProperty(PropertyBasedEmbedderControls.PIPELINE_STORIES, "true");
 
         assertThat(embedderControls.batch(), is(true));
         assertThat(embedderControls.generateViewAfterStories(), is(true));
@@ -56,6 +60,10 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo("**/shorts/*.story:3,**/longs/*.story:20"));
         assertThat(embedderControls.failOnStoryTimeout(), is(true));
         assertThat(embedderControls.threads(), equalTo(5));
+        assertThat(embedderControls.parsingThreads(), equalTo(3));
+        assertThat(embedderControls.pipelineStories(), is(true));
+        System.clearProperty(PropertyBasedEmbedderControls.PARSING_THREADS);
+        System.clearProperty(PropertyBasedEmbedderControls.PIPELINE_STORIES);
     }
     
     @Test
@@ -74,6 +82,8 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeoutInSecs(), equalTo(delegate.storyTimeoutInSecs()));
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo(delegate.storyTimeoutInSecsByPath()));
         assertThat(embedderControls.threads(), equalTo(delegate.threads()));
+        assertThat(embedderControls.parsingThreads(), equalTo(delegate.parsingThreads()));
+        assertThat(embedderControls.pipelineStories(), is(delegate.pipelineStories()));
         assertThatNotAllowed(embedderControls, "doBatch", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doGenerateViewAfterStories", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doIgnoreFailureInStories", boolean.class, true);
@@ -85,6 +95,8 @@ public class EmbedderControlsBehaviour {
         assertThatNotAllowed(embedderControls, "useStoryTimeoutInSecsByPath", String.class, "**/*/BddTest1.story");
         assertThatNotAllowed(embedderControls, "doFailOnStoryTimeout", boolean.class, true);
         assertThatNotAllowed(embedderControls, "useThreads", int.class, 1);
+        assertThatNotAllowed(embedderControls, "useParsingThreads", int.class, 1);
+        assertThatNotAllowed(embedderControls, "doPipelineStories", boolean.class, true);
     }
 
     private void assertThatNotAllowed(EmbedderControls unmodifiable, String methodName, Class<?> type, Object value)
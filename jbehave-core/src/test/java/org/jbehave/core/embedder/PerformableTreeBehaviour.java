@@ -0,0 +1,419 @@
+package org.jbehave.core.embedder;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_END;
+import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.PerformableTree.RunContext;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.io.ReaderResourceLoader;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.GivenStory;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.model.StreamedExamplesTable;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.MarkUnmatchedStepsAsPending;
+import org.jbehave.core.steps.StepCollector;
+import org.jbehave.core.steps.StepMonitor;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class PerformableTreeBehaviour {
+
+    @Test
+    public void shouldPerformExamplesConcurrentlyAndReportThemInOrder() {
+        final RecordingStoryReporter reporter = new RecordingStoryReporter();
+        Configuration configuration = new MostUsefulConfiguration() {
+            @Override
+            public StoryReporter storyReporter(String storyPath) {
+                return reporter;
+            }
+        };
+        String storyAsText = "Scenario: concurrent examples\n"
+                + "Meta: @parallelExamples 4\n"
+                + "Given a slow step for <row>\n"
+                + "Examples:\n|row|\n|1|\n|2|\n|3|\n|4|\n";
+        Story story = configuration.storyParser().parseStory(storyAsText, "/concurrent.story");
+        PerformableTree performableTree = new PerformableTree();
+        RunContext context = performableTree.newRunContext(configuration,
+                new InstanceStepsFactory(configuration, new SlowSteps()), new NullEmbedderMonitor(),
+                new MetaFilter(), new BatchFailures());
+        performableTree.addStories(context, asList(story));
+
+        long start = System.currentTimeMillis();
+        performableTree.perform(context, story);
+        long duration = System.currentTimeMillis() - start;
+
+        assertThat(reporter.events, equalTo(asList("scenario concurrent examples", "example 1", "successful Given a slow step for 1",
+                "example 2", "successful Given a slow step for 2", "example 3",
+                "successful Given a slow step for 3", "example 4", "successful Given a slow step for 4")));
+        assertThat(duration, lessThan(4 * SlowSteps.DURATION));
+    }
+
+    @Test
+    public void shouldPerformScenariosConcurrentlyAndReportThemInOrder() {
+        final RecordingStoryReporter reporter = new RecordingStoryReporter();
+        Configuration configuration = new MostUsefulConfiguration() {
+            @Override
+            public StoryReporter storyReporter(String storyPath) {
+                return reporter;
+            }
+        };
+        String storyAsText = "Meta: @parallelScenarios\n"
+                + "Scenario: first\nGiven a slow step for 1\n"
+                + "Scenario: second\nGiven a slow step for 2\n"
+                + "Scenario: third\nGiven a slow step for 3\n"
+                + "Scenario: sequential\nMeta: @parallelScenarios false\nGiven a slow step for 4\n";
+        Story story = configuration.storyParser().parseStory(storyAsText, "/concurrent.story");
+        PerformableTree performableTree = new PerformableTree();
+        RunContext context = performableTree.newRunContext(configuration,
+                new InstanceStepsFactory(configuration, new SlowSteps()), new NullEmbedderMonitor(),
+                new MetaFilter(), new BatchFailures());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        context.useExecutor(executor);
+        performableTree.addStories(context, asList(story));
+
+        long start = System.currentTimeMillis();
+        try {
+            performableTree.perform(context, story);
+        } finally {
+            executor.shutdownNow();
+        }
+        long duration = System.currentTimeMillis() - start;
+
+        assertThat(reporter.events, equalTo(asList("scenario first", "successful Given a slow step for 1",
+                "scenario second", "successful Given a slow step for 2", "scenario third",
+                "successful Given a slow step for 3", "scenario sequential",
+                "successful Given a slow step for 4")));
+        assertThat(duration, lessThan(4 * SlowSteps.DURATION));
+    }
+
+    @Test
+    public void shouldCollectScenarioStepsForEachExampleIfStepCollectorDoesNotMatchThemOnce() {
+        final RecordingStoryReporter reporter = new RecordingStoryReporter();
+        Configuration configuration = new MostUsefulConfiguration() {
+            @Override
+            public StoryReporter storyReporter(String storyPath) {
+                return reporter;
+            }
+        };
+        StepCollector stepCollector = mock(StepCollector.class, delegatesTo(new MarkUnmatchedStepsAsPending()));
+        configuration.useStepCollector(stepCollector);
+        String storyAsText = "Scenario: examples\n"
+                + "Given a slow step for <row>\n"
+                + "Examples:\n|row|\n|1|\n|2|\n";
+        Story story = configuration.storyParser().parseStory(storyAsText, "/examples.story");
+        PerformableTree performableTree = new PerformableTree();
+        RunContext context = performableTree.newRunContext(configuration,
+                new InstanceStepsFactory(configuration, new SlowSteps()), new NullEmbedderMonitor(),
+                new MetaFilter(), new BatchFailures());
+        performableTree.addStories(context, asList(story));
+
+        performableTree.perform(context, story);
+
+        assertThat(reporter.events, equalTo(asList("scenario examples", "example 1",
+                "successful Given a slow step for 1", "example 2", "successful Given a slow step for 2")));
+        verify(stepCollector).collectScenarioSteps(anyListOf(CandidateSteps.class), any(Scenario.class),
+                eq(Collections.singletonMap("row", "1")), any(StepMonitor.class));
+        verify(stepCollector).collectScenarioSteps(anyListOf(CandidateSteps.class), any(Scenario.class),
+                eq(Collections.singletonMap("row", "2")), any(StepMonitor.class));
+    }
+
+    @Test
+    public void shouldReleaseStreamedExamplesIfNotAllPerformed() {
+        assertThatStreamedExamplesAreReleasedIfNotAllPerformed(new Meta());
+    }
+
+    @Test
+    public void shouldReleaseStreamedExamplesIfNotAllPerformedConcurrently() {
+        Properties properties = new Properties();
+        properties.setProperty("parallelExamples", "2");
+        assertThatStreamedExamplesAreReleasedIfNotAllPerformed(new Meta(properties));
+    }
+
+    private void assertThatStreamedExamplesAreReleasedIfNotAllPerformed(Meta meta) {
+        final RecordingStoryReporter reporter = new RecordingStoryReporter() {
+            @Override
+            public void example(Map<String, String> tableRow) {
+                if (tableRow.get("row").equals("2")) {
+                    throw new IllegalStateException("example 2 not reportable");
+                }
+                super.example(tableRow);
+            }
+        };
+        Configuration configuration = new MostUsefulConfiguration() {
+            @Override
+            public StoryReporter storyReporter(String storyPath) {
+                return reporter;
+            }
+        };
+        final List<Reader> readers = new ArrayList<>();
+        ReaderResourceLoader resourceLoader = mock(ReaderResourceLoader.class);
+        when(resourceLoader.loadResourceAsReader("/rows.table")).thenAnswer(new Answer<Reader>() {
+            public Reader answer(InvocationOnMock invocation) {
+                StringBuilder rows = new StringBuilder("|row|\n");
+                for (int row = 1; row <= 10; row++) {
+                    rows.append("|").append(row).append("|\n");
+                }
+                Reader reader = spy(new StringReader(rows.toString()));
+                readers.add(reader);
+                return reader;
+            }
+        });
+        ExamplesTable table = new StreamedExamplesTable("/rows.table", resourceLoader, "|", "|", "|--",
+                configuration.parameterConverters(), configuration.parameterControls(),
+                configuration.tableTransformers());
+        Scenario scenario = new Scenario("streamed examples", meta, GivenStories.EMPTY, table,
+                asList("Given a step for <row>"));
+        Story story = new Story("/streamed.story", asList(scenario));
+        PerformableTree performableTree = new PerformableTree();
+        RunContext context = performableTree.newRunContext(configuration,
+                new InstanceStepsFactory(configuration, new RowSteps()), new NullEmbedderMonitor(),
+                new MetaFilter(), new BatchFailures());
+        performableTree.addStories(context, asList(story));
+
+        try {
+            performableTree.perform(context, story);
+            fail("Expected failure to report example 2");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("example 2 not reportable"));
+        }
+
+        assertThat(readers.size(), greaterThan(1));
+        for (Reader reader : readers) {
+            try {
+                verify(reader).close();
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepFailureOfExamplesPerformedConcurrentlyWithoutResettingState() {
+        final RecordingStoryReporter reporter = new RecordingStoryReporter() {
+            @Override
+            public void failed(String step, Throwable cause) {
+                events.add("failed " + unmarked(step));
+            }
+
+            @Override
+            public void notPerformed(String step) {
+                events.add("notPerformed " + unmarked(step));
+            }
+        };
+        Configuration configuration = new MostUsefulConfiguration() {
+            @Override
+            public StoryReporter storyReporter(String storyPath) {
+                return reporter;
+            }
+        };
+        configuration.useStoryControls(new StoryControls().doResetStateBeforeScenario(false));
+        String storyAsText = "Scenario: concurrent examples\n"
+                + "Meta: @parallelExamples 2\n"
+                + "Given a step failing for <row>\n"
+                + "Examples:\n|row|\n|1|\n|2|\n"
+                + "Scenario: following\n"
+                + "Given a step for 3\n";
+        Story story = configuration.storyParser().parseStory(storyAsText, "/concurrent.story");
+        PerformableTree performableTree = new PerformableTree();
+        RunContext context = performableTree.newRunContext(configuration,
+                new InstanceStepsFactory(configuration, new RowSteps()), new NullEmbedderMonitor(),
+                new MetaFilter(), new BatchFailures());
+        performableTree.addStories(context, asList(story));
+
+        performableTree.perform(context, story);
+
+        assertThat(reporter.events, equalTo(asList("scenario concurrent examples", "example 1",
+                "failed Given a step failing for 1", "example 2", "successful Given a step failing for 2",
+                "scenario following", "notPerformed Given a step for 3")));
+        context.shutdownExamplesExecutors();
+    }
+
+    @Test
+    public void shouldShareExamplesExecutorsBetweenStoriesOfTheRun() {
+        Configuration configuration = new MostUsefulConfiguration();
+        RunContext runContext = new PerformableTree().newRunContext(configuration,
+                new InstanceStepsFactory(configuration), new NullEmbedderMonitor(), new MetaFilter(),
+                new BatchFailures());
+        RunContext aContext = runContext.storyContext();
+        RunContext anotherContext = runContext.storyContext();
+
+        ExecutorService executor = aContext.examplesExecutor(2);
+
+        assertThat(anotherContext.examplesExecutor(2), sameInstance(executor));
+        assertThat(anotherContext.concurrentContext(anotherContext.state()).examplesExecutor(2),
+                sameInstance(executor));
+        assertThat(anotherContext.examplesExecutor(3), not(sameInstance(executor)));
+        runContext.shutdownExamplesExecutors();
+        assertThat(executor.isShutdown(), equalTo(true));
+        assertThat(aContext.examplesExecutor(2), not(sameInstance(executor)));
+        runContext.shutdownExamplesExecutors();
+    }
+
+    @Test
+    public void shouldKeepPathAndFailuresOfEachStoryInItsOwnContext() {
+        Configuration configuration = new MostUsefulConfiguration();
+        RunContext runContext = new PerformableTree().newRunContext(configuration,
+                new InstanceStepsFactory(configuration), new NullEmbedderMonitor(), new MetaFilter(),
+                new BatchFailures());
+        RunContext aContext = runContext.storyContext();
+        RunContext anotherContext = runContext.storyContext();
+        Story aStory = new Story("/a.story");
+
+        aContext.currentPath("/a.story");
+        anotherContext.currentPath("/another.story");
+        aContext.addFailure("/a.story", new RuntimeException("failed"));
+        anotherContext.resetFailures();
+        runContext.cancelStory(aStory, new StoryDuration(1));
+
+        assertThat(aContext.path(), equalTo("/a.story"));
+        assertThat(anotherContext.path(), equalTo("/another.story"));
+        assertThat(aContext.isCancelled(aStory), equalTo(true));
+        assertThat(anotherContext.isCancelled(aStory), equalTo(true));
+        assertThat(runContext.getFailures().isEmpty(), equalTo(true));
+        runContext.addFailures(aContext);
+        runContext.addFailures(anotherContext);
+        assertThat(runContext.getFailures(), hasKey("/a.story"));
+    }
+
+    @Test
+    public void shouldInterruptOnlyTheStoryCancelledAndItsConcurrentContexts() throws InterruptedException {
+        Configuration configuration = new MostUsefulConfiguration();
+        RunContext runContext = new PerformableTree().newRunContext(configuration,
+                new InstanceStepsFactory(configuration), new NullEmbedderMonitor(), new MetaFilter(),
+                new BatchFailures());
+        RunContext aContext = runContext.storyContext();
+        RunContext anotherContext = runContext.storyContext();
+        aContext.currentPath("/a.story");
+        RunContext concurrentContext = aContext.concurrentContext(aContext.state());
+
+        aContext.cancel();
+
+        assertThat(aContext.isCancelled(), equalTo(true));
+        assertThat(concurrentContext.isCancelled(), equalTo(true));
+        assertThat(anotherContext.isCancelled(), equalTo(false));
+        assertThat(runContext.isCancelled(), equalTo(false));
+        anotherContext.interruptIfCancelled();
+        try {
+            concurrentContext.interruptIfCancelled();
+            fail("Expected interruption of cancelled story");
+        } catch (InterruptedException e) {
+            assertThat(e.getMessage(), equalTo("/a.story"));
+        }
+    }
+
+    @Test
+    public void shouldInterruptGivenStoriesOfTheStoryCancelled() {
+        Configuration configuration = new MostUsefulConfiguration();
+        RunContext runContext = new PerformableTree().newRunContext(configuration,
+                new InstanceStepsFactory(configuration), new NullEmbedderMonitor(), new MetaFilter(),
+                new BatchFailures());
+        RunContext aContext = runContext.storyContext();
+        RunContext anotherContext = runContext.storyContext();
+        aContext.currentPath("/a.story");
+        RunContext givenContext = aContext.childContextFor(new GivenStory("/given.story"));
+        RunContext anotherGivenContext = anotherContext.childContextFor(new GivenStory("/given.story"));
+
+        aContext.cancel();
+
+        assertThat(givenContext.isCancelled(), equalTo(true));
+        assertThat(anotherGivenContext.isCancelled(), equalTo(false));
+        try {
+            givenContext.interruptIfCancelled();
+            fail("Expected interruption of given story of cancelled story");
+        } catch (InterruptedException e) {
+            assertThat(e.getMessage(), equalTo("/given.story"));
+        }
+    }
+
+    public static class SlowSteps {
+
+        private static final long DURATION = 300;
+
+        @Given("a slow step for $row")
+        public void slowStep(String row) throws InterruptedException {
+            Thread.sleep(DURATION);
+        }
+
+    }
+
+    public static class RowSteps {
+
+        @Given("a step for $row")
+        public void step(String row) {
+        }
+
+        @Given("a step failing for $row")
+        public void failingStep(String row) {
+            if (row.equals("1")) {
+                throw new IllegalStateException("failed for row " + row);
+            }
+        }
+
+    }
+
+    private static class RecordingStoryReporter extends NullStoryReporter {
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+
+        @Override
+        public void beforeScenario(String title) {
+            events.add("scenario " + title);
+        }
+
+        @Override
+        public void example(Map<String, String> tableRow) {
+            events.add("example " + tableRow.get("row"));
+        }
+
+        @Override
+        public void successful(String step) {
+            events.add("successful " + unmarked(step));
+        }
+
+        String unmarked(String step) {
+            return step.replace(PARAMETER_VALUE_START, "").replace(PARAMETER_VALUE_END, "");
+        }
+
+    }
+
+}
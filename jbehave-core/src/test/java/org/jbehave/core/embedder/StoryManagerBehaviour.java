@@ -1,21 +1,49 @@
 package org.jbehave.core.embedder;
 
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.codehaus.plexus.util.FileUtils;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.embedder.StoryManager.RunningStory;
+import org.jbehave.core.embedder.StoryManager.StoryExecutionFailed;
+import org.jbehave.core.embedder.StoryManager.StoryTimedOut;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.CrossReference;
 import org.jbehave.core.steps.InjectableStepsFactory;
+import org.junit.After;
 import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 public class StoryManagerBehaviour {
 
@@ -24,6 +52,12 @@ public class StoryManagerBehaviour {
 	private EmbedderControls embedderControls = new EmbedderControls();
 	private ExecutorService executorService = mock(ExecutorService.class);
 	private InjectableStepsFactory stepsFactory = mock(InjectableStepsFactory.class);
+	private ExecutorService storyExecutor = Executors.newFixedThreadPool(2);
+
+	@After
+	public void shutdownStoryExecutor() {
+		storyExecutor.shutdownNow();
+	}
 
 	@Test
 	public void shouldEnsureStoryReportOutputDirectoryExistsWhenWritingStoryDurations() throws IOException{
@@ -38,4 +72,259 @@ public class StoryManagerBehaviour {
 		assertThat(outputDirectory.exists(), is(true));
 	}
 
+	@Test
+	public void shouldWaitUntilAllStoriesAreDoneWithoutPolling() throws Exception {
+		Story aStory = new Story("/a.story");
+		Story anotherStory = new Story("/another.story");
+		PerformableTree performableTree = mock(PerformableTree.class);
+		doAnswer(sleeping(200)).when(performableTree).perform(any(RunContext.class), eq(anotherStory));
+		RunContext context = contextFor(performableTree, aStory, anotherStory);
+		StoryManager manager = storyManagerWith(performableTree, storyExecutor);
+
+		long start = System.currentTimeMillis();
+		manager.runStories(asList(aStory, anotherStory), new MetaFilter(), new BatchFailures());
+		long duration = System.currentTimeMillis() - start;
+
+		verify(performableTree).perform(context, aStory);
+		verify(performableTree).perform(context, anotherStory);
+		assertThat(duration, lessThan(2000L));
+		for (StoryManager.StoryOutcome outcome : manager.outcomes()) {
+			assertThat(outcome.isDone(), is(true));
+			assertThat(outcome.isFailed(), is(false));
+		}
+	}
+
+	@Test
+	public void shouldCancelStoryThatTimesOut() throws Exception {
+		embedderControls.useStoryTimeouts("1");
+		Story aStory = new Story("/a.story");
+		Story aLongStory = new Story("/a_long.story");
+		PerformableTree performableTree = mock(PerformableTree.class);
+		doAnswer(sleeping(10000)).when(performableTree).perform(any(RunContext.class), eq(aLongStory));
+		RunContext context = contextFor(performableTree, aStory, aLongStory);
+		StoryManager manager = storyManagerWith(performableTree, storyExecutor);
+
+		long start = System.currentTimeMillis();
+		manager.runStories(asList(aStory, aLongStory), new MetaFilter(), new BatchFailures());
+		long duration = System.currentTimeMillis() - start;
+
+		assertThat(duration, lessThan(5000L));
+		verify(context).cancelStory(eq(aLongStory), any(StoryDuration.class));
+		verify(context).addFailure(eq(aLongStory.getPath()), any(CancellationException.class));
+	}
+
+	@Test
+	public void shouldCancelStoriesNotDoneIfWaitIsInterrupted() throws Exception {
+		Story aStory = new Story("/a.story");
+		Story aLongStory = new Story("/a_long.story");
+		PerformableTree performableTree = mock(PerformableTree.class);
+		final CountDownLatch started = new CountDownLatch(1);
+		final AtomicBoolean interrupted = new AtomicBoolean();
+		doAnswer(new Answer<Void>() {
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				started.countDown();
+				try {
+					Thread.sleep(10000);
+				} catch (InterruptedException e) {
+					interrupted.set(true);
+				}
+				return null;
+			}
+		}).when(performableTree).perform(any(RunContext.class), eq(aLongStory));
+		final RunContext context = contextFor(performableTree, aStory, aLongStory);
+		// a single thread, so that the first story is done once the long one starts
+		final StoryManager manager = storyManagerWith(performableTree, Executors.newFixedThreadPool(1));
+		final List<Story> stories = asList(aStory, aLongStory);
+
+		Thread waiting = new Thread() {
+			@Override
+			public void run() {
+				manager.runStories(stories, new MetaFilter(), new BatchFailures());
+			}
+		};
+		long start = System.currentTimeMillis();
+		waiting.start();
+		started.await(5, TimeUnit.SECONDS);
+		waiting.interrupt();
+		waiting.join(5000);
+		long duration = System.currentTimeMillis() - start;
+
+		assertThat(waiting.isAlive(), is(false));
+		assertThat(duration, lessThan(5000L));
+		verify(context).cancel();
+		verify(context).addFailure(eq(aLongStory.getPath()), any(CancellationException.class));
+		verify(context, never()).addFailure(eq(aStory.getPath()), any(Throwable.class));
+		for (int i = 0; i < 50 && !interrupted.get(); i++) {
+			Thread.sleep(100);
+		}
+		assertThat(interrupted.get(), is(true));
+	}
+
+	@Test
+	public void shouldFailOnStoryThatTimesOutIfConfigured() throws Exception {
+		embedderControls.useStoryTimeouts("1").doFailOnStoryTimeout(true);
+		Story aLongStory = new Story("/a_long.story");
+		PerformableTree performableTree = mock(PerformableTree.class);
+		doAnswer(sleeping(10000)).when(performableTree).perform(any(RunContext.class), eq(aLongStory));
+		contextFor(performableTree, aLongStory);
+		StoryManager manager = storyManagerWith(performableTree, storyExecutor);
+
+		try {
+			manager.runStories(asList(aLongStory), new MetaFilter(), new BatchFailures());
+			throw new AssertionError("Expected StoryExecutionFailed");
+		} catch (StoryExecutionFailed e) {
+			assertThat(e.getCause(), instanceOf(StoryTimedOut.class));
+		}
+	}
+
+	@Test
+	public void shouldShutdownTimeoutSchedulerOnceAllStoriesAreDone() throws Exception {
+		embedderControls.useStoryTimeouts("10");
+		Story aStory = new Story("/a.story");
+		PerformableTree performableTree = mock(PerformableTree.class);
+		doAnswer(sleeping(100)).when(performableTree).perform(any(RunContext.class), eq(aStory));
+		contextFor(performableTree, aStory);
+		StoryManager manager = storyManagerWith(performableTree, storyExecutor);
+
+		manager.runStories(asList(aStory), new MetaFilter(), new BatchFailures());
+
+		assertThat(aliveTimeoutThreads(), is(0));
+	}
+
+	@Test
+	public void shouldPlanEachStoryAsItIsRunAndReleaseItOncePerformed() throws Exception {
+		embedderControls.doPipelineStories(true);
+		Story aStory = new Story("/a.story");
+		PerformableTree performableTree = mock(PerformableTree.class);
+		when(performableTree.storyOfPath(any(Configuration.class), eq(aStory.getPath()))).thenReturn(aStory);
+		RunContext context = contextFor(performableTree, aStory);
+		StoryManager manager = storyManagerWith(performableTree, storyExecutor);
+
+		manager.runStoriesAsPaths(asList(aStory.getPath()), new MetaFilter(), new BatchFailures());
+
+		InOrder inOrder = inOrder(performableTree);
+		inOrder.verify(performableTree).addStories(context, Collections.<Story>emptyList());
+		inOrder.verify(performableTree).addStory(context, aStory);
+		inOrder.verify(performableTree).perform(context, aStory);
+		inOrder.verify(performableTree).removeStory(aStory);
+	}
+
+	@Test
+	public void shouldRetainPipelinedStoriesWhenNeededForCrossReference() throws Exception {
+		embedderControls.doPipelineStories(true);
+		Story aStory = new Story("/a.story");
+		Story anExcludedStory = new Story("/excluded.story");
+		PerformableTree performableTree = mock(PerformableTree.class);
+		RunContext context = contextFor(performableTree, aStory);
+		FilteredStory notAllowed = mock(FilteredStory.class);
+		when(context.filter(anExcludedStory)).thenReturn(notAllowed);
+		Configuration configuration = new MostUsefulConfiguration();
+		configuration.storyReporterBuilder().withCrossReference(new CrossReference());
+		StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+				storyExecutor, performableTree);
+
+		manager.runStories(asList(aStory, anExcludedStory), new MetaFilter(), new BatchFailures());
+
+		verify(performableTree).addStory(context, aStory);
+		verify(performableTree).addStory(context, anExcludedStory);
+		verify(performableTree).perform(context, aStory);
+		verify(performableTree, never()).removeStory(any(Story.class));
+	}
+
+	@Test
+	public void shouldParseStoriesConcurrentlyInTheOrderOfTheirPaths() throws Exception {
+		embedderControls.useParsingThreads(4);
+		PerformableTree performableTree = mock(PerformableTree.class);
+		List<String> storyPaths = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			String storyPath = "/story" + i + ".story";
+			storyPaths.add(storyPath);
+			when(performableTree.storyOfPath(any(Configuration.class), eq(storyPath))).thenAnswer(
+					parsing(200, storyPath));
+		}
+		StoryManager manager = storyManagerWith(performableTree, executorService);
+
+		long start = System.currentTimeMillis();
+		List<Story> stories = manager.storiesOfPaths(storyPaths, new BatchFailures());
+		long duration = System.currentTimeMillis() - start;
+
+		assertThat(stories.size(), is(storyPaths.size()));
+		for (int i = 0; i < stories.size(); i++) {
+			assertThat(stories.get(i).getPath(), is(storyPaths.get(i)));
+		}
+		assertThat(duration, lessThan(1200L));
+	}
+
+	@Test
+	public void shouldReportStoriesWhichFailToParse() throws Exception {
+		embedderControls.useParsingThreads(2);
+		PerformableTree performableTree = mock(PerformableTree.class);
+		RuntimeException failure = new RuntimeException("Invalid story");
+		when(performableTree.storyOfPath(any(Configuration.class), eq("/a.story"))).thenAnswer(parsing(0, "/a.story"));
+		when(performableTree.storyOfPath(any(Configuration.class), eq("/invalid.story"))).thenThrow(failure);
+		EmbedderMonitor embedderMonitor = mock(EmbedderMonitor.class);
+		StoryManager manager = new StoryManager(new MostUsefulConfiguration(), stepsFactory, embedderControls,
+				embedderMonitor, executorService, performableTree);
+		BatchFailures failures = new BatchFailures();
+
+		List<Story> stories = manager.storiesOfPaths(asList("/invalid.story", "/a.story"), failures);
+
+		assertThat(stories.size(), is(1));
+		assertThat(stories.get(0).getPath(), is("/a.story"));
+		assertThat(failures.get("/invalid.story"), is((Throwable) failure));
+		verify(embedderMonitor).storyFailed("/invalid.story", failure);
+	}
+
+	private StoryManager storyManagerWith(PerformableTree performableTree, ExecutorService executorService) {
+		Configuration configuration = new MostUsefulConfiguration();
+		return new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor, executorService,
+				performableTree);
+	}
+
+	private RunContext contextFor(PerformableTree performableTree, Story... stories) {
+		RunContext context = mock(RunContext.class);
+		when(performableTree.newRunContext(any(Configuration.class), any(InjectableStepsFactory.class),
+				any(EmbedderMonitor.class), any(MetaFilter.class), any(BatchFailures.class))).thenReturn(context);
+		when(context.getFailures()).thenReturn(new BatchFailures());
+		when(context.storyContext()).thenReturn(context);
+		for (Story story : stories) {
+			FilteredStory filteredStory = mock(FilteredStory.class);
+			when(filteredStory.allowed()).thenReturn(true);
+			when(context.filter(story)).thenReturn(filteredStory);
+		}
+		return context;
+	}
+
+	private int aliveTimeoutThreads() throws InterruptedException {
+		int alive = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().equals("jbehave-story-timeouts")) {
+				// the thread terminates once the scheduler is shut down
+				thread.join(1000);
+				if (thread.isAlive()) {
+					alive++;
+				}
+			}
+		}
+		return alive;
+	}
+
+	private Answer<Story> parsing(final long millis, final String storyPath) {
+		return new Answer<Story>() {
+			public Story answer(InvocationOnMock invocation) throws Throwable {
+				Thread.sleep(millis);
+				return new Story(storyPath);
+			}
+		};
+	}
+
+	private Answer<Void> sleeping(final long millis) {
+		return new Answer<Void>() {
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				Thread.sleep(millis);
+				return null;
+			}
+		};
+	}
+
 }
@@ -31,6 +31,9 @@ import static java.util.Arrays.asList;
 import static org.codehaus.plexus.util.StringUtils.isBlank;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class ExamplesTableBehaviour {
 
@@ -350,6 +353,48 @@ public class ExamplesTableBehaviour {
         assertThat(firstRow.<String>valueAs("Value", String.class), is("foo-value1-bar"));
     }
 
+    @Test
+    public void shouldReplaceNamedParameterValuesOfTableWithDefaults() throws Exception {
+        // Given
+        ExamplesTable defaultsTable = new ExamplesTable("|c|\n|3|");
+        Parameters defaults = defaultsTable.getRowAsParameters(0);
+
+        // When
+        ExamplesTable table = new ExamplesTable("|a|b|\n|1|2|").withDefaults(defaults);
+        Map<String, String> namedParameters = new HashMap<>();
+        namedParameters.put("value", "value1");
+        ExamplesTable namedTable = new ExamplesTable("|a|b|\n|1|<value>|").withNamedParameters(namedParameters)
+                .withDefaults(defaults);
+
+        // Then
+        Parameters row = table.getRowsAsParameters(true).get(0);
+        assertThat(row.<String>valueAs("a", String.class), is("1"));
+        assertThat(row.<String>valueAs("b", String.class), is("2"));
+        assertThat(row.<String>valueAs("c", String.class), is("3"));
+        Parameters namedRow = namedTable.getRowsAsParameters(true).get(0);
+        assertThat(namedRow.<String>valueAs("b", String.class), is("value1"));
+        assertThat(namedRow.<String>valueAs("c", String.class), is("3"));
+    }
+
+    @Test
+    public void shouldSplitCellsWithNamedParametersOnce() throws Exception {
+        // Given
+        ParameterControls parameterControls = spy(new ParameterControls());
+        ExamplesTable table = new ExamplesTable("|Name|Value|\n|name1|<value>|\n|name2|<value>|", "|", "|",
+                new ParameterConverters(), parameterControls, new TableTransformers());
+        Map<String, String> namedParameters = new HashMap<>();
+        namedParameters.put("value", "value1");
+        table.withNamedParameters(namedParameters);
+
+        // When
+        table.getRowsAsParameters(true);
+        List<Parameters> rows = table.getRowsAsParameters(true);
+
+        // Then
+        assertThat(rows.get(1).<String>valueAs("Value", String.class), is("value1"));
+        verify(parameterControls, times(1)).delimitedNamesTemplate("<value>");
+    }
+
     /**
      * The values given named parameter values as strings should not suffer any modification after are replaced in table.
      *
@@ -540,12 +585,67 @@ public class ExamplesTableBehaviour {
         assertThat(table.asString(), equalTo(tableAsString));
     }
 
+    @Test
+    public void shouldProvideRowsAsViewsWritingThroughToTable() {
+        ExamplesTable table = new ExamplesTable("|one|two|\n|11|12|\n|21|22|");
+
+        Map<String, String> row = table.getRow(0);
+        row.put("two", "changed");
+        row.put("three", "13");
+
+        assertThat(table.getRow(0), equalTo(map("one", "11", "two", "changed", "three", "13")));
+        assertThat(table.getRow(1), equalTo(map("one", "21", "two", "22")));
+        assertThat(new ArrayList<>(table.getRow(0).keySet()), equalTo(asList("one", "two", "three")));
+        assertThat(table.asString(), equalTo("|one|two|\n|11|changed|\n|21|22|\n"));
+    }
+
+    @Test
+    public void shouldRemoveValuesFromRowViewsOnly() {
+        ExamplesTable table = new ExamplesTable("|one|two|\n|11|12|\n|21|22|");
+
+        Map<String, String> row = table.getRow(0);
+        row.put("three", "13");
+        assertThat(row.remove("two"), equalTo("12"));
+        assertThat(row.remove("three"), equalTo("13"));
+        assertThat(row.remove("two"), equalTo(null));
+
+        assertThat(row.containsKey("two"), equalTo(false));
+        assertThat(row.get("two"), equalTo(null));
+        assertThat(row.size(), equalTo(1));
+        assertThat(table.getRow(0), equalTo(map("one", "11")));
+        assertThat(table.getRow(1), equalTo(map("one", "21", "two", "22")));
+
+        Iterator<String> names = table.getRow(1).keySet().iterator();
+        names.next();
+        names.remove();
+        assertThat(table.getRow(1), equalTo(map("two", "22")));
+
+        assertThat(row.put("two", "changed"), equalTo(null));
+        assertThat(table.getRow(0), equalTo(map("one", "11", "two", "changed")));
+    }
+
+    @Test
+    public void shouldStoreEqualValuesOnlyOnce() {
+        ExamplesTable table = new ExamplesTable("|country|city|\n|France|Paris|\n|France|Lyon|\n|Italy|Rome|");
+
+        assertThat(table.getRow(1).get("country"), sameInstance(table.getRow(0).get("country")));
+        assertThat(table.getRowAsParameters(1).<String>valueAs("city", String.class), equalTo("Lyon"));
+    }
+
     @Test
     public void shouldHandleWrongNumberOfColumns() {
         assertTableAsString("|a|b|\n|a|\n", "|a|b|\n|a||\n");
         assertTableAsString("|a|b|\n|a|b|c|\n", "|a|b|\n|a|b|\n");
     }
 
+    private Map<String, String> map(String... namesAndValues) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            map.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return map;
+    }
+
     private ExamplesTableFactory createFactory(ParameterConverter... converters) {
         LoadFromClasspath resourceLoader = new LoadFromClasspath();
         TableTransformers tableTransformers = new TableTransformers();
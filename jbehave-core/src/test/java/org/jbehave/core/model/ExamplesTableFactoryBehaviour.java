@@ -1,12 +1,16 @@
 package org.jbehave.core.model;
 
+import java.io.StringReader;
+
 import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.io.ReaderResourceLoader;
 import org.jbehave.core.io.ResourceLoader;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -67,4 +71,42 @@ public class ExamplesTableFactoryBehaviour {
         // Then
         assertThat(examplesTable.asString(), equalTo(FILTERED_TABLE_WITH_INLINED_SEPARATTORS));
     }
+
+    @Test
+    public void shouldCreateStreamedExamplesTableFromResourceInputIfEnabled() {
+        // Given
+        ReaderResourceLoader resourceLoader = mock(ReaderResourceLoader.class);
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        factory.useStreamedResources(true);
+
+        // When
+        String resourcePath = "/path/to/table";
+        when(resourceLoader.loadResourceAsReader(resourcePath)).thenReturn(new StringReader(TABLE_AS_STRING),
+                new StringReader(TABLE_AS_STRING));
+        ExamplesTable examplesTable = factory.createExamplesTable(resourcePath);
+
+        // Then
+        assertThat(examplesTable, instanceOf(StreamedExamplesTable.class));
+        assertThat(examplesTable.isStreamed(), equalTo(true));
+        assertThat(examplesTable.rowIterator().next().get("two"), equalTo("22"));
+    }
+
+    @Test
+    public void shouldLoadResourceInputAsTextIfStreamedTableRequiresTransformer() {
+        // Given
+        ReaderResourceLoader resourceLoader = mock(ReaderResourceLoader.class);
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        factory.useStreamedResources(true);
+
+        // When
+        String resourcePath = "/path/to/table";
+        String tableAsString = "{transformer=REPLACING, replacing=x, replacement=2}\n|one|two|\n|11|x2|\n";
+        when(resourceLoader.loadResourceAsReader(resourcePath)).thenReturn(new StringReader(tableAsString));
+        when(resourceLoader.loadResourceAsText(resourcePath)).thenReturn(tableAsString);
+        ExamplesTable examplesTable = factory.createExamplesTable(resourcePath);
+
+        // Then
+        assertThat(examplesTable.isStreamed(), equalTo(false));
+        assertThat(examplesTable.getRow(0).get("two"), equalTo("22"));
+    }
 }
@@ -0,0 +1,64 @@
+package org.jbehave.core.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.annotations.Parameter;
+import org.jbehave.core.model.ExamplesTable.ParametersNotMappableToType;
+import org.jbehave.core.model.RowMappers.RowMapper;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class RowMappersBehaviour {
+
+    private final RowMappers rowMappers = new RowMappers();
+
+    @Test
+    public void shouldCacheMapperByTypeAndFieldNameMapping() {
+        Map<String, String> mapping = new HashMap<>();
+        mapping.put("aName", "name");
+        RowMapper<Person> mapper = rowMappers.mapperFor(Person.class, mapping);
+
+        assertThat(rowMappers.mapperFor(Person.class, new HashMap<>(mapping)), sameInstance(mapper));
+        assertThat(rowMappers.mapperFor(Person.class, new HashMap<String, String>()), not(sameInstance(mapper)));
+    }
+
+    @Test
+    public void shouldMapRowsToPrimitiveFinalAndAnnotatedFields() {
+        ExamplesTable table = new ExamplesTable("|name|age|born|\n|Alice|32|1984|\n|Bob|41|1975|");
+        table.useRowMappers(rowMappers);
+
+        List<Person> persons = table.getRowsAs(Person.class);
+
+        assertThat(persons.size(), equalTo(2));
+        assertThat(persons.get(0).name, equalTo("Alice"));
+        assertThat(persons.get(0).age, equalTo(32));
+        assertThat(persons.get(0).yearOfBirth, equalTo(1984L));
+        assertThat(persons.get(1).name, equalTo("Bob"));
+        assertThat(persons.get(1).age, equalTo(41));
+        assertThat(persons.get(1).yearOfBirth, equalTo(1975L));
+    }
+
+    @Test(expected = ParametersNotMappableToType.class)
+    public void shouldFailToMapRowWithValueNotMatchingAnyField() {
+        ExamplesTable table = new ExamplesTable("|name|unknown|\n|Alice|value|");
+        table.useRowMappers(rowMappers);
+
+        table.getRowsAs(Person.class);
+    }
+
+    public static class Person {
+
+        private String name;
+        private final Integer age = null;
+        @Parameter(name = "born")
+        long yearOfBirth;
+
+    }
+
+}
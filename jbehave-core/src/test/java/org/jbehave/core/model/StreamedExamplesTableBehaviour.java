@@ -0,0 +1,148 @@
+package org.jbehave.core.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jbehave.core.io.ReaderResourceLoader;
+import org.jbehave.core.model.ExamplesTable.RowIterator;
+import org.jbehave.core.model.ExamplesTable.RowNotFound;
+import org.jbehave.core.steps.ParameterControls;
+import org.jbehave.core.steps.ParameterConverters;
+import org.jbehave.core.steps.Parameters;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StreamedExamplesTableBehaviour {
+
+    private final TableTransformers tableTransformers = new TableTransformers();
+    private final ReaderResourceLoader resourceLoader = mock(ReaderResourceLoader.class);
+
+    @Test
+    public void shouldReadHeadersOnlyWhenCreatedAndRowsWhenIterated() {
+        String tableAsString = "{metaByRow=true}\n|one|two|\n|-- ignored --|\n|11|12|\n\n|21|22|\n";
+        ExamplesTable table = streamedTable("/path/to/table", tableAsString);
+
+        verify(resourceLoader).loadResourceAsReader("/path/to/table");
+        assertThat(table.isStreamed(), equalTo(true));
+        assertThat(table.metaByRow(), equalTo(true));
+        assertThat(table.getHeaders(), contains("one", "two"));
+
+        Iterator<Map<String, String>> rows = table.rowIterator();
+        assertThat(rows.next(), equalTo(map("one", "11", "two", "12")));
+        assertThat(rows.next(), equalTo(map("one", "21", "two", "22")));
+        assertThat(rows.hasNext(), equalTo(false));
+        verify(resourceLoader, times(2)).loadResourceAsReader("/path/to/table");
+    }
+
+    @Test
+    public void shouldReleaseResourceIfRowIteratorIsClosedBeforeLastRow() throws IOException {
+        final Reader reader = spy(new StringReader("|one|\n|11|\n|21|\n"));
+        ExamplesTable table = streamedTable("/path/to/table", "|one|\n");
+        when(resourceLoader.loadResourceAsReader("/path/to/table")).thenReturn(reader);
+
+        RowIterator rows = table.rowIterator();
+        assertThat(rows.next(), equalTo(map("one", "11")));
+        verify(reader, never()).close();
+        rows.close();
+
+        verify(reader).close();
+    }
+
+    @Test
+    public void shouldReadRowsWithSeparatorsSpecifiedAsProperties() {
+        String tableAsString = "{headerSeparator=!,valueSeparator=!}\n!one!two!\n!11!12!\n";
+        ExamplesTable table = streamedTable("/path/to/table", tableAsString);
+
+        assertThat(table.getHeaders(), contains("one", "two"));
+        assertThat(table.getRow(0), equalTo(map("one", "11", "two", "12")));
+    }
+
+    @Test
+    public void shouldReadCommaSeparatedValues() {
+        String tableAsString = "one,two,three\n11,\"a, quoted \"\"value\"\"\",13\n21,\"a value\non two lines\"\n";
+        ExamplesTable table = streamedTable("/path/to/table.csv", tableAsString);
+
+        assertThat(table.getHeaders(), contains("one", "two", "three"));
+        assertThat(table.getRowCount(), equalTo(2));
+        assertThat(table.getRow(0), equalTo(map("one", "11", "two", "a, quoted \"value\"", "three", "13")));
+        assertThat(table.getRow(1), equalTo(map("one", "21", "two", "a value\non two lines", "three", "")));
+    }
+
+    @Test
+    public void shouldReadTabSeparatedValues() {
+        String tableAsString = "one\ttwo\n11\t12\n21\t22\t23\n";
+        ExamplesTable table = streamedTable("/path/to/table.TSV", tableAsString);
+
+        assertThat(table.getHeaders(), contains("one", "two"));
+        assertThat(table.getRows().size(), equalTo(2));
+        assertThat(table.getRow(1), equalTo(map("one", "21", "two", "22")));
+    }
+
+    @Test(expected = RowNotFound.class)
+    public void shouldFailToGetRowBeyondLastRow() {
+        streamedTable("/path/to/table", "|one|\n|11|\n").getRow(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowRowsToBeModified() {
+        streamedTable("/path/to/table", "|one|\n|11|\n").withRowValues(0, map("one", "12"));
+    }
+
+    @Test
+    public void shouldRemainStreamedWithDefaults() {
+        ExamplesTable table = streamedTable("/path/to/table", "|one|\n|11|\n");
+        Parameters defaults = new ExamplesTable("|one|two|\n|1|2|\n").getRowAsParameters(0);
+
+        ExamplesTable tableWithDefaults = table.withDefaults(defaults);
+
+        assertThat(tableWithDefaults.isStreamed(), equalTo(true));
+        Parameters row = tableWithDefaults.getRowsAsParameters().get(0);
+        assertThat(row.<String>valueAs("one", String.class), equalTo("11"));
+        assertThat(row.<String>valueAs("two", String.class), equalTo("2"));
+    }
+
+    @Test
+    public void shouldHaveNoRowsIfResourceIsEmpty() {
+        ExamplesTable table = streamedTable("/path/to/table", "");
+
+        assertThat(table.getHeaders().isEmpty(), equalTo(true));
+        assertThat(table.getRowCount(), equalTo(0));
+        assertThat(table.rowIterator().hasNext(), equalTo(false));
+        assertThat(table.asString(), equalTo(""));
+    }
+
+    private ExamplesTable streamedTable(String resourcePath, final String tableAsString) {
+        when(resourceLoader.loadResourceAsReader(resourcePath)).thenAnswer(new Answer<Reader>() {
+            public Reader answer(InvocationOnMock invocation) {
+                return new StringReader(tableAsString);
+            }
+        });
+        return new StreamedExamplesTable(resourcePath, resourceLoader, "|", "|", "|--",
+                new ParameterConverters(resourceLoader, tableTransformers), new ParameterControls(),
+                tableTransformers);
+    }
+
+    private Map<String, String> map(String... namesAndValues) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            map.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return map;
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.jbehave.core.parsers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+
+public class CachingStoryParserBehaviour {
+
+    private static final String NL = "\n";
+
+    private final StoryParser delegate = spy(new RegexStoryParser());
+
+    @Test
+    public void shouldParseStoryOfSamePathAndTextOnlyOnce() {
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step";
+
+        Story story = parser.parseStory(storyAsText, "/path/login.story");
+        Story cached = parser.parseStory(storyAsText, "/path/login.story");
+
+        assertThat(cached, not(sameInstance(story)));
+        assertThat(cached.getScenarios().get(0), sameInstance(story.getScenarios().get(0)));
+        assertThat(cached.getScenarios().get(0).getSteps().get(0), equalTo("Given a step"));
+        verify(delegate, times(1)).parseStory(storyAsText, "/path/login.story");
+    }
+
+    @Test
+    public void shouldNotShareNamesOfCachedStories() {
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step";
+
+        Story story = parser.parseStory(storyAsText, "/path/login.story");
+        story.namedAs("Login");
+        Story cached = parser.parseStory(storyAsText, "/path/login.story");
+        cached.namedAs("Other login");
+
+        assertThat(parser.parseStory(storyAsText, "/path/login.story").getName(), equalTo("login.story"));
+        assertThat(story.getName(), equalTo("Login"));
+        verify(delegate, times(1)).parseStory(storyAsText, "/path/login.story");
+    }
+
+    @Test
+    public void shouldParseStoryAgainIfItsTextChanges() {
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+
+        Story story = parser.parseStory("Scenario: a scenario" + NL + "Given a step", "/path/login.story");
+        Story changed = parser.parseStory("Scenario: a scenario" + NL + "Given another step", "/path/login.story");
+
+        assertThat(changed, not(sameInstance(story)));
+        assertThat(changed.getScenarios().get(0).getSteps().get(0), equalTo("Given another step"));
+        assertThat(parser.size(), equalTo(1));
+    }
+
+    @Test
+    public void shouldNotCacheStoriesWithoutPath() {
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step";
+
+        parser.parseStory(storyAsText);
+        parser.parseStory(storyAsText);
+
+        verify(delegate, times(2)).parseStory(storyAsText);
+        assertThat(parser.size(), equalTo(0));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedStoriesBeyondMaximum() {
+        CachingStoryParser parser = new CachingStoryParser(delegate, 2);
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step";
+
+        parser.parseStory(storyAsText, "/one.story");
+        parser.parseStory(storyAsText, "/two.story");
+        parser.parseStory(storyAsText, "/one.story");
+        parser.parseStory(storyAsText, "/three.story");
+        parser.parseStory(storyAsText, "/one.story");
+        parser.parseStory(storyAsText, "/two.story");
+
+        assertThat(parser.size(), equalTo(2));
+        verify(delegate, times(1)).parseStory(storyAsText, "/one.story");
+        verify(delegate, times(2)).parseStory(storyAsText, "/two.story");
+        verify(delegate, times(1)).parseStory(storyAsText, "/three.story");
+    }
+
+}
@@ -0,0 +1,156 @@
+package org.jbehave.core.parsers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.io.InvalidStoryResource;
+import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.TableTransformers;
+import org.junit.Test;
+
+/**
+ * Verifies that the stories read line by line are parsed as with the regex
+ * patterns.
+ */
+public class LineStoryParserBehaviour extends RegexStoryParserBehaviour {
+
+    private static final String NL = "\n";
+
+    @Override
+    protected StoryParser storyParser() {
+        return new LineStoryParser();
+    }
+
+    @Test
+    public void shouldParseExampleStoriesAsRegexStoryParser() throws IOException {
+        File examples = new File("../examples");
+        assumeTrue(examples.isDirectory());
+        List<File> stories = new ArrayList<>(FileUtils.listFiles(examples, new String[] { "story" }, true));
+        assertThat(stories.size(), greaterThan(0));
+        // the tables loaded from resources are only identified by their path
+        ResourceLoader resourceLoader = new ResourceLoader() {
+            public String loadResourceAsText(String resourcePath) {
+                return "|path|" + NL + "|" + resourcePath + "|";
+            }
+        };
+        StoryParser regexParser = new RegexStoryParser(new ExamplesTableFactory(resourceLoader,
+                new TableTransformers()));
+        StoryParser lineParser = new LineStoryParser(new ExamplesTableFactory(resourceLoader,
+                new TableTransformers()));
+        for (File story : stories) {
+            String storyAsText = FileUtils.readFileToString(story, "UTF-8");
+            String storyPath = story.getPath();
+            assertThat(storyPath, modelOf(lineParser.parseStory(storyAsText, storyPath)),
+                    equalTo(modelOf(regexParser.parseStory(storyAsText, storyPath))));
+        }
+    }
+
+    @Test
+    public void shouldParseStoryFromReader() {
+        String storyAsText = "Scenario: A scenario" + NL + "Given a step" + NL + "Scenario: Another scenario" + NL
+                + "When another step";
+        LineStoryParser parser = new LineStoryParser();
+        Story story = parser.parseStory(new StringReader(storyAsText), "path/to/my.story");
+        assertThat(story.getName(), equalTo("my.story"));
+        assertThat(modelOf(story), equalTo(modelOf(new RegexStoryParser().parseStory(storyAsText,
+                "path/to/my.story"))));
+    }
+
+    @Test
+    public void shouldParseScenarioKeywordWithinLinesAsRegexStoryParser() {
+        String storyAsText = "A story with a Scenario: within its description" + NL + "Narrative:" + NL
+                + "In order to split scenarios" + NL + "As a parser" + NL + "I want to find the keyword anywhere"
+                + NL + "Scenario: A scenario" + NL + "Given a step ending the Scenario: Another scenario" + NL
+                + "When another step" + NL + "  Scenario: An indented scenario Scenario: Scenario: A last scenario"
+                + NL + "Then a last step";
+        String storyPath = "path/to/my.story";
+        Story story = new LineStoryParser().parseStory(storyAsText, storyPath);
+        assertThat(modelOf(story), equalTo(modelOf(new RegexStoryParser().parseStory(storyAsText, storyPath))));
+        assertThat(story.getScenarios().size(), equalTo(5));
+        assertThat(story.getNarrative().asA(), equalTo("parser"));
+    }
+
+    @Test(expected = InvalidStoryResource.class)
+    public void shouldFailToParseStoryWhichCannotBeRead() {
+        Reader reader = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("unreadable");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        new LineStoryParser().parseStory(reader, "path/to/my.story");
+    }
+
+    @Test
+    public void shouldParseExamplesTableOnlyWhenFirstAccessed() {
+        ExamplesTableFactory tableFactory = spy(new ExamplesTableFactory(new LoadFromClasspath(),
+                new TableTransformers()));
+        StoryParser parser = new LineStoryParser(new LocalizedKeywords(), tableFactory);
+        String storyAsText = "Scenario: A scenario" + NL + "Given a step with <one>" + NL + "Examples:" + NL
+                + "|one|two|" + NL + "|11|12|" + NL + "|21|22|";
+
+        Scenario scenario = parser.parseStory(storyAsText).getScenarios().get(0);
+        verify(tableFactory, never()).createExamplesTable(anyString());
+        assertThat(scenario.hasExamplesTable(), equalTo(true));
+
+        assertThat(scenario.getExamplesTable().getRowCount(), equalTo(2));
+        assertThat(scenario.getExamplesTable().getRow(1).get("two"), equalTo("22"));
+        verify(tableFactory, times(1)).createExamplesTable("|one|two|" + NL + "|11|12|" + NL + "|21|22|");
+    }
+
+    private String modelOf(Story story) {
+        StringBuilder model = new StringBuilder();
+        model.append(story.getPath()).append(NL).append(story.getName()).append(NL);
+        model.append(story.getDescription().asString()).append(NL);
+        model.append(modelOf(story.getMeta())).append(NL);
+        Narrative narrative = story.getNarrative();
+        model.append(narrative.inOrderTo()).append('|').append(narrative.asA()).append('|')
+                .append(narrative.iWantTo()).append('|').append(narrative.soThat()).append(NL);
+        model.append(story.getGivenStories().asString()).append(NL);
+        model.append(story.getLifecycle()).append(NL);
+        for (Scenario scenario : story.getScenarios()) {
+            model.append(scenario.getTitle()).append(NL);
+            model.append(modelOf(scenario.getMeta())).append(NL);
+            model.append(scenario.getGivenStories().asString()).append(NL);
+            model.append(scenario.getExamplesTable().asString()).append(NL);
+            model.append(scenario.getSteps()).append(NL);
+        }
+        return model.toString();
+    }
+
+    private String modelOf(Meta meta) {
+        StringBuilder model = new StringBuilder();
+        for (String name : new TreeSet<>(meta.getPropertyNames())) {
+            model.append(name).append('=').append(meta.getProperty(name)).append(';');
+        }
+        return model.toString();
+    }
+
+}
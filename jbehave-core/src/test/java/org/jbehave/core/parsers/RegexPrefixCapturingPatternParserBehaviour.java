@@ -5,6 +5,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.jbehave.core.steps.StepType;
 import org.junit.Test;
 
@@ -111,6 +118,60 @@ public class RegexPrefixCapturingPatternParserBehaviour {
         assertThat(stepMatcher.parameter(1), equalTo("."));
     }
 
+    @Test
+    public void shouldReturnImmutableMatches() {
+        StepPatternMatcher stepMatcher = (StepPatternMatcher) parser.parseStep(StepType.GIVEN,
+                "a house with $numberOfDoors doors");
+
+        StepPatternMatch threeDoors = stepMatcher.match("a house with 3 doors");
+        StepPatternMatch fourDoors = stepMatcher.findMatch("a house with 4 doors and 2 windows");
+        StepPatternMatch noDoors = stepMatcher.match("a house with 4 doors and 2 windows");
+
+        assertThat(threeDoors.matched(), is(true));
+        assertThat(threeDoors.parameter(1), equalTo("3"));
+        assertThat(threeDoors.parameterNames(), equalTo(new String[] { "numberOfDoors" }));
+        assertThat(fourDoors.matched(), is(true));
+        assertThat(fourDoors.parameter(1), equalTo("4"));
+        assertThat(noDoors.matched(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @SuppressWarnings("deprecation")
+    public void shouldNotKeepMatchesReturnedAsStepPatternMatches() {
+        StepPatternMatcher stepMatcher = (StepPatternMatcher) parser.parseStep(StepType.GIVEN,
+                "a house with $numberOfDoors doors");
+
+        stepMatcher.match("a house with 3 doors");
+        stepMatcher.findMatch("a house with 4 doors and 2 windows");
+        stepMatcher.parameter(1);
+    }
+
+    @Test
+    public void shouldMatchStepsConcurrently() throws Exception {
+        final StepPatternMatcher stepMatcher = (StepPatternMatcher) parser.parseStep(StepType.GIVEN,
+                "a house with $numberOfDoors doors");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final String doors = Integer.toString(i);
+            futures.add(executor.submit(new Callable<Boolean>() {
+                public Boolean call() {
+                    boolean matched = true;
+                    for (int j = 0; j < 100; j++) {
+                        StepPatternMatch match = stepMatcher.match("a house with " + doors + " doors");
+                        matched &= stepMatcher.matches("a house with " + doors + " doors")
+                                && doors.equals(match.parameter(1));
+                    }
+                    return matched;
+                }
+            }));
+        }
+        executor.shutdown();
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get(), is(true));
+        }
+    }
+
     @Test
     public void shouldExtractParameterNamesFromStepPattern() {
         String[] names = parser.parseStep(StepType.GIVEN, "The grid $name looks like $grid").parameterNames();
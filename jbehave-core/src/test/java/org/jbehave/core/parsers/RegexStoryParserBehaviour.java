@@ -38,9 +38,13 @@ import org.junit.Test;
 public class RegexStoryParserBehaviour {
 
     private static final String NL = "\n";
-    private StoryParser parser = new RegexStoryParser();
+    private StoryParser parser = storyParser();
     private String storyPath = "path/to/my.story";
 
+    protected StoryParser storyParser() {
+        return new RegexStoryParser();
+    }
+
     @Test
     public void shouldParseStoryAndProvideNameFromPath() {
         Story story = parser.parseStory(EMPTY, storyPath);
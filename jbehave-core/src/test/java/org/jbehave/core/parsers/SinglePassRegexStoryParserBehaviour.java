@@ -0,0 +1,14 @@
+package org.jbehave.core.parsers;
+
+/**
+ * Verifies that the stories tokenized in a single pass are parsed as with the
+ * patterns matched against the whole story text.
+ */
+public class SinglePassRegexStoryParserBehaviour extends RegexStoryParserBehaviour {
+
+    @Override
+    protected StoryParser storyParser() {
+        return new RegexStoryParser().doSinglePass(true);
+    }
+
+}
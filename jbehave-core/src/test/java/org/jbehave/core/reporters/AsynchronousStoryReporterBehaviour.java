@@ -0,0 +1,115 @@
+package org.jbehave.core.reporters;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.AsynchronousStoryReporter.BackPressure;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class AsynchronousStoryReporterBehaviour {
+
+    @Test
+    public void shouldInvokeReportsInOrderInWriterThreadsUntilStoryIsOver() {
+        final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+        StoryReporter delegate = new NullStoryReporter() {
+            @Override
+            public void successful(String step) {
+                threads.add(Thread.currentThread().getName());
+            }
+        };
+        StoryReporter recorder = mock(StoryReporter.class);
+        ExecutorService writer = Executors.newFixedThreadPool(2);
+        try {
+            AsynchronousStoryReporter reporter = new AsynchronousStoryReporter(
+                    new DelegatingStoryReporter(delegate, recorder), writer, 2, BackPressure.BLOCK);
+            Story story = new Story("/a.story");
+
+            reporter.beforeStory(story, false);
+            for (int i = 0; i < 100; i++) {
+                reporter.successful("step " + i);
+            }
+            reporter.afterStory(false);
+
+            InOrder inOrder = inOrder(recorder);
+            inOrder.verify(recorder).beforeStory(story, false);
+            for (int i = 0; i < 100; i++) {
+                inOrder.verify(recorder).successful("step " + i);
+            }
+            inOrder.verify(recorder).afterStory(false);
+            assertThat(threads.size(), equalTo(100));
+            assertThat(threads, not(hasItem(Thread.currentThread().getName())));
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldDropVerboseReportsWhenQueueIsFull() {
+        StoryReporter delegate = mock(StoryReporter.class);
+        ManualExecutor writer = new ManualExecutor();
+        AsynchronousStoryReporter reporter = new AsynchronousStoryReporter(delegate, writer, 1,
+                BackPressure.DROP_VERBOSE);
+
+        reporter.successful("a step");
+        reporter.beforeStep("another step");
+        writer.runAll();
+        reporter.flush();
+
+        verify(delegate).successful("a step");
+        verify(delegate, never()).beforeStep("another step");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRethrowFailureOfReportsWhenFlushed() {
+        StoryReporter delegate = mock(StoryReporter.class);
+        doThrow(new IllegalStateException()).when(delegate).failed("a step", null);
+        ManualExecutor writer = new ManualExecutor();
+        AsynchronousStoryReporter reporter = new AsynchronousStoryReporter(delegate, writer, 10,
+                BackPressure.BLOCK);
+
+        reporter.failed("a step", null);
+        reporter.pendingMethods(asList("method"));
+        writer.runAll();
+
+        try {
+            reporter.flush();
+        } finally {
+            verify(delegate).pendingMethods(asList("method"));
+        }
+    }
+
+    private static class ManualExecutor implements Executor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+            tasks.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package org.jbehave.core.reporters;
+
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class ConcurrentStoryReporterBehaviour {
+
+    private final StoryReporter crossReferencing = mock(StoryReporter.class);
+    private final StoryReporter delegate = mock(StoryReporter.class);
+
+    @Test
+    public void shouldDelayEventsUntilInvokedInMultiThreadingMode() {
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(crossReferencing, delegate, true);
+        Story story = new Story("/a.story");
+        Map<String, String> row = Collections.singletonMap("one", "1");
+        List<String> methods = asList("method");
+        RuntimeException cause = new RuntimeException();
+
+        reporter.beforeStory(story, false);
+        reporter.example(row);
+        reporter.failed("a step", cause);
+        reporter.pendingMethods(methods);
+        reporter.afterStory(false);
+
+        verify(crossReferencing).beforeStory(story, false);
+        verify(crossReferencing).failed("a step", cause);
+        verifyZeroInteractions(delegate);
+
+        reporter.invokeDelayed();
+
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).beforeStory(story, false);
+        inOrder.verify(delegate).example(row);
+        inOrder.verify(delegate).failed("a step", cause);
+        inOrder.verify(delegate).pendingMethods(methods);
+        inOrder.verify(delegate).afterStory(false);
+    }
+
+    @Test
+    public void shouldInvokeDelayedEventsOnceBoundIsReached() {
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(crossReferencing, delegate, true, 2);
+
+        reporter.beforeStep("a step");
+        verifyZeroInteractions(delegate);
+        reporter.successful("a step");
+
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).beforeStep("a step");
+        inOrder.verify(delegate).successful("a step");
+        reporter.beforeStep("another step");
+        inOrder.verifyNoMoreInteractions();
+
+        reporter.invokeDelayed();
+        inOrder.verify(delegate).beforeStep("another step");
+    }
+
+    @Test
+    public void shouldInvokeDelegateDirectlyIfNotInMultiThreadingMode() {
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(crossReferencing, delegate, false);
+
+        reporter.successful("a step");
+
+        verify(delegate).successful("a step");
+    }
+
+}
@@ -6,12 +6,20 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
 import java.net.URL;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 
 import org.jbehave.core.io.CodeLocations;
 import org.jbehave.core.io.StoryLocation;
 import org.jbehave.core.reporters.FilePrintStreamFactory.FileConfiguration;
 import org.jbehave.core.reporters.FilePrintStreamFactory.FilePathResolver;
+import org.jbehave.core.reporters.FilePrintStreamFactory.ResolveToPackagedName;
 import org.jbehave.core.reporters.FilePrintStreamFactory.ResolveToSimpleName;
 import org.jbehave.core.reporters.FilePrintStreamFactory.PrintStreamCreationFailed;
 import org.junit.Test;
@@ -91,6 +99,48 @@ public class FilePrintStreamFactoryBehaviour {
         assertThat(factory.outputName(), equalTo(outputName));
     }
     
+    @Test
+    public void shouldWriteBufferedOutputWhenFlushedAndClosed() throws IOException {
+        // Given
+        URL codeLocation = CodeLocations.codeLocationFromClass(this.getClass());
+        String storyPath = "org/jbehave/examples/trader/stories/my_buffered.story";
+        FileConfiguration configuration = new FileConfiguration("", "ext", new ResolveToPackagedName(), 1024, false);
+        FilePrintStreamFactory factory = new FilePrintStreamFactory(new StoryLocation(codeLocation, storyPath), configuration);
+        // When
+        PrintStream printStream = factory.createPrintStream();
+        printStream.print("failed");
+        File outputFile = factory.getOutputFile();
+        // Then
+        assertThat(FileUtils.readFileToString(outputFile), equalTo(""));
+        printStream.flush();
+        assertThat(FileUtils.readFileToString(outputFile), equalTo("failed"));
+        printStream.print(" and over");
+        printStream.close();
+        assertThat(FileUtils.readFileToString(outputFile), equalTo("failed and over"));
+    }
+
+    @Test
+    public void shouldWriteCompressedOutput() throws IOException {
+        // Given
+        URL codeLocation = CodeLocations.codeLocationFromClass(this.getClass());
+        String storyPath = "org/jbehave/examples/trader/stories/my_compressed.story";
+        FileConfiguration configuration = new FileConfiguration("", "ext", new ResolveToPackagedName(), 1024, true);
+        FilePrintStreamFactory factory = new FilePrintStreamFactory(new StoryLocation(codeLocation, storyPath), configuration);
+        // When
+        PrintStream printStream = factory.createPrintStream();
+        printStream.print("compressed");
+        printStream.close();
+        // Then
+        File outputFile = factory.getOutputFile();
+        assertThat(outputFile.getName(), equalTo("org.jbehave.examples.trader.stories.my_compressed.ext.gz"));
+        GZIPInputStream input = new GZIPInputStream(new FileInputStream(outputFile));
+        try {
+            assertThat(IOUtils.toString(input), equalTo("compressed"));
+        } finally {
+            input.close();
+        }
+    }
+
     @Test(expected=PrintStreamCreationFailed.class)
     public void shouldFailIfPrintStreamCannotBeCreated(){
         // Given
@@ -0,0 +1,26 @@
+package org.jbehave.core.reporters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class FreemarkerProcessorBehaviour {
+
+    @Test
+    public void shouldShareConfigurationAndTemplatesOfTemplateLoadingClass() throws IOException {
+        FreemarkerProcessor processor = new FreemarkerProcessor();
+        FreemarkerProcessor anotherProcessor = new FreemarkerProcessor(FreemarkerProcessor.class);
+        String templatePath = "ftl/jbehave-html-output.ftl";
+
+        assertThat(anotherProcessor.configuration(), sameInstance(processor.configuration()));
+        assertThat(anotherProcessor.configuration().getTemplate(templatePath),
+                sameInstance(processor.configuration().getTemplate(templatePath)));
+        assertThat(new FreemarkerProcessor(getClass()).configuration(),
+                not(sameInstance(processor.configuration())));
+    }
+
+}
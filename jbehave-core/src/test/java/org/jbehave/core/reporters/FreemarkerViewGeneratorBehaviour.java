@@ -2,16 +2,23 @@ package org.jbehave.core.reporters;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.SortedMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.FileUtils;
 
 import org.jbehave.core.reporters.TemplateableViewGenerator.Report;
 import org.jbehave.core.reporters.TemplateableViewGenerator.ReportCreationFailed;
@@ -55,6 +62,38 @@ public class FreemarkerViewGeneratorBehaviour {
         assertThat(files.get("report2").size(), equalTo(2));
     }
 
+    @Test
+    public void shouldGenerateReportsViewFromCompressedReportFiles() throws IOException {
+        // Given
+        FreemarkerViewGenerator generator = new FreemarkerViewGenerator();
+        File outputDirectory = new File("target/compressed-reports");
+        FileUtils.deleteQuietly(outputDirectory);
+        outputDirectory.mkdirs();
+        writeCompressed(new File(outputDirectory, "report1.html.gz"), "<div>compressed html</div>");
+        writeCompressed(new File(outputDirectory, "report1.txt.gz"), "compressed txt");
+        FileUtils.writeStringToFile(new File(outputDirectory, "report1.stats"), "scenarios=1");
+
+        // When
+        SortedMap<String, List<File>> files = generator.readReportFiles(outputDirectory, "view/reports.html", asList("html", "txt", "stats"));
+        generator.generateReportsView(outputDirectory, asList("html", "txt"), new Properties());
+
+        // Then
+        assertThat(files.size(), equalTo(1));
+        assertThat(files.get("report1").size(), equalTo(3));
+        assertThat(FileUtils.readFileToString(new File(outputDirectory, "view/report1.html")), containsString("compressed html"));
+        assertThat(FileUtils.readFileToString(new File(outputDirectory, "view/report1.txt.html")), containsString("compressed txt"));
+        assertThat(FileUtils.readFileToString(new File(outputDirectory, "view/reports.html")), containsString("report1"));
+    }
+
+    private void writeCompressed(File file, String content) throws IOException {
+        OutputStream output = new GZIPOutputStream(new FileOutputStream(file));
+        try {
+            output.write(content.getBytes());
+        } finally {
+            output.close();
+        }
+    }
+
     @Test
     public void shouldHandleMissingOutputDirectory(){
         // Given
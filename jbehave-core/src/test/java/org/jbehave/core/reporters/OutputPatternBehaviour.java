@@ -0,0 +1,45 @@
+package org.jbehave.core.reporters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.text.MessageFormat;
+import java.util.Date;
+
+import org.junit.Test;
+
+public class OutputPatternBehaviour {
+
+    @Test
+    public void shouldFormatAsMessageFormat() {
+        String[] patterns = { "{0}\n", "{0} ({1})\n({2})\n", "<div class=\"step\">{0}</div>\n", "'{0}' {1}",
+                "it''s {0}", "'it''s' {0}", "{1}{0}{1}", "{0} {3}", "}{0}", "{0,number} {1}", "'{'0} {0}",
+                "{0,choice,0#none|1#one}", "" };
+        Object[][] args = { {}, { "a", null }, { "a", "b", "c" }, { 12345, "b" }, { new Date(0), "b" },
+                { new StringBuilder("a"), 'b' } };
+        for (String pattern : patterns) {
+            for (Object[] arg : args) {
+                if (pattern.contains(",") && !(arg.length > 0 && arg[0] instanceof Number)) {
+                    continue;
+                }
+                StringBuilder buffer = new StringBuilder();
+                OutputPattern.compile(pattern).appendTo(buffer, arg);
+                assertThat(pattern, buffer.toString(), equalTo(MessageFormat.format(pattern, arg)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldCompilePatternOnce() {
+        String pattern = "{0} compiled";
+
+        assertThat(OutputPattern.compile(pattern), sameInstance(OutputPattern.compile(new String(pattern))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToFormatPatternWithUnmatchedBraces() {
+        OutputPattern.compile("{0").appendTo(new StringBuilder(), "a");
+    }
+
+}
@@ -5,11 +5,16 @@ import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.io.*;
 import org.jbehave.core.junit.JUnitStory;
+import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.OutcomesTable;
 import org.jbehave.core.model.OutcomesTable.OutcomesFailed;
 import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.StreamedExamplesTable;
+import org.jbehave.core.model.TableTransformers;
 import org.jbehave.core.reporters.StoryNarrator.IsDateEqual;
+import org.jbehave.core.steps.ParameterControls;
+import org.jbehave.core.steps.ParameterConverters;
 import org.junit.Test;
 import org.xml.sax.SAXException;
 
@@ -441,6 +446,97 @@ public class PrintStreamOutputBehaviour extends AbstractOutputBehaviour {
         assertThat(dos2unix(out.toString()), equalTo(expected));
     }
 
+    @Test
+    public void shouldPrintRowsOfStreamedTablesAsTheyAreRead() {
+        String tableAsString = "|one|two|\n|11|12|\n|21|22|\n|31|32|";
+        for (String format : asList("TXT", "HTML", "XML", "JSON")) {
+            // Given
+            ByteArrayOutputStream held = new ByteArrayOutputStream();
+            ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+
+            // When
+            reportExamples(output(format, held), new ExamplesTable(tableAsString));
+            reportExamples(output(format, streamed), streamedTable(tableAsString, streamed, "11"));
+
+            // Then
+            assertThat(format, streamed.toString(), equalTo(held.toString()));
+        }
+    }
+
+    private StoryReporter output(String format, OutputStream out) {
+        PrintStream output = new PrintStream(out);
+        switch (format) {
+        case "HTML":
+            return new HtmlOutput(output);
+        case "XML":
+            return new XmlOutput(output);
+        case "JSON":
+            return new JsonOutput(output, new LocalizedKeywords());
+        default:
+            return new TxtOutput(output);
+        }
+    }
+
+    private void reportExamples(StoryReporter reporter, ExamplesTable table) {
+        reporter.beforeExamples(asList("Given a step with <one>"), table);
+        reporter.example(table.getRow(0));
+        reporter.afterExamples();
+    }
+
+    private ExamplesTable streamedTable(final String tableAsString, final ByteArrayOutputStream output,
+            final String printedBeforeEnd) {
+        ReaderResourceLoader resourceLoader = new ReaderResourceLoader() {
+            public Reader loadResourceAsReader(String resourcePath) {
+                return new LineByLineReader(tableAsString, output, printedBeforeEnd);
+            }
+
+            public String loadResourceAsText(String resourcePath) {
+                return tableAsString;
+            }
+        };
+        TableTransformers tableTransformers = new TableTransformers();
+        return new StreamedExamplesTable("/path/to/table", resourceLoader, "|", "|", "|--",
+                new ParameterConverters(resourceLoader, tableTransformers), new ParameterControls(),
+                tableTransformers);
+    }
+
+    /**
+     * Reads one line at a time, checking that the text read first has been
+     * printed once the end of the text is reached
+     */
+    private static class LineByLineReader extends Reader {
+
+        private final String text;
+        private final ByteArrayOutputStream output;
+        private final String printedBeforeEnd;
+        private int position;
+
+        private LineByLineReader(String text, ByteArrayOutputStream output, String printedBeforeEnd) {
+            this.text = text;
+            this.output = output;
+            this.printedBeforeEnd = printedBeforeEnd;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == text.length()) {
+                assertThat(output.toString(), containsString(printedBeforeEnd));
+                return -1;
+            }
+            int end = text.indexOf('\n', position);
+            end = end < 0 ? text.length() : end + 1;
+            int read = Math.min(length, end - position);
+            text.getChars(position, position + read, buffer, offset);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
     @SuppressWarnings("serial")
     private static class MyKnownFailure extends KnownFailure {
     }
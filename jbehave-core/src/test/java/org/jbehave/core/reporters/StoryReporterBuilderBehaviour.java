@@ -109,6 +109,16 @@ public class StoryReporterBuilderBehaviour {
         assertThat(((TxtOutput) storyReporter).compressFailureTrace(), is(false));
     }
 
+    @Test
+    public void shouldNotBoundDelayedEventsUnlessRequired() {
+        // Given
+        StoryReporterBuilder builder = new StoryReporterBuilder();
+
+        // Then
+        assertThat(builder.maxDelayedEvents(), equalTo(Integer.MAX_VALUE));
+        assertThat(builder.withMaxDelayedEvents(100).maxDelayedEvents(), equalTo(100));
+    }
+
     @Test
     public void shouldBuildWithCustomCodeLocation() throws IOException {
         // Given
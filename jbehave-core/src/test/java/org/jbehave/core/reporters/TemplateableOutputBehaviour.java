@@ -0,0 +1,75 @@
+package org.jbehave.core.reporters;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.io.ReaderResourceLoader;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.StreamedExamplesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.TableTransformers;
+import org.jbehave.core.steps.ParameterControls;
+import org.jbehave.core.steps.ParameterConverters;
+import org.junit.Test;
+
+public class TemplateableOutputBehaviour extends AbstractOutputBehaviour {
+
+    @Test
+    public void shouldHoldAllRowsOfStreamedTablesUntilTheStoryIsWritten() throws IOException {
+        // Given
+        File file = newFile("target/template-streamed-story.html");
+        StoryReporter reporter = new HtmlTemplateOutput(file, new LocalizedKeywords());
+        final String tableAsString = "|one|two|\n|11|12|\n|21|22|\n|31|32|";
+        ReaderResourceLoader resourceLoader = new ReaderResourceLoader() {
+            public Reader loadResourceAsReader(String resourcePath) {
+                return new StringReader(tableAsString);
+            }
+
+            public String loadResourceAsText(String resourcePath) {
+                return tableAsString;
+            }
+        };
+        TableTransformers tableTransformers = new TableTransformers();
+        ExamplesTable table = new StreamedExamplesTable("/path/to/table", resourceLoader, "|", "|", "|--",
+                new ParameterConverters(resourceLoader, tableTransformers), new ParameterControls(),
+                tableTransformers);
+
+        // When
+        reporter.beforeStory(new Story("/path/to/story", asList(new Scenario())), false);
+        reporter.beforeScenario(new Scenario("A scenario", asList("Given a step with <one>")));
+        reporter.beforeExamples(asList("Given a step with <one>"), table);
+        ExamplesTable.RowIterator rows = table.rowIterator();
+        try {
+            while (rows.hasNext()) {
+                Map<String, String> row = rows.next();
+                reporter.example(row);
+                reporter.successful("Given a step with " + row.get("one"));
+            }
+        } finally {
+            rows.close();
+        }
+        reporter.afterExamples();
+        reporter.afterScenario();
+
+        // Then
+        assertThat(file.exists(), is(false));
+        reporter.afterStory(false);
+        String output = FileUtils.readFileToString(file);
+        for (String value : asList("11", "12", "21", "22", "31", "32")) {
+            assertThat(output, containsString("<td>" + value + "</td>"));
+        }
+        assertThat(output, containsString("Given a step with 31"));
+    }
+
+}
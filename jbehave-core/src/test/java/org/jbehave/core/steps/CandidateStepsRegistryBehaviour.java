@@ -0,0 +1,105 @@
+package org.jbehave.core.steps;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.PerformableTree;
+import org.junit.Test;
+
+public class CandidateStepsRegistryBehaviour {
+
+    @Test
+    public void shouldCollectCandidatesAndBeforeOrAfterStepsOnce() {
+        CandidateSteps steps = mock(CandidateSteps.class);
+        InjectableStepsFactory stepsFactory = mock(InjectableStepsFactory.class);
+        when(stepsFactory.createCandidateSteps()).thenReturn(asList(steps));
+
+        CandidateStepsRegistry registry = new CandidateStepsRegistry(stepsFactory);
+        for (int i = 0; i < 3; i++) {
+            registry.get(0).listCandidates();
+            registry.get(0).listBeforeOrAfterStories();
+            registry.get(0).listBeforeOrAfterStory(true);
+            registry.get(0).listBeforeOrAfterScenario(ScenarioType.EXAMPLE);
+        }
+
+        verify(stepsFactory, times(1)).createCandidateSteps();
+        verify(steps, times(1)).listCandidates();
+        verify(steps, times(1)).listBeforeOrAfterStories();
+        verify(steps, times(1)).listBeforeOrAfterStory(true);
+        verify(steps, times(1)).listBeforeOrAfterScenario(ScenarioType.EXAMPLE);
+    }
+
+    @Test
+    public void shouldProvideAllCandidatesToStepFinderWithoutExposingThemToSorting() {
+        InjectableStepsFactory stepsFactory = new InstanceStepsFactory(new MostUsefulConfiguration(), new MySteps());
+        CandidateStepsRegistry registry = new CandidateStepsRegistry(stepsFactory);
+        StepFinder finder = new StepFinder();
+
+        List<StepCandidate> candidates = finder.collectCandidates(registry);
+        assertThat(candidates.size(), equalTo(3));
+        assertThat(candidates, equalTo(registry.allCandidates()));
+        assertThat(candidates, not(sameInstance(registry.allCandidates())));
+        assertThat(finder.stepsInstances(registry).size(), equalTo(1));
+    }
+
+    @Test
+    public void shouldReuseRegistryUntilStepsFactoryChanges() {
+        PerformableTree performableTree = new PerformableTree();
+        Configuration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory stepsFactory = new InstanceStepsFactory(configuration, new MySteps());
+        CandidateStepsRegistry registry = performableTree.candidateSteps(configuration, stepsFactory);
+
+        assertThat(performableTree.candidateSteps(configuration, stepsFactory), sameInstance(registry));
+        InjectableStepsFactory otherStepsFactory = new InstanceStepsFactory(configuration, new MySteps());
+        CandidateStepsRegistry otherRegistry = performableTree.candidateSteps(configuration, otherStepsFactory);
+        assertThat(otherRegistry, not(sameInstance(registry)));
+        assertThat(otherRegistry.createdBy(otherStepsFactory), is(true));
+    }
+
+    @Test
+    public void shouldRebuildRegistryWhenConfigurationChanges() {
+        PerformableTree performableTree = new PerformableTree();
+        Configuration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory stepsFactory = new InstanceStepsFactory(configuration, new MySteps());
+        CandidateStepsRegistry registry = performableTree.candidateSteps(configuration, stepsFactory);
+
+        Configuration otherConfiguration = new MostUsefulConfiguration();
+        CandidateStepsRegistry otherRegistry = performableTree.candidateSteps(otherConfiguration, stepsFactory);
+        assertThat(otherRegistry, not(sameInstance(registry)));
+        assertThat(otherRegistry.createdBy(stepsFactory), is(true));
+        assertThat(performableTree.candidateSteps(otherConfiguration, stepsFactory), sameInstance(otherRegistry));
+    }
+
+    static class MySteps {
+
+        @Given("foo named $name")
+        public void givenFoo(String name) {
+        }
+
+        @When("foo named $name")
+        public void whenFoo(String name) {
+        }
+
+        @Then("foo named $name")
+        public void thenFoo(String name) {
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.jbehave.core.steps;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class DelimitedNamesTemplateBehaviour {
+
+    private final ParameterControls parameterControls = new ParameterControls();
+
+    @Test
+    public void shouldReplaceDelimitedNamesByTheirValues() {
+        DelimitedNamesTemplate template = parameterControls.delimitedNamesTemplate("Given <name> buys <count> <item>s");
+        Map<String, String> values = new HashMap<>();
+        values.put("name", "Alice");
+        values.put("count", "3");
+        values.put("item", "apple");
+
+        assertThat(template.hasNames(), equalTo(true));
+        assertThat(template.replace(values), equalTo("Given Alice buys 3 apples"));
+        values.put("name", "Bob");
+        assertThat(template.replace(values), equalTo("Given Bob buys 3 apples"));
+    }
+
+    @Test
+    public void shouldEncloseValuesAndReuseBuffer() {
+        DelimitedNamesTemplate template = parameterControls.delimitedNamesTemplate("<one> and <two>");
+        Map<String, String> values = new HashMap<>();
+        values.put("one", "1");
+        values.put("two", "2");
+        StringBuilder buffer = new StringBuilder("previous content");
+
+        assertThat(template.replace(values, "[", "]", buffer), equalTo("[1] and [2]"));
+        assertThat(template.replace(values, "{", "}", buffer), equalTo("{1} and {2}"));
+    }
+
+    @Test
+    public void shouldLeaveNamesWithoutValueAndReturnSameTextIfNoneReplaced() {
+        String text = "a <missing> name, a <<nested>> one and an <unclosed";
+        DelimitedNamesTemplate template = parameterControls.delimitedNamesTemplate(text);
+        Map<String, String> values = new HashMap<>();
+        values.put("other", "value");
+
+        assertThat(template.replace(values), sameInstance(text));
+        values.put("nested", "value");
+        assertThat(template.replace(values), equalTo("a <missing> name, a <value> one and an <unclosed"));
+    }
+
+    @Test
+    public void shouldNotReplaceNamesWithinValues() {
+        DelimitedNamesTemplate template = parameterControls.delimitedNamesTemplate("<one> <two>");
+        Map<String, String> values = new HashMap<>();
+        values.put("one", "<two>");
+        values.put("two", "2");
+
+        assertThat(template.replace(values), equalTo("<two> 2"));
+    }
+
+    @Test
+    public void shouldUseCustomDelimiters() {
+        ParameterControls controls = new ParameterControls("${", "}", true);
+        DelimitedNamesTemplate template = controls.delimitedNamesTemplate("Hello ${name}, <name> {name}");
+        Map<String, String> values = new HashMap<>();
+        values.put("name", "World");
+
+        assertThat(template.replace(values), equalTo("Hello World, <name> {name}"));
+    }
+
+    @Test
+    public void shouldHaveNoNamesWithoutDelimiters() {
+        DelimitedNamesTemplate template = new DelimitedNamesTemplate("<name>", "", "");
+        Map<String, String> values = new HashMap<>();
+        values.put("name", "value");
+
+        assertThat(template.hasNames(), equalTo(false));
+        assertThat(template.replace(values), equalTo("<name>"));
+    }
+
+}
@@ -6,12 +6,21 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hamcrest.Matchers;
 import org.jbehave.core.annotations.*;
@@ -22,9 +31,12 @@ import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.StepPattern;
 import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StepPatternMatch;
 import org.jbehave.core.steps.AbstractStepResult.Ignorable;
 import org.jbehave.core.steps.AbstractStepResult.Comment;
+import org.jbehave.core.steps.MatchingStepCollector.MatchedSteps;
 import org.jbehave.core.steps.StepCollector.Stage;
 import org.jbehave.core.steps.StepCreator.PendingStep;
 import org.jbehave.core.steps.StepFinder.ByLevenshteinDistance;
@@ -38,6 +50,8 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
     private Map<String, String> parameters = new HashMap<>();
 
+    private Map<String, StepPatternMatch> matches = new HashMap<>();
+
     @Test
     public void shouldCreateExecutableStepsWhenCandidatesAreMatched() {
         // Given
@@ -45,8 +59,8 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         Step executableStep = mock(Step.class);
 
         String stepAsString = "my step";
-        when(candidate.matches(stepAsString)).thenReturn(true);
-        when(candidate.createMatchedStep(stepAsString, parameters)).thenReturn(executableStep);
+        when(candidate.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
+        when(candidate.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(executableStep);
         List<CandidateSteps> steps = mockCandidateSteps(candidate);
 
         // When
@@ -58,6 +72,71 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         assertThat(executableSteps.get(0), equalTo(executableStep));
     }
 
+    @Test
+    public void shouldMatchScenarioStepsOnceAndCreateExecutableStepsForAnyParameters() {
+        // Given
+        StepCandidate candidate = mock(StepCandidate.class);
+        Step firstStep = mock(Step.class, "firstStep");
+        Step secondStep = mock(Step.class, "secondStep");
+
+        String stepAsString = "my step with <one>";
+        StepPatternMatch stepMatch = matchOf(stepAsString);
+        when(candidate.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(stepMatch);
+        Map<String, String> firstRow = Collections.singletonMap("one", "1");
+        Map<String, String> secondRow = Collections.singletonMap("one", "2");
+        when(candidate.createMatchedStep(eq(stepAsString), eq(stepMatch), eq(firstRow), any(StepMonitor.class))).thenReturn(firstStep);
+        when(candidate.createMatchedStep(eq(stepAsString), eq(stepMatch), eq(secondRow), any(StepMonitor.class))).thenReturn(secondStep);
+        List<CandidateSteps> steps = mockCandidateSteps(candidate);
+
+        // When
+        MatchedSteps matchedSteps = stepCollector.matchScenarioSteps(steps, createScenario(stepAsString),
+                new NullStepMonitor());
+        List<Step> firstSteps = matchedSteps.createSteps(firstRow);
+        List<Step> secondSteps = matchedSteps.createSteps(secondRow);
+
+        // Then
+        assertThat(firstSteps, equalTo(asList(firstStep)));
+        assertThat(secondSteps, equalTo(asList(secondStep)));
+        verify(candidate, times(1)).match(eq(stepAsString), anyString(), any(StepMonitor.class));
+    }
+
+    @Test
+    public void shouldReportMatchingToTheMonitorOfEachStoryPlannedConcurrently() throws Exception {
+        // Given candidates shared by two stories
+        final List<CandidateSteps> steps = mockCandidateSteps(new StorySteps().listCandidates().toArray(
+                new StepCandidate[0]));
+        final CountDownLatch ready = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When the stories are planned concurrently
+        List<Future<RecordingStepMonitor>> futures = new ArrayList<>();
+        for (final String story : asList("A", "B")) {
+            futures.add(executor.submit(new Callable<RecordingStepMonitor>() {
+                public RecordingStepMonitor call() throws Exception {
+                    List<String> stepsAsStrings = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        stepsAsStrings.add("Given story " + story + " step " + i);
+                    }
+                    RecordingStepMonitor stepMonitor = new RecordingStepMonitor();
+                    ready.countDown();
+                    ready.await();
+                    for (Step step : stepCollector.collectScenarioSteps(steps,
+                            new Scenario(stepsAsStrings), parameters, stepMonitor)) {
+                        step.perform(null);
+                    }
+                    return stepMonitor;
+                }
+            }));
+        }
+        executor.shutdown();
+
+        // Then each story is only reported to its own monitor
+        assertThat(futures.get(0).get().stories, equalTo(Collections.singleton("A")));
+        assertThat(futures.get(0).get().matchedSteps, equalTo(1000));
+        assertThat(futures.get(1).get().stories, equalTo(Collections.singleton("B")));
+        assertThat(futures.get(1).get().matchedSteps, equalTo(1000));
+    }
+
     @Test
     public void shouldCreateExecutableStepsOnlyFromPreviousNonAndStep() {
         // Given
@@ -67,13 +146,13 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         Step andStep = mock(Step.class);
 
         String myStep = "my step";
-        when(candidate.matches(myStep)).thenReturn(true);
-        when(candidate.createMatchedStep(myStep, parameters)).thenReturn(step);
+        when(candidate.match(eq(myStep), anyString(), any(StepMonitor.class))).thenReturn(matchOf(myStep));
+        when(candidate.createMatchedStep(eq(myStep), eq(matchOf(myStep)), eq(parameters), any(StepMonitor.class))).thenReturn(step);
         when(andCandidate.isAndStep(myStep)).thenReturn(false);
         String myAndStep = "my And step";
-        when(andCandidate.matches(myAndStep)).thenReturn(true);
+        when(andCandidate.match(eq(myAndStep), anyString(), any(StepMonitor.class))).thenReturn(matchOf(myAndStep));
         when(andCandidate.isAndStep(myAndStep)).thenReturn(true);
-        when(andCandidate.createMatchedStep(myAndStep, parameters)).thenReturn(andStep);
+        when(andCandidate.createMatchedStep(eq(myAndStep), eq(matchOf(myAndStep)), eq(parameters), any(StepMonitor.class))).thenReturn(andStep);
 
         List<CandidateSteps> steps = mockCandidateSteps(candidate, andCandidate);
 
@@ -96,17 +175,17 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         Step failureStep = mock(Step.class, "failureStep");
 
         String myAnyStep = "my any step";
-        when(anyCandidate.matches(myAnyStep)).thenReturn(true);
-        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, parameters, Outcome.ANY)).thenReturn(anyStep);
+        when(anyCandidate.match(eq(myAnyStep), anyString(), any(StepMonitor.class))).thenReturn(matchOf(myAnyStep));
+        when(anyCandidate.createMatchedStepUponOutcome(eq(myAnyStep), eq(matchOf(myAnyStep)), eq(parameters), eq(Outcome.ANY), any(StepMonitor.class))).thenReturn(anyStep);
         when(successCandidate.isAndStep(myAnyStep)).thenReturn(false);
         String mySuccessStep = "my success step";
-        when(successCandidate.matches(mySuccessStep)).thenReturn(true);
+        when(successCandidate.match(eq(mySuccessStep), anyString(), any(StepMonitor.class))).thenReturn(matchOf(mySuccessStep));
         when(successCandidate.isAndStep(mySuccessStep)).thenReturn(false);
-        when(successCandidate.createMatchedStepUponOutcome(mySuccessStep, parameters, Outcome.SUCCESS)).thenReturn(successStep);
+        when(successCandidate.createMatchedStepUponOutcome(eq(mySuccessStep), eq(matchOf(mySuccessStep)), eq(parameters), eq(Outcome.SUCCESS), any(StepMonitor.class))).thenReturn(successStep);
         String myFailureStep = "my failure step";
-        when(successCandidate.matches(myFailureStep)).thenReturn(true);
+        when(successCandidate.match(eq(myFailureStep), anyString(), any(StepMonitor.class))).thenReturn(matchOf(myFailureStep));
         when(successCandidate.isAndStep(myFailureStep)).thenReturn(false);
-        when(successCandidate.createMatchedStepUponOutcome(myFailureStep, parameters, Outcome.FAILURE)).thenReturn(failureStep);
+        when(successCandidate.createMatchedStepUponOutcome(eq(myFailureStep), eq(matchOf(myFailureStep)), eq(parameters), eq(Outcome.FAILURE), any(StepMonitor.class))).thenReturn(failureStep);
 
         List<CandidateSteps> steps = mockCandidateSteps(anyCandidate, successCandidate, failureCandidate);
 
@@ -136,17 +215,17 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         Step failureStep = mock(Step.class, "failureStep");
 
         String myAnyStep = "my any step";
-        when(anyCandidate.matches(myAnyStep)).thenReturn(true);
-        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, parameters, Outcome.ANY)).thenReturn(anyStep);
+        when(anyCandidate.match(eq(myAnyStep), anyString(), any(StepMonitor.class))).thenReturn(matchOf(myAnyStep));
+        when(anyCandidate.createMatchedStepUponOutcome(eq(myAnyStep), eq(matchOf(myAnyStep)), eq(parameters), eq(Outcome.ANY), any(StepMonitor.class))).thenReturn(anyStep);
         when(successCandidate.isAndStep(myAnyStep)).thenReturn(false);
         String mySuccessStep = "my success step";
-        when(successCandidate.matches(mySuccessStep)).thenReturn(true);
+        when(successCandidate.match(eq(mySuccessStep), anyString(), any(StepMonitor.class))).thenReturn(matchOf(mySuccessStep));
         when(successCandidate.isAndStep(mySuccessStep)).thenReturn(false);
-        when(successCandidate.createMatchedStepUponOutcome(mySuccessStep, parameters, Outcome.SUCCESS)).thenReturn(successStep);
+        when(successCandidate.createMatchedStepUponOutcome(eq(mySuccessStep), eq(matchOf(mySuccessStep)), eq(parameters), eq(Outcome.SUCCESS), any(StepMonitor.class))).thenReturn(successStep);
         String myFailureStep = "my failure step";
-        when(successCandidate.matches(myFailureStep)).thenReturn(true);
+        when(successCandidate.match(eq(myFailureStep), anyString(), any(StepMonitor.class))).thenReturn(matchOf(myFailureStep));
         when(successCandidate.isAndStep(myFailureStep)).thenReturn(false);
-        when(successCandidate.createMatchedStepUponOutcome(myFailureStep, parameters, Outcome.FAILURE)).thenReturn(failureStep);
+        when(successCandidate.createMatchedStepUponOutcome(eq(myFailureStep), eq(matchOf(myFailureStep)), eq(parameters), eq(Outcome.FAILURE), any(StepMonitor.class))).thenReturn(failureStep);
 
         List<CandidateSteps> steps = mockCandidateSteps(anyCandidate, successCandidate, failureCandidate);
 
@@ -176,9 +255,9 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         List<CandidateSteps> steps = mockCandidateSteps(compositeCandidate, composedCandidate1, composedCandidate2);
         String compositeStepAsString = "my composite step";
-        when(compositeCandidate.matches(compositeStepAsString)).thenReturn(true);
+        when(compositeCandidate.match(eq(compositeStepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(compositeStepAsString));
         when(compositeCandidate.isComposite()).thenReturn(true);
-        when(compositeCandidate.createMatchedStep(compositeStepAsString, parameters)).thenReturn(
+        when(compositeCandidate.createMatchedStep(eq(compositeStepAsString), eq(matchOf(compositeStepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(
                 executableCompositeStep);
 
         // When
@@ -186,8 +265,9 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         // Then
         verify(compositeCandidate, times(1)).
-                addComposedSteps(new ArrayList<Step>(), compositeStepAsString, parameters,
-                        asList(compositeCandidate, composedCandidate1, composedCandidate2));
+                addComposedSteps(eq(new ArrayList<Step>()), eq(compositeStepAsString), eq(parameters),
+                        eq(asList(compositeCandidate, composedCandidate1, composedCandidate2)),
+                        any(StepMonitor.class));
     }
 
     @Test
@@ -219,16 +299,16 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         String whenPendingStep = "When yet another pending step";
         String andWhenPendingStep = "And a when pending step";
         StepCandidate firstCandidate = mock(StepCandidate.class, "firstCandidate");
-        when(firstCandidate.matches(givenPendingStep)).thenReturn(false);
+        when(firstCandidate.match(eq(givenPendingStep), anyString(), any(StepMonitor.class))).thenReturn(null);
         when(firstCandidate.isAndStep(givenPendingStep)).thenReturn(false);
         StepCandidate secondCandidate = mock(StepCandidate.class, "secondCandidate");
-        when(secondCandidate.matches(andGivenPendingStep)).thenReturn(false);
+        when(secondCandidate.match(eq(andGivenPendingStep), anyString(), any(StepMonitor.class))).thenReturn(null);
         when(secondCandidate.isAndStep(andGivenPendingStep)).thenReturn(true);
         StepCandidate thirdCandidate = mock(StepCandidate.class, "thirdCandidate");
-        when(thirdCandidate.matches(whenPendingStep)).thenReturn(false);
+        when(thirdCandidate.match(eq(whenPendingStep), anyString(), any(StepMonitor.class))).thenReturn(null);
         when(thirdCandidate.isAndStep(whenPendingStep)).thenReturn(false);
         StepCandidate fourthCandidate = mock(StepCandidate.class, "fourthCandidate");
-        when(fourthCandidate.matches(andWhenPendingStep)).thenReturn(false);
+        when(fourthCandidate.match(eq(andWhenPendingStep), anyString(), any(StepMonitor.class))).thenReturn(null);
         when(fourthCandidate.isAndStep(andWhenPendingStep)).thenReturn(true);
         List<CandidateSteps> steps = mockCandidateSteps(firstCandidate, secondCandidate, thirdCandidate, fourthCandidate);
 
@@ -429,18 +509,18 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         // all matching the same step string with different priorities
         String stepAsString = "Given a step";
-        when(candidate1.matches(stepAsString)).thenReturn(true);
-        when(candidate2.matches(stepAsString)).thenReturn(true);
-        when(candidate3.matches(stepAsString)).thenReturn(true);
-        when(candidate4.matches(stepAsString)).thenReturn(true);
+        when(candidate1.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
+        when(candidate2.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
+        when(candidate3.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
+        when(candidate4.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
         when(candidate1.getPriority()).thenReturn(1);
         when(candidate2.getPriority()).thenReturn(2);
         when(candidate3.getPriority()).thenReturn(3);
         when(candidate4.getPriority()).thenReturn(4);
-        when(candidate1.createMatchedStep(stepAsString, parameters)).thenReturn(step1);
-        when(candidate2.createMatchedStep(stepAsString, parameters)).thenReturn(step2);
-        when(candidate3.createMatchedStep(stepAsString, parameters)).thenReturn(step3);
-        when(candidate4.createMatchedStep(stepAsString, parameters)).thenReturn(step4);
+        when(candidate1.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(step1);
+        when(candidate2.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(step2);
+        when(candidate3.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(step3);
+        when(candidate4.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(step4);
 
         // When we collect the list of steps
         List<Step> steps = stepCollector.collectScenarioSteps(asList(steps1, steps2), createScenario(stepAsString), parameters);
@@ -469,18 +549,18 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         // all matching the same step string with different priorities
         String stepAsString = "Given a step";
-        when(candidate1.matches(stepAsString)).thenReturn(true);
-        when(candidate2.matches(stepAsString)).thenReturn(true);
-        when(candidate3.matches(stepAsString)).thenReturn(true);
-        when(candidate4.matches(stepAsString)).thenReturn(true);
+        when(candidate1.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
+        when(candidate2.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
+        when(candidate3.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
+        when(candidate4.match(eq(stepAsString), anyString(), any(StepMonitor.class))).thenReturn(matchOf(stepAsString));
         when(candidate1.getPatternAsString()).thenReturn("Given I do something");
         when(candidate2.getPatternAsString()).thenReturn("When I do something ");
         when(candidate3.getPatternAsString()).thenReturn("Then I do something");
         when(candidate4.getPatternAsString()).thenReturn("And I do something");
-        when(candidate1.createMatchedStep(stepAsString, parameters)).thenReturn(step1);
-        when(candidate2.createMatchedStep(stepAsString, parameters)).thenReturn(step2);
-        when(candidate3.createMatchedStep(stepAsString, parameters)).thenReturn(step3);
-        when(candidate4.createMatchedStep(stepAsString, parameters)).thenReturn(step4);
+        when(candidate1.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(step1);
+        when(candidate2.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(step2);
+        when(candidate3.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(step3);
+        when(candidate4.createMatchedStep(eq(stepAsString), eq(matchOf(stepAsString)), eq(parameters), any(StepMonitor.class))).thenReturn(step4);
 
         StepCollector stepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(new ByLevenshteinDistance()));
         List<Step> steps = stepCollector.collectScenarioSteps(asList(steps1, steps2), createScenario(stepAsString), parameters);
@@ -604,6 +684,15 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
     }
 
 
+    private StepPatternMatch matchOf(String stepAsString) {
+        StepPatternMatch match = matches.get(stepAsString);
+        if (match == null) {
+            match = new StepPatternMatch(stepAsString, new String[0]);
+            matches.put(stepAsString, match);
+        }
+        return match;
+    }
+
     private Scenario createScenario(String... stepsAsStrings) {
         return new Scenario(asList(stepsAsStrings));
     }
@@ -615,6 +704,40 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         return new Meta(properties);
     }
 
+    public static class StorySteps extends Steps {
+        @Given("story $story step $step")
+        public void step(String story, int step) {
+        }
+    }
+
+    private static class RecordingStepMonitor extends NullStepMonitor {
+        private final Set<String> stories = new HashSet<>();
+        private int matchedSteps;
+
+        @Override
+        public void stepMatchesType(String stepAsString, String previousAsString, boolean matchesType,
+                StepType stepType, Method method, Object stepsInstance) {
+            // gives way to the other story between matching the type and the pattern
+            Thread.yield();
+        }
+
+        @Override
+        public void stepMatchesPattern(String step, boolean matches, StepPattern stepPattern, Method method,
+                Object stepsInstance) {
+            if (matches) {
+                stories.add(step.replaceAll(".*story (\\w+) step.*", "$1"));
+                matchedSteps++;
+            }
+        }
+
+        @Override
+        public void foundParameter(String parameter, int position) {
+            if (position == 0) {
+                stories.add(parameter);
+            }
+        }
+    }
+
     public static class ClassWithMethodsAandB extends Steps {
         @BeforeScenario
         public void a() {
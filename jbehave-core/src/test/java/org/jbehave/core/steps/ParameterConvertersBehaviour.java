@@ -4,6 +4,9 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.beans.IntrospectionException;
@@ -504,6 +507,32 @@ public class ParameterConvertersBehaviour {
         assertThat((Bar)parameterConverters.convert("foo", Bar.class), is(Bar.INSTANCE));
     }
 
+    @Test
+    public void shouldAskConvertersToAcceptTypeOnlyOnce() {
+        ParameterConverters parameterConverters = new ParameterConverters(new LoadFromClasspath());
+        ParameterConverter<?> converter = spy(new FooToBarParameterConverter());
+        parameterConverters.addConverters(converter);
+        parameterConverters.convert("foo", Bar.class);
+        parameterConverters.convert("foo", Bar.class);
+        parameterConverters.convert("42", Integer.class);
+        parameterConverters.convert("42", Integer.class);
+        verify(converter, times(1)).accept(Bar.class);
+        verify(converter, times(1)).accept(Integer.class);
+    }
+
+    @Test
+    public void shouldUseConverterAddedAfterTypeWasConverted() {
+        ParameterConverters parameterConverters = new ParameterConverters(new LoadFromClasspath());
+        assertThat((String) parameterConverters.convert("foo", String.class), equalTo("foo"));
+        parameterConverters.addConverters(new AbstractParameterConverter<String>() {
+            @Override
+            public String convertValue(String value, Type type) {
+                return value.toUpperCase();
+            }
+        });
+        assertThat((String) parameterConverters.convert("foo", String.class), equalTo("FOO"));
+    }
+
     @Test
     public void shouldConvertToListOfCustomObjectsUsingCustomConverter() {
         ParameterConverters parameterConverters = new ParameterConverters(new LoadFromClasspath());
@@ -772,7 +801,7 @@ public class ParameterConvertersBehaviour {
     static class WrongType {
     }
 
-    static class Bar implements Comparable<Bar> {
+    public static class Bar implements Comparable<Bar> {
 
         private static Bar INSTANCE = new Bar();
 
@@ -787,7 +816,7 @@ public class ParameterConvertersBehaviour {
         }
     }
 
-    private class FooToBarParameterConverter extends AbstractParameterConverter<Bar> {
+    public static class FooToBarParameterConverter extends AbstractParameterConverter<Bar> {
         @Override
         public Bar convertValue(String value, Type type) {
             return new Bar();
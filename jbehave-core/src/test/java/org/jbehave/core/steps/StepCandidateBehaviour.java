@@ -18,6 +18,10 @@ import org.jbehave.core.model.OutcomesTable;
 import org.jbehave.core.model.OutcomesTable.OutcomesFailed;
 import org.jbehave.core.model.TableTransformers;
 import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.StepMatcher;
+import org.jbehave.core.parsers.StepPatternMatch;
+import org.jbehave.core.parsers.StepPatternMatcher;
+import org.jbehave.core.parsers.StepPatternParser;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult.NotPerformed;
 import org.jbehave.core.steps.context.StepsContext;
@@ -38,7 +42,11 @@ import static org.hamcrest.Matchers.*;
 import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_END;
 import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
 import static org.jbehave.core.steps.StepType.*;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class StepCandidateBehaviour {
@@ -104,6 +112,30 @@ public class StepCandidateBehaviour {
         assertThat(((String)args), equalTo(""));
     }
 
+    @Test
+    public void shouldCreateMatchedStepWithoutMatchingStepAgain() throws Exception {
+        Method method = SomeSteps.class.getMethod("aMethodWith", String.class);
+        SomeSteps someSteps = new SomeSteps();
+        final StepPatternMatcher stepMatcher = spy((StepPatternMatcher) new RegexPrefixCapturingPatternParser()
+                .parseStep(WHEN, "windows on the $nth floor"));
+        StepPatternParser stepPatternParser = new StepPatternParser() {
+            public StepMatcher parseStep(StepType stepType, String stepPattern) {
+                return stepMatcher;
+            }
+        };
+        MostUsefulConfiguration configuration = new MostUsefulConfiguration();
+        StepCandidate candidate = new StepCandidate("windows on the $nth floor", 0, WHEN, method,
+                SomeSteps.class, new InstanceStepsFactory(configuration, someSteps), new StepsContext(), keywords,
+                stepPatternParser, configuration.parameterConverters(), new ParameterControls());
+        String stepAsString = "When windows on the 1st floor";
+        StepPatternMatch stepMatch = candidate.match(stepAsString, null, configuration.stepMonitor());
+        assertThat(stepMatch.matched(), is(true));
+        candidate.createMatchedStep(stepAsString, stepMatch, namedParameters, configuration.stepMonitor()).perform(null);
+        assertThat((String) someSteps.args, equalTo("1st"));
+        verify(stepMatcher, times(1)).match("windows on the 1st floor");
+        verify(stepMatcher, never()).findMatch(anyString());
+    }
+
     @Test
     public void shouldIgnoreStep() throws Exception {
         Method method = SomeSteps.class.getMethod("aMethod");
@@ -0,0 +1,158 @@
+package org.jbehave.core.steps;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.jbehave.core.annotations.Alias;
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.model.Scenario;
+import org.junit.Test;
+
+public class StepCandidateIndexBehaviour {
+
+    private Configuration configuration = new MostUsefulConfiguration();
+    private Keywords keywords = configuration.keywords();
+
+    @Test
+    public void shouldReturnMatchingCandidatesInSameOrderAsPrioritisingAllCandidates() {
+        List<StepCandidate> candidates = candidates();
+        StepCandidateIndex index = new StepCandidateIndex(keywords, candidates);
+        StepFinder finder = new StepFinder();
+
+        for (String step : asList("Given a customer named Bob", "Given a customer", "Given Bob is a customer",
+                "When a customer named Bob buys 3 items", "When Bob buys 3 items", "When Bob buys an item",
+                "Then the basket has 3 items", "Then the basket is empty", "Then  the basket is empty",
+                "Given 3 customers", "Given the shop is open", "Given the shop is open for business",
+                "Given the shop.is open", "Then a customer named Bob", "Unknown step")) {
+            List<StepCandidate> indexed = index.prioritise(step);
+            assertThat(step, matching(indexed, step), equalTo(matching(finder.prioritise(step,
+                    new ArrayList<>(candidates)), step)));
+        }
+    }
+
+    @Test
+    public void shouldReturnOnlyCandidatesOfStepTypeAndFirstWord() {
+        StepCandidateIndex index = new StepCandidateIndex(keywords, candidates());
+
+        List<StepCandidate> prioritised = index.prioritise("When Bob buys 3 items");
+        assertThat(prioritised.size(), lessThan(index.size()));
+        for (StepCandidate candidate : prioritised) {
+            assertThat(candidate.getStepType(), equalTo(StepType.WHEN));
+        }
+        assertThat(index.prioritise("Then the basket is empty").size(), equalTo(2));
+    }
+
+    @Test
+    public void shouldReturnAllCandidatesForIgnorableSteps() {
+        StepCandidateIndex index = new StepCandidateIndex(keywords, candidates());
+
+        assertThat(index.prioritise("!-- Given a customer named Bob").size(), equalTo(index.size()));
+        assertThat(index.prioritise("!-- a comment").size(), equalTo(index.size()));
+    }
+
+    @Test
+    public void shouldCollectSameStepsAsDefaultStepFinder() {
+        InjectableStepsFactory stepsFactory = new InstanceStepsFactory(configuration, new ShopSteps());
+        CandidateStepsRegistry registry = new CandidateStepsRegistry(stepsFactory);
+        Scenario scenario = new Scenario(asList("Given a customer named Bob", "And the shop is open",
+                "When Bob buys 3 items", "And a customer named Bob buys 3 items", "Then the basket has 3 items",
+                "!-- Then the basket is empty", "!-- a comment", "Then an unknown step"));
+
+        List<Step> expected = new MarkUnmatchedStepsAsPending(new StepFinder(), keywords).collectScenarioSteps(
+                registry, scenario, new HashMap<String, String>());
+        List<Step> actual = new MarkUnmatchedStepsAsPending(new IndexedStepFinder(keywords), keywords)
+                .collectScenarioSteps(registry, scenario, new HashMap<String, String>());
+
+        assertThat(asStrings(actual), equalTo(asStrings(expected)));
+    }
+
+    @Test
+    public void shouldReuseIndexForSameRegistry() {
+        InjectableStepsFactory stepsFactory = new InstanceStepsFactory(configuration, new ShopSteps());
+        CandidateStepsRegistry registry = new CandidateStepsRegistry(stepsFactory);
+        IndexedStepFinder finder = new IndexedStepFinder(keywords);
+
+        assertThat(finder.collectCandidates(registry), sameInstance(finder.collectCandidates(registry)));
+    }
+
+    private List<StepCandidate> candidates() {
+        InjectableStepsFactory stepsFactory = new InstanceStepsFactory(configuration, new ShopSteps());
+        return new StepFinder().collectCandidates(stepsFactory.createCandidateSteps());
+    }
+
+    private List<String> matching(List<StepCandidate> candidates, String step) {
+        List<String> matching = new ArrayList<>();
+        for (StepCandidate candidate : candidates) {
+            if (candidate.matches(step)) {
+                matching.add(candidate.toString());
+            }
+        }
+        return matching;
+    }
+
+    private List<String> asStrings(List<Step> steps) {
+        List<String> strings = new ArrayList<>();
+        for (Step step : steps) {
+            strings.add(step.getClass().getSimpleName() + ":" + step.asString(keywords));
+        }
+        return strings;
+    }
+
+    public static class ShopSteps {
+
+        @Given("a customer named $name")
+        @Alias("$name is a customer")
+        public void customer(String name) {
+        }
+
+        @Given(value = "a customer", priority = 1)
+        public void anonymousCustomer() {
+        }
+
+        @Given("$count customers")
+        public void customers(int count) {
+        }
+
+        @Given("the shop is open")
+        public void shopIsOpen() {
+        }
+
+        @Given("the shop is open for $what")
+        public void shopIsOpenFor(String what) {
+        }
+
+        @When("$name buys $count items")
+        public void buys(String name, int count) {
+        }
+
+        @When(value = "a customer named $name buys $count items", priority = 2)
+        public void customerBuys(String name, int count) {
+        }
+
+        @When("Bob buys an item")
+        public void bobBuys() {
+        }
+
+        @Then("the basket has $count items")
+        public void basketHas(int count) {
+        }
+
+        @Then("the basket is empty")
+        public void basketIsEmpty() {
+        }
+
+    }
+
+}
@@ -9,6 +9,7 @@ import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +32,8 @@ import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.TableTransformers;
 import org.jbehave.core.parsers.RegexStepMatcher;
 import org.jbehave.core.parsers.StepMatcher;
+import org.jbehave.core.parsers.StepPatternMatch;
+import org.jbehave.core.parsers.StepPatternMatcher;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult.Comment;
 import org.jbehave.core.steps.AbstractStepResult.Failed;
@@ -50,6 +53,7 @@ import org.mockito.Matchers;
 
 import com.thoughtworks.paranamer.BytecodeReadingParanamer;
 import com.thoughtworks.paranamer.CachingParanamer;
+import com.thoughtworks.paranamer.Paranamer;
 
 public class StepCreatorBehaviour {
 
@@ -149,8 +153,7 @@ public class StepCreatorBehaviour {
                 configuration.parameterConverters(), new ParameterControls(), stepMatcher, new SilentStepMonitor());
 
         // When
-        when(stepMatcher.parameterNames()).thenReturn(new String[] {});
-        stepCreator.matchedParameter("unknown");
+        stepCreator.matchedParameter(new StepPatternMatch("", new String[] {}), "unknown");
 
         // Then .. fail as expected
     }
@@ -229,16 +232,17 @@ public class StepCreatorBehaviour {
             String secondParameterValue) throws IntrospectionException {
         // Given
         SomeSteps stepsInstance = new SomeSteps();
-        StepMatcher stepMatcher = mock(StepMatcher.class);
+        StepPatternMatcher stepMatcher = mock(StepPatternMatcher.class);
         StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, new ParameterControls().useDelimiterNamedParameters(false));
         Map<String, String> parameters = new HashMap<>();
         parameters.put("theme", firstParameterValue);
         parameters.put("variant", secondParameterValue);
 
         // When
-        when(stepMatcher.parameterNames()).thenReturn(parameters.keySet().toArray(new String[parameters.size()]));
-        when(stepMatcher.parameter(1)).thenReturn(parameters.get(firstParameterValue));
-        when(stepMatcher.parameter(2)).thenReturn(parameters.get(secondParameterValue));
+        when(stepMatcher.findMatch("I use parameters <theme> and <variant>")).thenReturn(
+                new StepPatternMatch("I use parameters <theme> and <variant>", parameters.keySet().toArray(
+                        new String[parameters.size()]), parameters.get(firstParameterValue),
+                        parameters.get(secondParameterValue)));
         StepResult stepResult = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithANamedParameter"),
                 "When I use parameters <theme> and <variant>", "I use parameters <theme> and <variant>", parameters)
                 .perform(null);
@@ -293,6 +297,37 @@ public class StepCreatorBehaviour {
         assertThat((String) stepsInstance.args, is("shopping cart"));
     }
 
+    @Test
+    public void shouldLookUpParameterNamesOfStepMethodOnlyOnceForParanamerUsed() throws Exception {
+        // Given
+        SomeSteps stepsInstance = new SomeSteps();
+        StepCreator stepCreator = stepCreatorUsing(stepsInstance, mock(StepMatcher.class), new ParameterControls());
+        Method method = SomeSteps.methodFor("aMethodWithoutNamedAnnotation");
+        Paranamer paranamer = mock(Paranamer.class);
+        when(paranamer.lookupParameterNames(method, false)).thenReturn(new String[] { "theme" });
+        stepCreator.useParanamer(paranamer);
+        Properties properties = new Properties();
+        properties.put("theme", "shopping cart");
+
+        // When
+        stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null);
+        StepResult stepResult = stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null);
+
+        // Then
+        assertThat(stepResult, instanceOf(Silent.class));
+        assertThat((String) stepsInstance.args, is("shopping cart"));
+        verify(paranamer, times(1)).lookupParameterNames(method, false);
+
+        // When
+        Paranamer otherParanamer = mock(Paranamer.class);
+        when(otherParanamer.lookupParameterNames(method, false)).thenReturn(new String[] { "theme" });
+        stepCreator.useParanamer(otherParanamer);
+        stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null);
+
+        // Then
+        verify(otherParanamer, times(1)).lookupParameterNames(method, false);
+    }
+
     @Test
     public void shouldHandleFailureInBeforeOrAfterStepWithMeta() throws Exception {
         // Given
@@ -468,6 +503,31 @@ public class StepCreatorBehaviour {
     @Test
     public void shouldMatchParametersByDelimitedNameWithNoNamedAnnotations() throws Exception {
 
+        // Given
+        SomeSteps stepsInstance = new SomeSteps();
+        parameterConverters = new ParameterConverters(new LoadFromClasspath(), new TableTransformers());
+        StepPatternMatcher stepMatcher = mock(StepPatternMatcher.class);
+        ParameterControls parameterControls = new ParameterControls().useDelimiterNamedParameters(true);
+        StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, parameterControls);
+        Map<String, String> params = Collections.singletonMap("param", "value");
+        when(stepMatcher.findMatch("a parameter <param> is set")).thenReturn(
+                new StepPatternMatch("a parameter <param> is set", params.keySet().toArray(new String[params.size()]),
+                        "<param>"));
+
+        // When
+        Step step = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithoutNamedAnnotation"),
+                "When a parameter <param> is set", "a parameter <param> is set", params);
+        step.perform(null);
+
+        // Then
+        assertThat((String) stepsInstance.args, equalTo("value"));
+
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void shouldMatchParametersOfStepMatcherNotReturningPatternMatches() throws Exception {
+
         // Given
         SomeSteps stepsInstance = new SomeSteps();
         parameterConverters = new ParameterConverters(new LoadFromClasspath(), new TableTransformers());
@@ -475,6 +535,7 @@ public class StepCreatorBehaviour {
         ParameterControls parameterControls = new ParameterControls().useDelimiterNamedParameters(true);
         StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, parameterControls);
         Map<String, String> params = Collections.singletonMap("param", "value");
+        when(stepMatcher.find("a parameter <param> is set")).thenReturn(true);
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
         when(stepMatcher.parameter(1)).thenReturn("<param>");
 
@@ -495,15 +556,15 @@ public class StepCreatorBehaviour {
         // Given
         SomeSteps stepsInstance = new SomeSteps();
         parameterConverters = new ParameterConverters(new LoadFromClasspath(), new TableTransformers());
-        StepMatcher stepMatcher = mock(StepMatcher.class);
+        StepPatternMatcher stepMatcher = mock(StepPatternMatcher.class);
         ParameterControls parameterControls = new ParameterControls().useDelimiterNamedParameters(true);
         StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, parameterControls);
         Map<String, String> params = new HashMap<>();
         params.put("t", "distinct theme");
         params.put("v", "distinct variant");
-        when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
-        when(stepMatcher.parameter(1)).thenReturn("<t>");
-        when(stepMatcher.parameter(2)).thenReturn("<v>");
+        when(stepMatcher.findMatch("I use parameters <t> and <v>")).thenReturn(
+                new StepPatternMatch("I use parameters <t> and <v>", params.keySet().toArray(new String[params.size()]),
+                        "<t>", "<v>"));
 
         // When
         Step step = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithANamedParameter"),
@@ -525,15 +586,15 @@ public class StepCreatorBehaviour {
         // Given
         SomeSteps stepsInstance = new SomeSteps();
         parameterConverters = new ParameterConverters(new LoadFromClasspath(), new TableTransformers());
-        StepMatcher stepMatcher = mock(StepMatcher.class);
+        StepPatternMatcher stepMatcher = mock(StepPatternMatcher.class);
         ParameterControls parameterControls = new ParameterControls().useDelimiterNamedParameters(false);
         StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, parameterControls);
         Map<String, String> params = new HashMap<>();
         params.put("theme", "a theme");
         params.put("variant", "a variant");
-        when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
-        when(stepMatcher.parameter(1)).thenReturn("<t>");
-        when(stepMatcher.parameter(2)).thenReturn("<v>");
+        when(stepMatcher.findMatch("I use parameters <t> and <v>")).thenReturn(
+                new StepPatternMatch("I use parameters <t> and <v>", params.keySet().toArray(new String[params.size()]),
+                        "<t>", "<v>"));
 
         // When
         Step step = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithANamedParameter"),